@@ -0,0 +1,67 @@
+package com.inqool.tennisclub.benchmark;
+
+import com.inqool.tennisclub.data.model.CustomerEntity;
+import com.inqool.tennisclub.data.repository.impl.EntityMetadata;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-call overhead of the id lookup done by BaseRepositoryImpl.save and the soft delete flag
+ * update done by delete: field lookup by reflection on every call (the previous implementation)
+ * against the VarHandles resolved once in {@link EntityMetadata}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityAccessBenchmark {
+
+    private final EntityMetadata<CustomerEntity, Long> metadata = EntityMetadata.of(CustomerEntity.class);
+
+    private final CustomerEntity customer = customer();
+
+    @Benchmark
+    public Object saveIdLookupReflection() throws ReflectiveOperationException {
+        Field idField = CustomerEntity.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        return idField.get(customer);
+    }
+
+    @Benchmark
+    public Object saveIdLookupMetadata() {
+        return metadata.getId(customer);
+    }
+
+    @Benchmark
+    public CustomerEntity deleteFlagReflection() throws ReflectiveOperationException {
+        Field activeField = CustomerEntity.class.getDeclaredField("active");
+        activeField.setAccessible(true);
+        activeField.set(customer, false);
+        return customer;
+    }
+
+    @Benchmark
+    public CustomerEntity deleteFlagMetadata() {
+        metadata.setActive(customer, false);
+        return customer;
+    }
+
+    private static CustomerEntity customer() {
+        CustomerEntity customer = new CustomerEntity();
+        customer.setId(1L);
+        customer.setPhoneNumber("+420777123456");
+        customer.setName("Jan Novák");
+        return customer;
+    }
+}
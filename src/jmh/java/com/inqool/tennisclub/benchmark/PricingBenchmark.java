@@ -0,0 +1,102 @@
+package com.inqool.tennisclub.benchmark;
+
+import com.inqool.tennisclub.data.model.enums.GameType;
+import com.inqool.tennisclub.service.pricing.PricingEngine;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of pricing a page of reservations with the BigDecimal arithmetic ReservationService used
+ * before ({@code bigDecimal}) and with {@link PricingEngine}, alone ({@code pricingEngine}) and
+ * with the conversion to BigDecimal done when the DTO is mapped ({@code pricingEngineToAmount}).
+ * Run with {@code -prof gc} to compare allocation rates.
+ * <p>
+ * The trial setup checks that both produce equal BigDecimals - same unscaled value and scale -
+ * for every priced reservation and fails the benchmark otherwise.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricingBenchmark {
+
+    private static final String[] SURFACE_COSTS = {"0.15", "0.20", "0.35", "0.50", "1.25", "0.07"};
+
+    @Param({"1000"})
+    public int reservations;
+
+    private final PricingEngine pricingEngine = new PricingEngine();
+
+    private BigDecimal[] costs;
+    private GameType[] gameTypes;
+    private long[] minutes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(7);
+        costs = new BigDecimal[reservations];
+        gameTypes = new GameType[reservations];
+        minutes = new long[reservations];
+        for (int i = 0; i < reservations; i++) {
+            costs[i] = new BigDecimal(SURFACE_COSTS[random.nextInt(SURFACE_COSTS.length)]);
+            gameTypes[i] = random.nextBoolean() ? GameType.SINGLES : GameType.DOUBLES;
+            minutes[i] = 15 + random.nextInt(240);
+        }
+
+        for (int i = 0; i < reservations; i++) {
+            BigDecimal expected = bigDecimalPrice(costs[i], gameTypes[i], minutes[i]);
+            BigDecimal actual = PricingEngine.toAmount(pricingEngine.priceInCents(costs[i], gameTypes[i], minutes[i]));
+            if (!expected.equals(actual)) {
+                throw new IllegalStateException("Price mismatch for " + costs[i] + " x " + minutes[i] + " min "
+                        + gameTypes[i] + ": expected " + expected + ", got " + actual);
+            }
+        }
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        for (int i = 0; i < reservations; i++) {
+            blackhole.consume(bigDecimalPrice(costs[i], gameTypes[i], minutes[i]));
+        }
+    }
+
+    @Benchmark
+    public void pricingEngine(Blackhole blackhole) {
+        for (int i = 0; i < reservations; i++) {
+            blackhole.consume(pricingEngine.priceInCents(costs[i], gameTypes[i], minutes[i]));
+        }
+    }
+
+    @Benchmark
+    public void pricingEngineToAmount(Blackhole blackhole) {
+        for (int i = 0; i < reservations; i++) {
+            blackhole.consume(PricingEngine.toAmount(pricingEngine.priceInCents(costs[i], gameTypes[i], minutes[i])));
+        }
+    }
+
+    /**
+     * ReservationService.calculateTotalPrice before the pricing engine
+     */
+    private static BigDecimal bigDecimalPrice(BigDecimal costPerMinute, GameType gameType, long minutes) {
+        BigDecimal baseCost = costPerMinute.multiply(BigDecimal.valueOf(minutes));
+        BigDecimal multiplier = gameType.getPriceMultiplier();
+        return baseCost.multiply(multiplier).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,182 @@
+package com.inqool.tennisclub.benchmark;
+
+import com.inqool.tennisclub.TennisClubApplication;
+import com.inqool.tennisclub.data.model.CourtEntity;
+import com.inqool.tennisclub.data.model.CourtSurfaceEntity;
+import com.inqool.tennisclub.data.model.CustomerEntity;
+import com.inqool.tennisclub.data.model.ReservationEntity;
+import com.inqool.tennisclub.data.model.enums.GameType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Time to persist 100k reservations through Hibernate, with JDBC batching disabled
+ * ({@code batchSize=1}) and with the batch size configured in application.yml.
+ * <p>
+ * The application context is started on an in-memory H2 database with the Liquibase schema,
+ * ids come from the pooled sequences. Reservations are persisted in transactions of
+ * {@code transactionSize} rows, the persistence context is flushed and cleared every
+ * {@code batchSize} rows as a bulk import would do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ReservationInsertBenchmark {
+
+    private static final BigDecimal COST_PER_MINUTE = new BigDecimal("0.20");
+
+    private static final BigDecimal SINGLES_PRICE = new BigDecimal("12.00");
+
+    private static final BigDecimal DOUBLES_PRICE = new BigDecimal("18.00");
+
+    @Param({"100000"})
+    public int reservations;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    @Param({"1000"})
+    public int transactionSize;
+
+    @Param({"100"})
+    public int courts;
+
+    @Param({"1000"})
+    public int customers;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private Long[] courtIds;
+    private Long[] customerIds;
+    private OffsetDateTime origin;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TennisClubApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.profiles.active=benchmark",
+                        "spring.datasource.url=jdbc:h2:mem:insert_bench_" + batchSize + ";MODE=PostgreSQL",
+                        "spring.datasource.username=sa",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "logging.level.root=WARN")
+                .run();
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        origin = OffsetDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteReservations() {
+        inTransaction(entityManager -> entityManager.createQuery("DELETE FROM ReservationEntity").executeUpdate());
+    }
+
+    @Benchmark
+    public int insertReservations() {
+        int perCourt = reservations / courts;
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            int inserted = 0;
+            entityManager.getTransaction().begin();
+            for (int court = 0; court < courts; court++) {
+                for (int slot = 0; slot < perCourt; slot++) {
+                    entityManager.persist(reservation(entityManager, court, slot, inserted));
+                    inserted++;
+                    if (inserted % batchSize == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                    if (inserted % transactionSize == 0) {
+                        entityManager.getTransaction().commit();
+                        entityManager.getTransaction().begin();
+                    }
+                }
+            }
+            entityManager.getTransaction().commit();
+            return inserted;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private ReservationEntity reservation(EntityManager entityManager, int court, int slot, int sequence) {
+        OffsetDateTime start = origin.plusHours(slot);
+        ReservationEntity reservation = new ReservationEntity();
+        reservation.setCourt(entityManager.getReference(CourtEntity.class, courtIds[court]));
+        reservation.setCustomer(entityManager.getReference(CustomerEntity.class, customerIds[sequence % customers]));
+        reservation.setGameType(sequence % 2 == 0 ? GameType.SINGLES : GameType.DOUBLES);
+        reservation.setStartTime(start);
+        reservation.setEndTime(start.plusHours(1));
+        reservation.setCostPerMinute(COST_PER_MINUTE);
+        reservation.setTotalPrice(reservation.getGameType() == GameType.SINGLES ? SINGLES_PRICE : DOUBLES_PRICE);
+        return reservation;
+    }
+
+    private void seed() {
+        courtIds = new Long[courts];
+        customerIds = new Long[customers];
+        inTransaction(entityManager -> {
+            CourtSurfaceEntity surface = new CourtSurfaceEntity();
+            surface.setSurfaceName("Clay");
+            surface.setCostPerMinute(COST_PER_MINUTE);
+            entityManager.persist(surface);
+
+            for (int i = 0; i < courts; i++) {
+                CourtEntity court = new CourtEntity();
+                court.setCourtNumber(i + 1);
+                court.setCourtSurface(surface);
+                entityManager.persist(court);
+                courtIds[i] = court.getId();
+            }
+            for (int i = 0; i < customers; i++) {
+                CustomerEntity customer = new CustomerEntity();
+                customer.setPhoneNumber(String.format("+420%09d", i + 1));
+                customer.setName("Customer " + (i + 1));
+                entityManager.persist(customer);
+                customerIds[i] = customer.getId();
+            }
+            return null;
+        });
+    }
+
+    private <R> R inTransaction(Function<EntityManager, R> work) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            R result = work.apply(entityManager);
+            entityManager.getTransaction().commit();
+            return result;
+        } finally {
+            entityManager.close();
+        }
+    }
+}
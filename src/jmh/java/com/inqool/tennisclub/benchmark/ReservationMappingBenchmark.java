@@ -0,0 +1,164 @@
+package com.inqool.tennisclub.benchmark;
+
+import com.inqool.tennisclub.api.CreateReservationDto;
+import com.inqool.tennisclub.api.ReservationDto;
+import com.inqool.tennisclub.data.model.CourtEntity;
+import com.inqool.tennisclub.data.model.CourtSurfaceEntity;
+import com.inqool.tennisclub.data.model.CustomerEntity;
+import com.inqool.tennisclub.data.model.ReservationEntity;
+import com.inqool.tennisclub.data.model.enums.GameType;
+import com.inqool.tennisclub.mappers.ReservationMapper;
+import com.inqool.tennisclub.service.ReservationService;
+import com.inqool.tennisclub.service.pricing.PricingEngine;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CPU cost of the per-request work around a reservation that does not touch the database:
+ * price calculation, MapStruct mapping of one reservation and of a page of {@code pageSize}
+ * reservations, and bean validation of a valid and an invalid {@link CreateReservationDto}.
+ * <p>
+ * With {@code priced=true} the reservations carry the price stored at booking time, with
+ * {@code priced=false} the mapper calculates it as it does for reservations not saved yet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservationMappingBenchmark {
+
+    @Param({"100"})
+    public int pageSize;
+
+    @Param({"false", "true"})
+    public boolean priced;
+
+    private final ReservationMapper mapper = Mappers.getMapper(ReservationMapper.class);
+
+    // Only the pricing engine is needed to calculate prices
+    private final ReservationService reservationService =
+            new ReservationService(null, null, null, null, new PricingEngine(), null);
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private ReservationEntity reservation;
+    private List<ReservationEntity> page;
+    private CreateReservationDto validDto;
+    private CreateReservationDto invalidDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        CourtSurfaceEntity surface = new CourtSurfaceEntity();
+        surface.setId(1L);
+        surface.setSurfaceName("Clay");
+        surface.setCostPerMinute(new BigDecimal("0.20"));
+
+        CourtEntity court = new CourtEntity();
+        court.setId(1L);
+        court.setCourtNumber(1);
+        court.setCourtSurface(surface);
+
+        CustomerEntity customer = new CustomerEntity();
+        customer.setId(1L);
+        customer.setPhoneNumber("+420777123456");
+        customer.setName("Jan Novák");
+
+        OffsetDateTime origin = OffsetDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            page.add(reservation(i, court, customer, origin.plusHours(i)));
+        }
+        reservation = page.get(0);
+
+        validDto = CreateReservationDto.builder()
+                .phoneNumber("+420777123456")
+                .customerName("Jan Novák")
+                .gameType(GameType.DOUBLES)
+                .courtNumber(1)
+                .startTime(origin)
+                .endTime(origin.plusMinutes(90))
+                .build();
+        invalidDto = CreateReservationDto.builder()
+                .phoneNumber("not a number")
+                .customerName("")
+                .gameType(GameType.SINGLES)
+                .courtNumber(1)
+                .startTime(origin)
+                .endTime(origin.plusMinutes(10))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalPrice() {
+        return reservationService.calculateTotalPrice(reservation);
+    }
+
+    @Benchmark
+    public ReservationDto toDto() {
+        return mapper.toDto(reservation, reservationService);
+    }
+
+    @Benchmark
+    public List<ReservationDto> toDtoList() {
+        return mapper.toDtoList(page, reservationService);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateReservationDto>> validateValidDto() {
+        return validator.validate(validDto);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateReservationDto>> validateInvalidDto() {
+        return validator.validate(invalidDto);
+    }
+
+    private ReservationEntity reservation(int i, CourtEntity court, CustomerEntity customer, OffsetDateTime start) {
+        ReservationEntity reservation = new ReservationEntity();
+        reservation.setId((long) i + 1);
+        reservation.setCourt(court);
+        reservation.setCustomer(customer);
+        reservation.setGameType(i % 2 == 0 ? GameType.SINGLES : GameType.DOUBLES);
+        reservation.setStartTime(start);
+        reservation.setEndTime(start.plusMinutes(60 + 15 * (i % 4)));
+        reservation.setCreatedAt(start.minusDays(7));
+        reservation.setCostPerMinute(court.getCourtSurface().getCostPerMinute());
+        if (priced) {
+            reservation.setTotalPrice(reservationService.calculateTotalPrice(reservation));
+        }
+        return reservation;
+    }
+}
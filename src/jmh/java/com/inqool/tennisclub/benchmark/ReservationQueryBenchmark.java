@@ -0,0 +1,221 @@
+package com.inqool.tennisclub.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of the two hottest reservation queries on a large reservation table,
+ * with ({@code indexed=true}) and without the indexes from 003-reservation-indexes.yaml.
+ * <p>
+ * The schema is created by the application's Liquibase changelog on an in-memory H2 database,
+ * the SQL mirrors what Hibernate generates for isCourtAvailable and
+ * findFutureReservationsByCustomerPhoneNumber.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReservationQueryBenchmark {
+
+    private static final String[] BENCHMARKED_INDEXES = {
+        "idx_reservation_court_time",
+        "idx_reservation_court_created",
+        "idx_reservation_customer_start",
+        "idx_reservation_end_time"
+    };
+
+    private static final String IS_COURT_AVAILABLE = "SELECT COUNT(r.id) FROM reservation r "
+            + "WHERE r.court_id = ? AND r.active = TRUE "
+            + "AND NOT (r.end_time <= ? OR r.start_time >= ?)";
+
+    private static final String FIND_FUTURE_BY_PHONE = "SELECT r.id, r.court_id, r.start_time, r.end_time "
+            + "FROM reservation r JOIN customer c ON c.id = r.customer_id "
+            + "WHERE c.phone_number = ? AND r.start_time > ? AND r.active = TRUE";
+
+    // One hour at 0.20 per minute
+    private static final BigDecimal SINGLES_PRICE = new BigDecimal("12.00");
+
+    private static final BigDecimal DOUBLES_PRICE = new BigDecimal("18.00");
+
+    @Param({"1000000"})
+    public int reservations;
+
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    @Param({"200"})
+    public int courts;
+
+    @Param({"20000"})
+    public int customers;
+
+    private Connection connection;
+    private PreparedStatement isCourtAvailable;
+    private PreparedStatement findFutureByPhone;
+    private LocalDateTime origin;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:reservation_bench_" + indexed + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+
+        Database database =
+                DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(connection));
+        try (Liquibase liquibase = new Liquibase(
+                "db/changelog/db.changelog-master.yaml", new ClassLoaderResourceAccessor(), database)) {
+            liquibase.update(new Contexts(), new LabelExpression());
+        }
+
+        if (!indexed) {
+            try (Statement statement = connection.createStatement()) {
+                for (String index : BENCHMARKED_INDEXES) {
+                    statement.execute("DROP INDEX IF EXISTS " + index);
+                }
+            }
+        }
+
+        // Half of each court's slots lie in the past, half in the future
+        origin = LocalDateTime.now().minusHours(reservations / courts / 2).withNano(0);
+        seed();
+
+        isCourtAvailable = connection.prepareStatement(IS_COURT_AVAILABLE);
+        findFutureByPhone = connection.prepareStatement(FIND_FUTURE_BY_PHONE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long isCourtAvailable() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime start = origin.plusHours(random.nextInt(reservations / courts));
+
+        isCourtAvailable.setLong(1, 1 + random.nextInt(courts));
+        isCourtAvailable.setTimestamp(2, Timestamp.valueOf(start));
+        isCourtAvailable.setTimestamp(3, Timestamp.valueOf(start.plusMinutes(90)));
+        try (ResultSet resultSet = isCourtAvailable.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    @Benchmark
+    public int findFutureReservationsByCustomerPhoneNumber() throws SQLException {
+        findFutureByPhone.setString(1, phoneNumber(1 + ThreadLocalRandom.current().nextInt(customers)));
+        findFutureByPhone.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+        int rows = 0;
+        try (ResultSet resultSet = findFutureByPhone.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private void seed() throws SQLException {
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO court_surface (id, surface_name, cost_per_minute, active) "
+                    + "VALUES (1, 'Clay', 0.20, TRUE)");
+        }
+        try (PreparedStatement court =
+                connection.prepareStatement("INSERT INTO court (id, court_number, court_surface_id, active) "
+                        + "VALUES (?, ?, 1, TRUE)")) {
+            for (int i = 1; i <= courts; i++) {
+                court.setLong(1, i);
+                court.setInt(2, i);
+                court.addBatch();
+            }
+            court.executeBatch();
+        }
+        try (PreparedStatement customer = connection.prepareStatement(
+                "INSERT INTO customer (id, phone_number, name, active) VALUES (?, ?, ?, TRUE)")) {
+            for (int i = 1; i <= customers; i++) {
+                customer.setLong(1, i);
+                customer.setString(2, phoneNumber(i));
+                customer.setString(3, "Customer " + i);
+                customer.addBatch();
+                if (i % 1000 == 0) {
+                    customer.executeBatch();
+                }
+            }
+            customer.executeBatch();
+        }
+
+        // Consecutive one hour slots per court, ~10% soft deleted
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int perCourt = reservations / courts;
+        try (PreparedStatement reservation = connection.prepareStatement(
+                "INSERT INTO reservation (id, court_id, customer_id, start_time, end_time, created_at, "
+                        + "game_type, active, cost_per_minute, total_price) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0.20, ?)")) {
+            long id = 0;
+            for (int court = 1; court <= courts; court++) {
+                for (int slot = 0; slot < perCourt; slot++) {
+                    LocalDateTime start = origin.plusHours(slot);
+                    reservation.setLong(1, ++id);
+                    reservation.setLong(2, court);
+                    reservation.setLong(3, 1 + random.nextInt(customers));
+                    reservation.setTimestamp(4, Timestamp.valueOf(start));
+                    reservation.setTimestamp(5, Timestamp.valueOf(start.plusHours(1)));
+                    reservation.setTimestamp(6, Timestamp.valueOf(start.minusDays(7)));
+                    boolean singles = random.nextBoolean();
+                    reservation.setString(7, singles ? "SINGLES" : "DOUBLES");
+                    reservation.setBoolean(8, random.nextInt(10) != 0);
+                    reservation.setBigDecimal(9, singles ? SINGLES_PRICE : DOUBLES_PRICE);
+                    reservation.addBatch();
+                    if (id % 5000 == 0) {
+                        reservation.executeBatch();
+                    }
+                }
+            }
+            reservation.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private static String phoneNumber(int customer) {
+        return String.format("+420%09d", customer);
+    }
+}
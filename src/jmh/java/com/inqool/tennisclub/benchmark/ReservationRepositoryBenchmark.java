@@ -0,0 +1,179 @@
+package com.inqool.tennisclub.benchmark;
+
+import com.inqool.tennisclub.TennisClubApplication;
+import com.inqool.tennisclub.data.model.CourtEntity;
+import com.inqool.tennisclub.data.model.CourtSurfaceEntity;
+import com.inqool.tennisclub.data.model.CustomerEntity;
+import com.inqool.tennisclub.data.model.ReservationEntity;
+import com.inqool.tennisclub.data.repository.CourtRepository;
+import com.inqool.tennisclub.data.repository.CourtSurfaceRepository;
+import com.inqool.tennisclub.data.repository.CustomerRepository;
+import com.inqool.tennisclub.data.repository.ReservationRepository;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Latency of the repository calls on the booking path through the application's repositories -
+ * {@code BaseRepositoryImpl.save} of a new customer, {@code findById} of a reservation and
+ * {@code isCourtAvailable} - on reservation tables of {@code reservations} rows.
+ * <p>
+ * The application context is started on an in-memory H2 database with the Liquibase schema.
+ * Surface, courts and customers are saved through the repositories, reservations are inserted
+ * with plain JDBC batches: consecutive one hour slots per court, ~10% soft deleted. Every
+ * repository call runs in its own transaction, as it does when called outside a service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReservationRepositoryBenchmark {
+
+    private static final BigDecimal COST_PER_MINUTE = new BigDecimal("0.20");
+
+    private static final BigDecimal SINGLES_PRICE = new BigDecimal("12.00");
+
+    private static final BigDecimal DOUBLES_PRICE = new BigDecimal("18.00");
+
+    @Param({"10000", "100000", "1000000"})
+    public int reservations;
+
+    @Param({"100"})
+    public int courts;
+
+    @Param({"1000"})
+    public int customers;
+
+    private ConfigurableApplicationContext context;
+    private CustomerRepository customerRepository;
+    private ReservationRepository reservationRepository;
+    private Long[] courtIds;
+    private Long[] customerIds;
+    private OffsetDateTime origin;
+    private long savedCustomers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TennisClubApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.profiles.active=benchmark",
+                        "spring.datasource.url=jdbc:h2:mem:repository_bench_" + reservations + ";MODE=PostgreSQL",
+                        "spring.datasource.username=sa",
+                        "logging.level.root=WARN")
+                .run();
+        customerRepository = context.getBean(CustomerRepository.class);
+        reservationRepository = context.getBean(ReservationRepository.class);
+        origin = OffsetDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CustomerEntity save() {
+        CustomerEntity customer = new CustomerEntity();
+        customer.setPhoneNumber(String.format("+421%09d", ++savedCustomers));
+        customer.setName("Customer " + savedCustomers);
+        return customerRepository.save(customer);
+    }
+
+    @Benchmark
+    public Optional<ReservationEntity> findById() {
+        return reservationRepository.findById(1 + ThreadLocalRandom.current().nextLong(reservations));
+    }
+
+    @Benchmark
+    public boolean isCourtAvailable() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        OffsetDateTime start = origin.plusHours(random.nextInt(reservations / courts));
+        return reservationRepository.isCourtAvailable(
+                courtIds[random.nextInt(courts)], start, start.plusMinutes(90));
+    }
+
+    private void seed() {
+        CourtSurfaceEntity surface = new CourtSurfaceEntity();
+        surface.setSurfaceName("Clay");
+        surface.setCostPerMinute(COST_PER_MINUTE);
+        context.getBean(CourtSurfaceRepository.class).save(surface);
+
+        CourtRepository courtRepository = context.getBean(CourtRepository.class);
+        courtIds = new Long[courts];
+        for (int i = 0; i < courts; i++) {
+            CourtEntity court = new CourtEntity();
+            court.setCourtNumber(i + 1);
+            court.setCourtSurface(surface);
+            courtIds[i] = courtRepository.save(court).getId();
+        }
+        customerIds = new Long[customers];
+        for (int i = 0; i < customers; i++) {
+            CustomerEntity customer = new CustomerEntity();
+            customer.setPhoneNumber(String.format("+420%09d", i + 1));
+            customer.setName("Customer " + (i + 1));
+            customerIds[i] = customerRepository.save(customer).getId();
+        }
+
+        // Reservation ids 1..reservations, no reservation is saved through the sequence afterwards
+        LocalDateTime start = origin.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        int perCourt = reservations / courts;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        context.getBean(JdbcTemplate.class)
+                .execute(
+                        "INSERT INTO reservation (id, court_id, customer_id, start_time, end_time, created_at, "
+                                + "game_type, active, cost_per_minute, total_price) "
+                                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0.20, ?)",
+                        (PreparedStatement reservation) -> {
+                            long id = 0;
+                            for (int court = 0; court < courts; court++) {
+                                for (int slot = 0; slot < perCourt; slot++) {
+                                    LocalDateTime slotStart = start.plusHours(slot);
+                                    boolean singles = random.nextBoolean();
+                                    reservation.setLong(1, ++id);
+                                    reservation.setLong(2, courtIds[court]);
+                                    reservation.setLong(3, customerIds[random.nextInt(customers)]);
+                                    reservation.setTimestamp(4, Timestamp.valueOf(slotStart));
+                                    reservation.setTimestamp(5, Timestamp.valueOf(slotStart.plusHours(1)));
+                                    reservation.setTimestamp(6, Timestamp.valueOf(slotStart.minusDays(7)));
+                                    reservation.setString(7, singles ? "SINGLES" : "DOUBLES");
+                                    reservation.setBoolean(8, random.nextInt(10) != 0);
+                                    reservation.setBigDecimal(9, singles ? SINGLES_PRICE : DOUBLES_PRICE);
+                                    reservation.addBatch();
+                                    if (id % 5000 == 0) {
+                                        reservation.executeBatch();
+                                    }
+                                }
+                            }
+                            return reservation.executeBatch();
+                        });
+        context.getBean(JdbcTemplate.class).execute("ANALYZE");
+    }
+}
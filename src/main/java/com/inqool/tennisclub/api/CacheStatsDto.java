@@ -0,0 +1,29 @@
+package com.inqool.tennisclub.api;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDto {
+
+    private String name;
+
+    /**
+     * Approximate number of cached entries
+     */
+    private long size;
+
+    private long hitCount;
+
+    private long missCount;
+
+    /**
+     * Ratio of hits to all lookups, 1.0 when there were no lookups yet
+     */
+    private double hitRate;
+
+    private long evictionCount;
+}
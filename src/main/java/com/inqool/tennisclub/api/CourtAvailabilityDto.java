@@ -0,0 +1,20 @@
+package com.inqool.tennisclub.api;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourtAvailabilityDto {
+
+    private Long courtId;
+
+    private Integer courtNumber;
+
+    private Long surfaceId;
+
+    private List<FreeSlotDto> freeSlots;
+}
@@ -0,0 +1,26 @@
+package com.inqool.tennisclub.api;
+
+import com.inqool.tennisclub.data.model.enums.BatchMode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateReservationBatchDto {
+
+    public static final int MAX_SIZE = 200;
+
+    @NotEmpty(message = "At least one reservation is required")
+    @Size(max = MAX_SIZE, message = "Batch cannot contain more than " + MAX_SIZE + " reservations")
+    private List<@Valid CreateReservationDto> reservations;
+
+    @NotNull(message = "Batch mode is required")
+    private BatchMode mode = BatchMode.ALL_OR_NOTHING;
+}
@@ -0,0 +1,19 @@
+package com.inqool.tennisclub.api;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+    private List<T> items;
+
+    /**
+     * Value of the after parameter for the next page, null on the last page
+     */
+    private Long next;
+}
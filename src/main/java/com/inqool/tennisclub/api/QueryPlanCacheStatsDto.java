@@ -0,0 +1,22 @@
+package com.inqool.tennisclub.api;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueryPlanCacheStatsDto {
+
+    /**
+     * Whether Hibernate statistics are collected, all counts are 0 otherwise
+     */
+    private boolean enabled;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long queryExecutionCount;
+}
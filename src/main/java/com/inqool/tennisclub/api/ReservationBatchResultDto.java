@@ -0,0 +1,20 @@
+package com.inqool.tennisclub.api;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationBatchResultDto {
+
+    private List<ReservationDto> created;
+
+    /**
+     * Rejection reason by position of the reservation in the batch
+     */
+    private Map<Integer, String> rejected;
+}
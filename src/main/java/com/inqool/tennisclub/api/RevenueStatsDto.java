@@ -0,0 +1,24 @@
+package com.inqool.tennisclub.api;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueStatsDto {
+
+    /**
+     * Court number, surface name or ISO date, depending on the requested grouping
+     */
+    private String group;
+
+    private long reservations;
+
+    /**
+     * Sum of reservation prices stored at booking time
+     */
+    private BigDecimal revenue;
+}
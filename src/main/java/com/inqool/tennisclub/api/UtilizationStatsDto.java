@@ -0,0 +1,25 @@
+package com.inqool.tennisclub.api;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilizationStatsDto {
+
+    /**
+     * Court number, surface name or ISO date, depending on the requested grouping
+     */
+    private String group;
+
+    private long bookedMinutes;
+
+    /**
+     * Opening minutes of all courts in the group over the requested days
+     */
+    private long availableMinutes;
+
+    private double utilizationPercent;
+}
@@ -0,0 +1,46 @@
+package com.inqool.tennisclub.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In-process caches of rarely changing entities, bounded by size.
+ * <p>
+ * Cached entities are detached and shared between requests, they must not be modified.
+ * Puts and evictions are applied after the surrounding transaction commits, so a lookup
+ * running concurrently with an update cannot cache the state the update replaces.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String COURTS = "courts";
+
+    public static final String COURTS_BY_NUMBER = "courtsByNumber";
+
+    public static final String COURT_SURFACES = "courtSurfaces";
+
+    public static final String CUSTOMERS_BY_PHONE_NUMBER = "customersByPhoneNumber";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.maximum-size:1000}") long maximumSize,
+            @Value("${app.cache.customers-maximum-size:10000}") long customersMaximumSize) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(COURTS, COURTS_BY_NUMBER, COURT_SURFACES);
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(maximumSize).recordStats());
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(
+                CUSTOMERS_BY_PHONE_NUMBER,
+                Caffeine.newBuilder()
+                        .maximumSize(customersMaximumSize)
+                        .recordStats()
+                        .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,92 @@
+package com.inqool.tennisclub.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the facade, service and repository beans as
+ * {@value #METRIC}, tagged by layer, class, method and the exception thrown ("none" on success).
+ * <p>
+ * Timers publish percentile histograms, so latency quantiles can be aggregated across instances
+ * in Prometheus. Only calls through the Spring proxy are timed - a bean calling its own method is not.
+ * Helpers in service subpackages (pricing, court locks) are not timed, they run per DTO or inside
+ * the court lock critical section. Timers are registered once per method and exception.
+ */
+@Aspect
+@Component
+public class LayerMetricsAspect {
+
+    public static final String METRIC = "app.method";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public LayerMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("(execution(public * com.inqool.tennisclub.facade.*.*(..))"
+            + " || execution(public * com.inqool.tennisclub.service.*.*(..))"
+            + " || execution(public * com.inqool.tennisclub.data.repository.impl.*.*(..)))"
+            + " && !within(com.inqool.tennisclub.service.pricing..*)"
+            + " && !within(com.inqool.tennisclub.service.lock..*)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            timer(joinPoint, exception).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(ProceedingJoinPoint joinPoint, String exception) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        // Inherited BaseRepositoryImpl methods are told apart by the repository they are called on
+        return timers.computeIfAbsent(
+                new TimerKey(targetClass, method, exception),
+                key -> Timer.builder(METRIC)
+                        .tags(Tags.of(
+                                "layer",
+                                layer(targetClass),
+                                "class",
+                                targetClass.getSimpleName(),
+                                "method",
+                                method.getName(),
+                                "exception",
+                                exception))
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+    }
+
+    private static String layer(Class<?> targetClass) {
+        String packageName = targetClass.getPackageName();
+        if (packageName.contains(".facade")) {
+            return "facade";
+        }
+        if (packageName.contains(".service")) {
+            return "service";
+        }
+        return "repository";
+    }
+
+    private record TimerKey(Class<?> targetClass, Method method, String exception) {}
+}
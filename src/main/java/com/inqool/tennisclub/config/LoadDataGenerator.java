@@ -0,0 +1,311 @@
+package com.inqool.tennisclub.config;
+
+import com.inqool.tennisclub.data.model.CourtEntity;
+import com.inqool.tennisclub.data.model.CourtSurfaceEntity;
+import com.inqool.tennisclub.data.model.enums.GameType;
+import com.inqool.tennisclub.data.repository.CourtRepository;
+import com.inqool.tennisclub.data.repository.CourtSurfaceRepository;
+import com.inqool.tennisclub.service.ReservationStatsService;
+import com.inqool.tennisclub.service.pricing.PricingEngine;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds production-like data volumes for load testing, enabled by the {@code load-data} profile.
+ * <p>
+ * Surfaces and courts are saved through the repositories, customers and reservations are
+ * inserted with JDBC batches of {@code app.load-data.batch-size} rows on ids reserved from the
+ * entity sequences, which are moved past them before the first insert. Reservations never
+ * overlap on a court and fill days backwards from {@code app.load-data.days-ahead} days in the
+ * future: evenings and weekends are busier than mornings, a few customers book most of the time,
+ * about 5% of reservations are cancelled (soft deleted). The daily stats rollup is rebuilt at the end.
+ * <p>
+ * Runs before the application is ready, so the availability index is warmed with the generated
+ * reservations. Generation is skipped if the database already has courts or customers.
+ */
+@Log4j2
+@Profile("load-data")
+@Component
+public class LoadDataGenerator implements ApplicationRunner {
+
+    /**
+     * Block of ids reserved by one sequence call, allocationSize of the entity sequences
+     */
+    private static final int ID_BLOCK = 50;
+
+    private static final int OPEN_HOUR = 7;
+
+    private static final int CLOSE_HOUR = 21;
+
+    private static final int COURTS_PER_STATS_REFRESH = 50;
+
+    private static final int[] DURATIONS = {60, 60, 60, 60, 60, 90, 90, 90, 120, 120};
+
+    private static final String INSERT_CUSTOMER =
+            "INSERT INTO customer (id, phone_number, name, active) VALUES (?, ?, ?, TRUE)";
+
+    private static final String INSERT_RESERVATION =
+            "INSERT INTO reservation (id, court_id, customer_id, start_time, end_time, created_at, game_type, "
+                    + "active, cost_per_minute, total_price) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CourtSurfaceRepository courtSurfaceRepository;
+    private final CourtRepository courtRepository;
+    private final ReservationStatsService statsService;
+    private final PricingEngine pricingEngine;
+
+    @Value("${app.load-data.courts:500}")
+    private int courts;
+
+    @Value("${app.load-data.customers:2000000}")
+    private int customers;
+
+    @Value("${app.load-data.reservations:50000000}")
+    private long reservations;
+
+    @Value("${app.load-data.days-ahead:30}")
+    private int daysAhead;
+
+    @Value("${app.load-data.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.load-data.seed:42}")
+    private long seed;
+
+    public LoadDataGenerator(
+            JdbcTemplate jdbcTemplate,
+            CourtSurfaceRepository courtSurfaceRepository,
+            CourtRepository courtRepository,
+            ReservationStatsService statsService,
+            PricingEngine pricingEngine) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.courtSurfaceRepository = courtSurfaceRepository;
+        this.courtRepository = courtRepository;
+        this.statsService = statsService;
+        this.pricingEngine = pricingEngine;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (count("court") > 0 || count("customer") > 0) {
+            log.warn("Database already contains courts or customers, load data generation skipped");
+            return;
+        }
+        log.warn(
+                "Generating {} courts, {} customers and {} reservations in batches of {}",
+                courts,
+                customers,
+                reservations,
+                batchSize);
+        long started = System.currentTimeMillis();
+        Random random = new Random(seed);
+
+        List<CourtEntity> savedCourts = saveCourts(saveSurfaces());
+        long firstCustomerId = insertCustomers();
+        insertReservations(savedCourts, firstCustomerId, random);
+
+        List<Long> courtIds = savedCourts.stream().map(CourtEntity::getId).toList();
+        for (int i = 0; i < courtIds.size(); i += COURTS_PER_STATS_REFRESH) {
+            statsService.refreshCourts(courtIds.subList(i, Math.min(i + COURTS_PER_STATS_REFRESH, courtIds.size())));
+        }
+        log.warn("Load data generated in {} s", (System.currentTimeMillis() - started) / 1000);
+    }
+
+    private List<CourtSurfaceEntity> saveSurfaces() {
+        List<CourtSurfaceEntity> surfaces = new ArrayList<>(courtSurfaceRepository.findAll());
+        if (surfaces.isEmpty()) {
+            surfaces.add(saveSurface("Grass", "Short grass 7mm", "1.20"));
+            surfaces.add(saveSurface("Hard", "Blue rubber", "0.10"));
+            surfaces.add(saveSurface("Clay", "Red clay", "0.20"));
+        }
+        return surfaces;
+    }
+
+    private CourtSurfaceEntity saveSurface(String name, String description, String costPerMinute) {
+        CourtSurfaceEntity surface = new CourtSurfaceEntity();
+        surface.setSurfaceName(name);
+        surface.setSurfaceDescription(description);
+        surface.setCostPerMinute(new BigDecimal(costPerMinute));
+        return courtSurfaceRepository.save(surface);
+    }
+
+    private List<CourtEntity> saveCourts(List<CourtSurfaceEntity> surfaces) {
+        List<CourtEntity> savedCourts = new ArrayList<>(courts);
+        for (int i = 0; i < courts; i++) {
+            CourtEntity court = new CourtEntity();
+            court.setCourtNumber(i + 1);
+            court.setCourtSurface(surfaces.get(i % surfaces.size()));
+            savedCourts.add(courtRepository.save(court));
+        }
+        return savedCourts;
+    }
+
+    private long insertCustomers() {
+        long firstId = reserveIds("customer_seq", customers);
+        jdbcTemplate.execute(INSERT_CUSTOMER, (PreparedStatement statement) -> {
+            for (int i = 0; i < customers; i++) {
+                statement.setLong(1, firstId + i);
+                statement.setString(2, phoneNumber(i + 1));
+                statement.setString(3, "Customer " + (i + 1));
+                statement.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    statement.executeBatch();
+                }
+            }
+            return statement.executeBatch();
+        });
+        log.warn("Inserted {} customers", customers);
+        return firstId;
+    }
+
+    private void insertReservations(List<CourtEntity> savedCourts, long firstCustomerId, Random random) {
+        long firstId = reserveIds("reservation_seq", reservations);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate lastDay = now.toLocalDate().plusDays(daysAhead);
+
+        jdbcTemplate.execute(INSERT_RESERVATION, (PreparedStatement statement) -> {
+            long inserted = 0;
+            for (int c = 0; c < savedCourts.size(); c++) {
+                CourtEntity court = savedCourts.get(c);
+                BigDecimal costPerMinute = court.getCourtSurface().getCostPerMinute();
+                long quota = reservations / savedCourts.size() + (c < reservations % savedCourts.size() ? 1 : 0);
+
+                for (LocalDate day = lastDay; quota > 0; day = day.minusDays(1)) {
+                    double demand = demandFactor(now.toLocalDate(), day);
+                    LocalDateTime cursor = day.atTime(OPEN_HOUR, 0);
+                    LocalDateTime close = day.atTime(CLOSE_HOUR, 0);
+                    while (quota > 0 && !cursor.plusMinutes(60).isAfter(close)) {
+                        if (random.nextDouble() >= occupancy(cursor) * demand) {
+                            cursor = cursor.plusMinutes(30);
+                            continue;
+                        }
+                        int minutes = DURATIONS[random.nextInt(DURATIONS.length)];
+                        LocalDateTime end = cursor.plusMinutes(minutes);
+                        if (end.isAfter(close)) {
+                            end = close;
+                        }
+                        addReservation(
+                                statement,
+                                firstId + inserted,
+                                court.getId(),
+                                firstCustomerId,
+                                costPerMinute,
+                                cursor,
+                                end,
+                                now,
+                                random);
+                        inserted++;
+                        quota--;
+                        if (inserted % batchSize == 0) {
+                            statement.executeBatch();
+                        }
+                        if (inserted % 1_000_000 == 0) {
+                            log.warn("Inserted {} reservations", inserted);
+                        }
+                        cursor = end;
+                    }
+                }
+            }
+            return statement.executeBatch();
+        });
+        log.warn("Inserted {} reservations", reservations);
+    }
+
+    private void addReservation(
+            PreparedStatement statement,
+            long id,
+            Long courtId,
+            long firstCustomerId,
+            BigDecimal costPerMinute,
+            LocalDateTime start,
+            LocalDateTime end,
+            LocalDateTime now,
+            Random random)
+            throws SQLException {
+        // A few regular customers book most of the time
+        long customer = (long) (customers * Math.pow(random.nextDouble(), 3));
+        GameType gameType = random.nextInt(10) < 7 ? GameType.SINGLES : GameType.DOUBLES;
+        LocalDateTime createdAt = start.minusDays(random.nextInt(14)).minusHours(1 + random.nextInt(24));
+        long minutes = Duration.between(start, end).toMinutes();
+
+        statement.setLong(1, id);
+        statement.setLong(2, courtId);
+        statement.setLong(3, firstCustomerId + customer);
+        statement.setTimestamp(4, Timestamp.valueOf(start));
+        statement.setTimestamp(5, Timestamp.valueOf(end));
+        statement.setTimestamp(6, Timestamp.valueOf(createdAt.isAfter(now) ? now : createdAt));
+        statement.setString(7, gameType.name());
+        statement.setBoolean(8, random.nextInt(20) != 0);
+        statement.setBigDecimal(9, costPerMinute);
+        statement.setBigDecimal(
+                10, PricingEngine.toAmount(pricingEngine.priceInCents(costPerMinute, gameType, minutes)));
+        statement.addBatch();
+    }
+
+    /**
+     * Probability a free half hour starting at given time gets booked
+     */
+    private static double occupancy(LocalDateTime time) {
+        double occupancy;
+        if (time.getHour() < 9) {
+            occupancy = 0.3;
+        } else if (time.getHour() < 16) {
+            occupancy = 0.45;
+        } else {
+            occupancy = 0.85;
+        }
+        DayOfWeek dayOfWeek = time.getDayOfWeek();
+        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+            occupancy = Math.min(0.95, occupancy + 0.25);
+        }
+        return occupancy;
+    }
+
+    /**
+     * Days further in the future are booked less, past days fully
+     */
+    private double demandFactor(LocalDate today, LocalDate day) {
+        if (!day.isAfter(today)) {
+            return 1.0;
+        }
+        return Math.max(0.1, 1.0 - (double) (day.toEpochDay() - today.toEpochDay()) / (daysAhead + 1));
+    }
+
+    /**
+     * Reserve {@code count} consecutive ids of a sequence and move it past them, so pooled blocks
+     * handed to Hibernate afterwards cannot overlap the reserved ids
+     */
+    private long reserveIds(String sequence, long count) {
+        Long firstId = jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (firstId + count + ID_BLOCK - 1));
+        return firstId;
+    }
+
+    private long count(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Phone number of the n-th generated customer, used by the load driver as well
+     */
+    public static String phoneNumber(int customer) {
+        return String.format("+420%09d", customer);
+    }
+}
@@ -0,0 +1,65 @@
+package com.inqool.tennisclub.config.tracing;
+
+/**
+ * JDBC statements executed by the current request: count, total execution time and the slowest one.
+ * <p>
+ * Bound to the request thread by {@link SqlTracingFilter}, statements executed on other threads
+ * (async dispatch, background work) are not recorded.
+ */
+public final class SqlStats {
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+
+    private long totalNanos;
+
+    private long slowestNanos;
+
+    private String slowestSql;
+
+    /**
+     * Start recording statements of the current thread
+     */
+    static SqlStats start() {
+        SqlStats stats = new SqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stats of the current thread, null if no request is being traced
+     */
+    static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    void record(String sql, long nanos) {
+        statements++;
+        totalNanos += nanos;
+        if (nanos > slowestNanos || slowestSql == null) {
+            slowestNanos = nanos;
+            slowestSql = sql;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getSlowestNanos() {
+        return slowestNanos;
+    }
+
+    public String getSlowestSql() {
+        return slowestSql;
+    }
+}
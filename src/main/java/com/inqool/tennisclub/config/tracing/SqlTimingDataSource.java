@@ -0,0 +1,96 @@
+package com.inqool.tennisclub.config.tracing;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource timing every statement execution into the {@link SqlStats} of the current request.
+ * <p>
+ * Connections and statements are wrapped in JDK proxies, only the {@code execute*} calls
+ * are intercepted. Outside a traced request the statements run untimed.
+ */
+public class SqlTimingDataSource extends DelegatingDataSource {
+
+    private static final String BATCH = "<batch>";
+
+    public SqlTimingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(proxy, connection, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> wrap((Statement) result, Statement.class, null);
+                case "prepareStatement" -> wrap((Statement) result, PreparedStatement.class, (String) args[0]);
+                case "prepareCall" -> wrap((Statement) result, CallableStatement.class, (String) args[0]);
+                default -> result;
+            };
+        };
+        return (Connection) Proxy.newProxyInstance(
+                SqlTimingDataSource.class.getClassLoader(), new Class<?>[] {Connection.class}, handler);
+    }
+
+    private static Statement wrap(Statement statement, Class<? extends Statement> type, String preparedSql) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            SqlStats stats = SqlStats.current();
+            if (stats == null || !method.getName().startsWith("execute")) {
+                return invoke(proxy, statement, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(proxy, statement, method, args);
+            } finally {
+                stats.record(sql(preparedSql, method, args), System.nanoTime() - start);
+            }
+        };
+        return (Statement) Proxy.newProxyInstance(
+                SqlTimingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static String sql(String preparedSql, Method method, Object[] args) {
+        if (preparedSql != null) {
+            return preparedSql;
+        }
+        if (args != null && args.length > 0 && args[0] instanceof String sql) {
+            return sql;
+        }
+        return method.getName().equals("executeBatch") ? BATCH : method.getName();
+    }
+
+    /**
+     * Call the wrapped object, proxies are equal only to themselves
+     */
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("equals")) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode")) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.inqool.tennisclub.config.tracing;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-request SQL tracing: statement count, JDBC time and the slowest statement of every request,
+ * reported in the Server-Timing header and logged for slow requests. Disabled by
+ * {@code app.sql-tracing.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql-tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTracingConfig {
+
+    /**
+     * Wrap the application's DataSource, static so it does not initialize this configuration early
+     */
+    @Bean
+    public static BeanPostProcessor sqlTimingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlTimingDataSource)) {
+                    return new SqlTimingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
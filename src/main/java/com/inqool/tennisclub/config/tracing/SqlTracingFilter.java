@@ -0,0 +1,156 @@
+package com.inqool.tennisclub.config.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.Locale;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Records the JDBC statements of every request in {@link SqlStats} and reports them in a
+ * {@code Server-Timing: db;dur=<ms>;desc="<n> statements"} header.
+ * <p>
+ * The header is added when the response body is first written, after the controller returned.
+ * Requests slower than {@code app.sql-tracing.slow-request-threshold} or executing more than
+ * {@code app.sql-tracing.statement-threshold} statements (an N+1 symptom) are logged with their
+ * slowest statement. Statements of streaming responses written asynchronously are not counted.
+ */
+@Log4j2
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.sql-tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTracingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 1000;
+
+    private final Duration slowRequestThreshold;
+
+    private final int statementThreshold;
+
+    public SqlTracingFilter(
+            @Value("${app.sql-tracing.slow-request-threshold:500ms}") Duration slowRequestThreshold,
+            @Value("${app.sql-tracing.statement-threshold:50}") int statementThreshold) {
+        this.slowRequestThreshold = slowRequestThreshold;
+        this.statementThreshold = statementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        SqlStats stats = SqlStats.start();
+        ServerTimingResponse tracedResponse = new ServerTimingResponse(response, stats);
+        try {
+            chain.doFilter(request, tracedResponse);
+        } finally {
+            SqlStats.stop();
+            tracedResponse.addServerTiming();
+            logIfSlow(request, response, stats, System.nanoTime() - start);
+        }
+    }
+
+    private void logIfSlow(HttpServletRequest request, HttpServletResponse response, SqlStats stats, long nanos) {
+        if (nanos < slowRequestThreshold.toNanos() && stats.getStatements() <= statementThreshold) {
+            return;
+        }
+        String slowestSql = stats.getSlowestSql();
+        if (slowestSql != null && slowestSql.length() > MAX_LOGGED_SQL_LENGTH) {
+            slowestSql = slowestSql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+        }
+        log.warn(
+                "Slow request {} {} -> {} in {} ms: {} statements, {} ms JDBC, slowest {} ms: {}",
+                request.getMethod(),
+                request.getRequestURI(),
+                response.getStatus(),
+                millis(nanos),
+                stats.getStatements(),
+                millis(stats.getTotalNanos()),
+                millis(stats.getSlowestNanos()),
+                slowestSql);
+    }
+
+    static String serverTiming(SqlStats stats) {
+        return String.format(
+                Locale.ROOT,
+                "db;dur=%s;desc=\"%d statements\", db-slowest;dur=%s",
+                millis(stats.getTotalNanos()),
+                stats.getStatements(),
+                millis(stats.getSlowestNanos()));
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Adds the Server-Timing header before the body is written, while headers can still be set
+     */
+    private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final SqlStats stats;
+
+        private boolean added;
+
+        ServerTimingResponse(HttpServletResponse response, SqlStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void addServerTiming() {
+            if (!added && !isCommitted()) {
+                setHeader(SERVER_TIMING, serverTiming(stats));
+            }
+            added = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
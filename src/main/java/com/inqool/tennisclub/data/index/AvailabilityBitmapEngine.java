@@ -0,0 +1,218 @@
+package com.inqool.tennisclub.data.index;
+
+import com.inqool.tennisclub.data.model.ReservationSlot;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+import org.springframework.stereotype.Component;
+
+/**
+ * Free-slot search over compact per-court, per-day occupancy bitmaps.
+ * <p>
+ * A day is split into 5 minute slots (288 bits, five longs per court and day). A slot is
+ * busy if any reservation touches it, so free ranges are always aligned to slot boundaries.
+ * Bitmaps are built lazily from {@link CourtAvailabilityIndex} and rebuilt whenever the
+ * court's version in the index changes - no reservation entities are loaded.
+ * Only days up to {@value #CACHED_DAYS_AHEAD} days ahead are cached, later days are built for
+ * each search and dropped, so searches far in the future do not grow the cache.
+ * Days are UTC days.
+ */
+@Component
+public class AvailabilityBitmapEngine {
+
+    public static final int SLOT_MINUTES = 5;
+
+    static final long SLOT_MILLIS = SLOT_MINUTES * 60_000L;
+
+    static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    private static final long DAY_MILLIS = SLOTS_PER_DAY * SLOT_MILLIS;
+
+    static final int CACHED_DAYS_AHEAD = 62;
+
+    private final CourtAvailabilityIndex availabilityIndex;
+
+    private final Map<Long, Map<Long, DayBitmap>> bitmaps = new ConcurrentHashMap<>();
+
+    public AvailabilityBitmapEngine(CourtAvailabilityIndex availabilityIndex) {
+        this.availabilityIndex = availabilityIndex;
+    }
+
+    /**
+     * Find free ranges of given court within [from, to) lasting at least minMinutes
+     */
+    public List<FreeSlot> findFreeSlots(Long courtId, OffsetDateTime from, OffsetDateTime to, int minMinutes) {
+        long version = availabilityIndex.courtVersion(courtId);
+        Map<Long, DayBitmap> uncached = new HashMap<>();
+        return findFreeSlots(day -> bitmap(courtId, day, version, uncached), from, to, minMinutes);
+    }
+
+    /**
+     * Find free ranges within [from, to) lasting at least minMinutes around the given reservations
+     * of one court, for searches that cannot use the index. Bitmaps are kept for this search only.
+     */
+    public List<FreeSlot> findFreeSlots(
+            Collection<ReservationSlot> reservations, OffsetDateTime from, OffsetDateTime to, int minMinutes) {
+        SlotSource source = (fromMillis, toMillis, consumer) -> {
+            for (ReservationSlot reservation : reservations) {
+                long start = reservation.startTime().toInstant().toEpochMilli();
+                long end = reservation.endTime().toInstant().toEpochMilli();
+                if (end > fromMillis && start < toMillis) {
+                    consumer.accept(start, end);
+                }
+            }
+        };
+        Map<Long, DayBitmap> built = new HashMap<>();
+        return findFreeSlots(day -> built.computeIfAbsent(day, d -> build(d, 0, source)), from, to, minMinutes);
+    }
+
+    private List<FreeSlot> findFreeSlots(
+            LongFunction<DayBitmap> bitmapOfDay, OffsetDateTime from, OffsetDateTime to, int minMinutes) {
+        long firstSlot = ceilDiv(from.toInstant().toEpochMilli(), SLOT_MILLIS);
+        long endSlot = Math.floorDiv(to.toInstant().toEpochMilli(), SLOT_MILLIS);
+        long minSlots = Math.max(1, ceilDiv(minMinutes, SLOT_MINUTES));
+
+        List<FreeSlot> freeSlots = new ArrayList<>();
+        long cursor = firstSlot;
+        while (cursor < endSlot) {
+            long freeStart = nextSlot(bitmapOfDay, cursor, endSlot, false);
+            if (freeStart >= endSlot) {
+                break;
+            }
+            long freeEnd = nextSlot(bitmapOfDay, freeStart, endSlot, true);
+            if (freeEnd - freeStart >= minSlots) {
+                freeSlots.add(new FreeSlot(toTime(freeStart, from.getOffset()), toTime(freeEnd, from.getOffset())));
+            }
+            cursor = freeEnd;
+        }
+        return freeSlots;
+    }
+
+    /**
+     * First slot in [from, limit) that is busy (or free), limit if there is none
+     */
+    private static long nextSlot(LongFunction<DayBitmap> bitmapOfDay, long from, long limit, boolean busy) {
+        long cursor = from;
+        while (cursor < limit) {
+            long day = Math.floorDiv(cursor, SLOTS_PER_DAY);
+            long dayStart = day * SLOTS_PER_DAY;
+            DayBitmap bitmap = bitmapOfDay.apply(day);
+            int found = busy
+                    ? bitmap.nextBusy((int) (cursor - dayStart))
+                    : bitmap.nextFree((int) (cursor - dayStart));
+            if (found < SLOTS_PER_DAY) {
+                return Math.min(dayStart + found, limit);
+            }
+            cursor = dayStart + SLOTS_PER_DAY;
+        }
+        return limit;
+    }
+
+    /**
+     * Cached bitmap of given day, days too far ahead are kept in the given per-search map only
+     */
+    private DayBitmap bitmap(Long courtId, long day, long version, Map<Long, DayBitmap> uncached) {
+        SlotSource source = (fromMillis, toMillis, consumer) ->
+                availabilityIndex.forEachSlot(courtId, fromMillis, toMillis, consumer);
+        long today = Math.floorDiv(System.currentTimeMillis(), DAY_MILLIS);
+        if (day > today + CACHED_DAYS_AHEAD) {
+            return uncached.computeIfAbsent(day, d -> build(d, version, source));
+        }
+
+        Map<Long, DayBitmap> courtBitmaps = bitmaps.computeIfAbsent(courtId, id -> new ConcurrentHashMap<>());
+        DayBitmap bitmap = courtBitmaps.get(day);
+        if (bitmap == null || bitmap.version != version) {
+            bitmap = build(day, version, source);
+            courtBitmaps.put(day, bitmap);
+            courtBitmaps.keySet().removeIf(cached -> cached < today - 1);
+        }
+        return bitmap;
+    }
+
+    private static DayBitmap build(long day, long version, SlotSource source) {
+        DayBitmap bitmap = new DayBitmap(version);
+        long dayStart = day * DAY_MILLIS;
+        long dayEnd = dayStart + DAY_MILLIS;
+        source.forEachSlot(dayStart, dayEnd, (start, end) -> {
+            int first = (int) ((Math.max(start, dayStart) - dayStart) / SLOT_MILLIS);
+            int last = (int) ceilDiv(Math.min(end, dayEnd) - dayStart, SLOT_MILLIS);
+            bitmap.markBusy(first, last);
+        });
+        return bitmap;
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    private static OffsetDateTime toTime(long slot, ZoneOffset offset) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(slot * SLOT_MILLIS), offset);
+    }
+
+    /**
+     * Number of cached day bitmaps of given court
+     */
+    int cachedDays(Long courtId) {
+        Map<Long, DayBitmap> courtBitmaps = bitmaps.get(courtId);
+        return courtBitmaps == null ? 0 : courtBitmaps.size();
+    }
+
+    @FunctionalInterface
+    private interface SlotSource {
+        void forEachSlot(long fromMillis, long toMillis, CourtAvailabilityIndex.SlotConsumer consumer);
+    }
+
+    /**
+     * Occupancy of one court and day, bit i set means slot i is busy
+     */
+    static final class DayBitmap {
+
+        private static final int WORDS = (SLOTS_PER_DAY + 63) / 64;
+
+        private final long version;
+
+        private final long[] words = new long[WORDS];
+
+        DayBitmap(long version) {
+            this.version = version;
+        }
+
+        void markBusy(int fromSlot, int toSlot) {
+            for (int slot = fromSlot; slot < toSlot; slot++) {
+                words[slot >>> 6] |= 1L << slot;
+            }
+        }
+
+        int nextBusy(int fromSlot) {
+            return next(fromSlot, false);
+        }
+
+        int nextFree(int fromSlot) {
+            return next(fromSlot, true);
+        }
+
+        private int next(int fromSlot, boolean invert) {
+            int wordIndex = fromSlot >>> 6;
+            if (wordIndex >= WORDS) {
+                return SLOTS_PER_DAY;
+            }
+            long word = (invert ? ~words[wordIndex] : words[wordIndex]) & (-1L << fromSlot);
+            while (true) {
+                if (word != 0) {
+                    return Math.min(wordIndex * 64 + Long.numberOfTrailingZeros(word), SLOTS_PER_DAY);
+                }
+                if (++wordIndex == WORDS) {
+                    return SLOTS_PER_DAY;
+                }
+                word = invert ? ~words[wordIndex] : words[wordIndex];
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.inqool.tennisclub.data.index;
+
+import com.inqool.tennisclub.data.model.ReservationSlot;
+import com.inqool.tennisclub.data.repository.ReservationRepository;
+import com.inqool.tennisclub.service.event.ReservationChangedEvent;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory index of active reservation time slots, kept per court.
+ * <p>
+ * Slots of a court are stored in a skip list ordered by start time, so an overlap check
+ * only visits the slots starting within the longest known reservation length before the
+ * requested end - an O(log n) lookup instead of a COUNT over the reservation table.
+ * <p>
+ * The index is warmed from the database once the application is ready and is updated
+ * from committed {@link ReservationChangedEvent}s. Reservations that already ended are
+ * not loaded and are evicted lazily, as new bookings can only be made in the future.
+ */
+@Log4j2
+@Component
+public class CourtAvailabilityIndex {
+
+    private static final Comparator<Slot> SLOT_ORDER =
+            Comparator.comparingLong(Slot::start).thenComparingLong(Slot::reservationId);
+
+    private final ReservationRepository reservationRepository;
+
+    private final Map<Long, CourtTimeline> timelines = new ConcurrentHashMap<>();
+
+    private final Map<Long, Slot> slotsById = new ConcurrentHashMap<>();
+
+    private volatile boolean warm;
+
+    public CourtAvailabilityIndex(ReservationRepository reservationRepository) {
+        this.reservationRepository = reservationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<ReservationSlot> slots = reservationRepository.findActiveSlotsEndingAfter(OffsetDateTime.now());
+        slots.forEach(this::put);
+        warm = true;
+        log.info("Court availability index warmed with {} reservations", slots.size());
+    }
+
+    // Applied before court locks are released, so the next writer sees this change
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        switch (event.type()) {
+            case SAVED -> put(event.slot());
+            case DELETED -> remove(event.reservationId());
+        }
+    }
+
+    /**
+     * Whether the index has been loaded and can answer availability checks
+     */
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * Check if court is free for given time period
+     */
+    public boolean isAvailable(Long courtId, OffsetDateTime startTime, OffsetDateTime endTime) {
+        return isAvailable(courtId, startTime, endTime, null);
+    }
+
+    /**
+     * Check if court is free for given time period, ignoring the given reservation
+     */
+    public boolean isAvailable(
+            Long courtId, OffsetDateTime startTime, OffsetDateTime endTime, Long excludeReservationId) {
+        if (courtId == null || startTime == null || endTime == null) {
+            throw new IllegalArgumentException("Court ID, start time and end time are required");
+        }
+        if (!startTime.isBefore(endTime)) {
+            throw new IllegalArgumentException("Start time must be before end time");
+        }
+
+        CourtTimeline timeline = timelines.get(courtId);
+        if (timeline == null) {
+            return true;
+        }
+        return !timeline.overlaps(toMillis(startTime), toMillis(endTime), excludeReservationId);
+    }
+
+    /**
+     * Add the slot or replace the previous slot of the same reservation
+     */
+    public void put(ReservationSlot reservation) {
+        Slot slot = new Slot(
+                reservation.reservationId(),
+                reservation.courtId(),
+                toMillis(reservation.startTime()),
+                toMillis(reservation.endTime()));
+
+        Slot previous = slotsById.put(slot.reservationId(), slot);
+        if (previous != null) {
+            timeline(previous.courtId()).remove(previous);
+        }
+
+        CourtTimeline timeline = timeline(slot.courtId());
+        timeline.add(slot);
+        timeline.evictEndedBefore(System.currentTimeMillis())
+                .forEach(ended -> slotsById.remove(ended.reservationId(), ended));
+    }
+
+    /**
+     * Remove the slot of given reservation, if indexed
+     */
+    public void remove(Long reservationId) {
+        if (reservationId == null) {
+            return;
+        }
+        Slot previous = slotsById.remove(reservationId);
+        if (previous != null) {
+            timeline(previous.courtId()).remove(previous);
+        }
+    }
+
+    /**
+     * Visit slots of given court overlapping [fromMillis, toMillis), in start time order
+     */
+    public void forEachSlot(Long courtId, long fromMillis, long toMillis, SlotConsumer consumer) {
+        CourtTimeline timeline = timelines.get(courtId);
+        if (timeline != null) {
+            timeline.forEachOverlapping(fromMillis, toMillis, consumer);
+        }
+    }
+
+    /**
+     * Modification counter of given court, changes whenever one of its slots is added or removed
+     */
+    public long courtVersion(Long courtId) {
+        CourtTimeline timeline = timelines.get(courtId);
+        return timeline == null ? 0 : timeline.version.get();
+    }
+
+    /**
+     * Number of indexed reservation slots
+     */
+    public int size() {
+        return slotsById.size();
+    }
+
+    private CourtTimeline timeline(Long courtId) {
+        return timelines.computeIfAbsent(courtId, id -> new CourtTimeline());
+    }
+
+    private static long toMillis(OffsetDateTime time) {
+        return time.toInstant().toEpochMilli();
+    }
+
+    @FunctionalInterface
+    public interface SlotConsumer {
+        void accept(long startMillis, long endMillis);
+    }
+
+    private record Slot(long reservationId, long courtId, long start, long end) {
+
+        static Slot probe(long start) {
+            return new Slot(Long.MIN_VALUE, 0, start, start);
+        }
+    }
+
+    private static final class CourtTimeline {
+
+        private final NavigableSet<Slot> slots = new ConcurrentSkipListSet<>(SLOT_ORDER);
+
+        private final AtomicLong longestDuration = new AtomicLong();
+
+        private final AtomicLong version = new AtomicLong();
+
+        void add(Slot slot) {
+            longestDuration.accumulateAndGet(slot.end() - slot.start(), Math::max);
+            slots.add(slot);
+            version.incrementAndGet();
+        }
+
+        void remove(Slot slot) {
+            if (slots.remove(slot)) {
+                version.incrementAndGet();
+            }
+        }
+
+        boolean overlaps(long start, long end, Long excludeReservationId) {
+            for (Slot slot : candidates(start, end)) {
+                if (slot.end() > start
+                        && (excludeReservationId == null || slot.reservationId() != excludeReservationId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void forEachOverlapping(long start, long end, SlotConsumer consumer) {
+            for (Slot slot : candidates(start, end)) {
+                if (slot.end() > start) {
+                    consumer.accept(slot.start(), slot.end());
+                }
+            }
+        }
+
+        private NavigableSet<Slot> candidates(long start, long end) {
+            // Any slot overlapping [start, end) must start within the longest duration before start
+            Slot from = Slot.probe(start - longestDuration.get());
+            Slot to = Slot.probe(end);
+            return slots.subSet(from, true, to, false);
+        }
+
+        List<Slot> evictEndedBefore(long now) {
+            long threshold = now - longestDuration.get();
+            List<Slot> evicted = new ArrayList<>();
+            Iterator<Slot> iterator = slots.iterator();
+            while (iterator.hasNext()) {
+                Slot slot = iterator.next();
+                if (slot.start() >= threshold) {
+                    break;
+                }
+                iterator.remove();
+                evicted.add(slot);
+            }
+            if (!evicted.isEmpty()) {
+                version.incrementAndGet();
+            }
+            return evicted;
+        }
+    }
+}
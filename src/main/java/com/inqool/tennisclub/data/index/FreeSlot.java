@@ -0,0 +1,8 @@
+package com.inqool.tennisclub.data.index;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Free time range of a court
+ */
+public record FreeSlot(OffsetDateTime startTime, OffsetDateTime endTime) {}
@@ -0,0 +1,216 @@
+package com.inqool.tennisclub.data.index;
+
+import com.inqool.tennisclub.data.model.ReservationView;
+import com.inqool.tennisclub.data.repository.ReservationRepository;
+import com.inqool.tennisclub.service.event.CustomerChangedEvent;
+import com.inqool.tennisclub.service.event.ReservationChangedEvent;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory read model of reservations that have not ended yet, kept per court and per customer
+ * phone number and ordered by start time.
+ * <p>
+ * Schedule reads are answered from immutable {@link ReservationView} snapshots without a database
+ * connection, transaction or lock, so they are not slowed down by writers holding court locks or
+ * by an exhausted connection pool. Writes are serialized, reads never block.
+ * <p>
+ * The model is warmed from the database once the application is ready and is updated from
+ * committed {@link ReservationChangedEvent}s. Customer updates ({@link CustomerChangedEvent}) move
+ * the views of the customer to the new phone number and name. Court details are those of the last
+ * reservation save.
+ * Reservations that already ended are not loaded, they are filtered out of reads and evicted
+ * when a reservation of the same court is saved, so the read path never takes the write lock.
+ */
+@Log4j2
+@Component
+public class ReservationScheduleReadModel {
+
+    private static final Comparator<ReservationView> START_ORDER = Comparator.comparing(
+                    (ReservationView view) -> view.startTime().toInstant())
+            .thenComparing(ReservationView::id);
+
+    private final ReservationRepository reservationRepository;
+
+    private final Map<Long, ReservationView> viewsById = new ConcurrentHashMap<>();
+
+    private final Map<Long, NavigableSet<ReservationView>> byCourt = new ConcurrentHashMap<>();
+
+    private final Map<String, NavigableSet<ReservationView>> byPhone = new ConcurrentHashMap<>();
+
+    // Reservations deleted before the warm-up finished, kept out of its possibly older snapshot
+    private final Set<Long> deletedWhileWarming = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean warm;
+
+    public ReservationScheduleReadModel(ReservationRepository reservationRepository) {
+        this.reservationRepository = reservationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<ReservationView> views = reservationRepository.findActiveViewsEndingAfter(OffsetDateTime.now());
+        // Reservations saved or deleted while loading are newer than the snapshot
+        views.forEach(this::putIfAbsent);
+        synchronized (this) {
+            warm = true;
+            deletedWhileWarming.clear();
+        }
+        log.info("Reservation schedule read model warmed with {} reservations", views.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        switch (event.type()) {
+            case SAVED -> put(event.view());
+            case DELETED -> remove(event.reservationId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        updateCustomer(event.previousPhoneNumber(), event.phoneNumber(), event.name());
+    }
+
+    /**
+     * Whether the model has been loaded and can answer schedule reads
+     */
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * Reservations of given court that have not ended yet, ordered by start time
+     */
+    public List<ReservationView> findUpcomingByCourt(Long courtId) {
+        if (courtId == null) {
+            throw new IllegalArgumentException("Court ID cannot be null");
+        }
+        return upcoming(byCourt.get(courtId));
+    }
+
+    /**
+     * Reservations of customer with given phone number that have not ended yet, ordered by start time
+     */
+    public List<ReservationView> findUpcomingByPhone(String phoneNumber) {
+        if (phoneNumber == null) {
+            throw new IllegalArgumentException("Phone number cannot be null");
+        }
+        return upcoming(byPhone.get(phoneNumber));
+    }
+
+    /**
+     * Add the view or replace the previous view of the same reservation
+     */
+    public synchronized void put(ReservationView view) {
+        ReservationView previous = viewsById.put(view.id(), view);
+        if (previous != null) {
+            unlink(previous);
+        }
+        byCourt.computeIfAbsent(view.courtId(), id -> new ConcurrentSkipListSet<>(START_ORDER))
+                .add(view);
+        byPhone.computeIfAbsent(view.phoneNumber(), phone -> new ConcurrentSkipListSet<>(START_ORDER))
+                .add(view);
+        evictEnded(byCourt.get(view.courtId()), OffsetDateTime.now());
+    }
+
+    /**
+     * Replace views of the customer with given previous phone number by views with the new phone number
+     * and name. Phone numbers are unique, so the views under the previous one all belong to the customer.
+     */
+    public synchronized void updateCustomer(String previousPhoneNumber, String phoneNumber, String name) {
+        NavigableSet<ReservationView> customerViews = byPhone.get(previousPhoneNumber);
+        if (customerViews == null) {
+            return;
+        }
+        for (ReservationView view : List.copyOf(customerViews)) {
+            put(view.withCustomer(phoneNumber, name));
+        }
+        if (!previousPhoneNumber.equals(phoneNumber)) {
+            byPhone.remove(previousPhoneNumber, customerViews);
+        }
+    }
+
+    /**
+     * Remove the view of given reservation, if present
+     */
+    public synchronized void remove(Long reservationId) {
+        if (reservationId == null) {
+            return;
+        }
+        if (!warm) {
+            deletedWhileWarming.add(reservationId);
+        }
+        ReservationView previous = viewsById.remove(reservationId);
+        if (previous != null) {
+            unlink(previous);
+        }
+    }
+
+    public int size() {
+        return viewsById.size();
+    }
+
+    private synchronized void putIfAbsent(ReservationView view) {
+        if (!viewsById.containsKey(view.id()) && !deletedWhileWarming.contains(view.id())) {
+            put(view);
+        }
+    }
+
+    /**
+     * Evict views of the court that ended, only views starting before now can have ended
+     */
+    private void evictEnded(NavigableSet<ReservationView> courtViews, OffsetDateTime now) {
+        List<ReservationView> ended = new ArrayList<>();
+        for (ReservationView view : courtViews) {
+            if (!view.startTime().isBefore(now)) {
+                break;
+            }
+            if (!view.endTime().isAfter(now)) {
+                ended.add(view);
+            }
+        }
+        for (ReservationView view : ended) {
+            if (viewsById.remove(view.id(), view)) {
+                unlink(view);
+            }
+        }
+    }
+
+    private void unlink(ReservationView view) {
+        NavigableSet<ReservationView> courtViews = byCourt.get(view.courtId());
+        if (courtViews != null) {
+            courtViews.remove(view);
+        }
+        NavigableSet<ReservationView> phoneViews = byPhone.get(view.phoneNumber());
+        if (phoneViews != null) {
+            phoneViews.remove(view);
+        }
+    }
+
+    private List<ReservationView> upcoming(NavigableSet<ReservationView> views) {
+        if (views == null) {
+            return List.of();
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        List<ReservationView> upcoming = new ArrayList<>();
+        for (ReservationView view : views) {
+            if (view.endTime().isAfter(now)) {
+                upcoming.add(view);
+            }
+        }
+        return upcoming;
+    }
+}
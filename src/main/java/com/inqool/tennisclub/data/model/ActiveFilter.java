@@ -0,0 +1,17 @@
+package com.inqool.tennisclub.data.model;
+
+/**
+ * Hibernate filter hiding soft deleted rows, defined in package-info.java.
+ * <p>
+ * The filter is enabled for every session and applies to all queries of the filtered entities,
+ * but not to loading by ID ({@code EntityManager.find}) or lazy to-one associations, so a reservation
+ * can still reach its deleted court. The condition matches the partial indexes {@code WHERE active}.
+ */
+public final class ActiveFilter {
+
+    public static final String NAME = "active";
+
+    public static final String CONDITION = "active = true";
+
+    private ActiveFilter() {}
+}
@@ -5,15 +5,22 @@ import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Filter;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
 @Table(name = "court")
+@Filter(name = ActiveFilter.NAME)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "court")
 public class CourtEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "court_seq")
+    @SequenceGenerator(name = "court_seq", sequenceName = "court_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "court_number", nullable = false, unique = true)
@@ -6,15 +6,22 @@ import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Filter;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
 @Table(name = "court_surface")
+@Filter(name = ActiveFilter.NAME)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "court_surface")
 public class CourtSurfaceEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "court_surface_seq")
+    @SequenceGenerator(name = "court_surface_seq", sequenceName = "court_surface_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "surface_name", nullable = false)
@@ -29,6 +36,7 @@ public class CourtSurfaceEntity {
     @OneToMany(
             mappedBy = "courtSurface",
             cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "court_surface.courts")
     private List<CourtEntity> courts;
 
     @Column(name = "active", nullable = false)
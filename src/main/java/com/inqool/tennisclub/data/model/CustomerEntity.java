@@ -4,15 +4,18 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Pattern;
 import java.util.List;
 import lombok.*;
+import org.hibernate.annotations.Filter;
 
 @Data
 @NoArgsConstructor
 @Entity
 @AllArgsConstructor
 @Table(name = "customer")
+@Filter(name = ActiveFilter.NAME)
 public class CustomerEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_seq")
+    @SequenceGenerator(name = "customer_seq", sequenceName = "customer_seq", allocationSize = 50)
     private Long id;
 
     @Pattern(regexp = "^\\+?[0-9]{7,15}$", message = "Invalid phone number")
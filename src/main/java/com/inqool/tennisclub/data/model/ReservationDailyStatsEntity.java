@@ -0,0 +1,39 @@
+package com.inqool.tennisclub.data.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Totals of active reservations of one court starting on one day, maintained by
+ * {@link com.inqool.tennisclub.service.ReservationStatsService} whenever reservations change.
+ * Revenue and utilization reports read these rows instead of the reservation table.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "reservation_daily_stats")
+@IdClass(ReservationDailyStatsId.class)
+public class ReservationDailyStatsEntity {
+
+    @Id
+    @Column(name = "court_id", nullable = false)
+    private Long courtId;
+
+    @Id
+    @Column(name = "reservation_day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "reservation_count", nullable = false)
+    private long reservations;
+
+    @Column(name = "booked_minutes", nullable = false)
+    private long bookedMinutes;
+
+    @Column(name = "revenue", nullable = false)
+    private BigDecimal revenue;
+}
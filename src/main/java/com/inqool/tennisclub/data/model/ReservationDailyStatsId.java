@@ -0,0 +1,20 @@
+package com.inqool.tennisclub.data.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Court and day of a daily reservation rollup row
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationDailyStatsId implements Serializable {
+
+    private Long courtId;
+
+    private LocalDate day;
+}
@@ -2,19 +2,32 @@ package com.inqool.tennisclub.data.model;
 
 import com.inqool.tennisclub.data.model.enums.GameType;
 import jakarta.persistence.*;
+import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Filter;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
 @Table(name = "reservation")
+@Filter(name = ActiveFilter.NAME)
+@NamedEntityGraph(
+        name = ReservationEntity.DETAILS_GRAPH,
+        attributeNodes = {@NamedAttributeNode("customer"), @NamedAttributeNode("court")})
 public class ReservationEntity {
+
+    /**
+     * Entity graph with everything needed to map a reservation to its DTO (customer and court)
+     */
+    public static final String DETAILS_GRAPH = "Reservation.details";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "created_at", nullable = false)
@@ -38,6 +51,19 @@ public class ReservationEntity {
     @JoinColumn(name = "court_id", nullable = false)
     private CourtEntity court;
 
+    /**
+     * Cost per minute of the court surface when the reservation was priced
+     */
+    @Column(name = "cost_per_minute", nullable = false)
+    private BigDecimal costPerMinute;
+
+    /**
+     * Price snapshot taken when the reservation was created or last updated,
+     * later surface price changes do not affect it
+     */
+    @Column(name = "total_price", nullable = false)
+    private BigDecimal totalPrice;
+
     @Column(name = "active", nullable = false)
     private boolean active = true;
 
@@ -0,0 +1,8 @@
+package com.inqool.tennisclub.data.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Lightweight projection of a reservation's court and time range
+ */
+public record ReservationSlot(Long reservationId, Long courtId, OffsetDateTime startTime, OffsetDateTime endTime) {}
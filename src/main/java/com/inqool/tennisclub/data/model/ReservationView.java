@@ -0,0 +1,53 @@
+package com.inqool.tennisclub.data.model;
+
+import com.inqool.tennisclub.data.model.enums.GameType;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Immutable snapshot of a reservation with its court and customer details, for reads served
+ * without a persistence context
+ */
+public record ReservationView(
+        Long id,
+        Long courtId,
+        Integer courtNumber,
+        String phoneNumber,
+        String customerName,
+        GameType gameType,
+        OffsetDateTime startTime,
+        OffsetDateTime endTime,
+        BigDecimal totalPrice,
+        OffsetDateTime createdAt) {
+
+    /**
+     * Copy of this view with given customer details
+     */
+    public ReservationView withCustomer(String phoneNumber, String customerName) {
+        return new ReservationView(
+                id,
+                courtId,
+                courtNumber,
+                phoneNumber,
+                customerName,
+                gameType,
+                startTime,
+                endTime,
+                totalPrice,
+                createdAt);
+    }
+
+    public static ReservationView of(ReservationEntity entity) {
+        return new ReservationView(
+                entity.getId(),
+                entity.getCourt().getId(),
+                entity.getCourt().getCourtNumber(),
+                entity.getCustomer().getPhoneNumber(),
+                entity.getCustomer().getName(),
+                entity.getGameType(),
+                entity.getStartTime(),
+                entity.getEndTime(),
+                entity.getTotalPrice(),
+                entity.getCreatedAt());
+    }
+}
@@ -0,0 +1,8 @@
+package com.inqool.tennisclub.data.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Reservation totals of one group (court number, surface name or day) summed from the daily rollup
+ */
+public record StatsTotals(String group, Long reservations, Long bookedMinutes, BigDecimal revenue) {}
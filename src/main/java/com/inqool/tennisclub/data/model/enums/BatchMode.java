@@ -0,0 +1,13 @@
+package com.inqool.tennisclub.data.model.enums;
+
+public enum BatchMode {
+    /**
+     * Any rejected reservation fails the whole batch
+     */
+    ALL_OR_NOTHING,
+
+    /**
+     * Rejected reservations are reported, the rest is created
+     */
+    BEST_EFFORT
+}
@@ -7,6 +7,10 @@ public enum GameType {
     SINGLES("SINGLES"),
     DOUBLES("DOUBLES");
 
+    private static final BigDecimal SINGLES_MULTIPLIER = BigDecimal.valueOf(1.0);
+
+    private static final BigDecimal DOUBLES_MULTIPLIER = BigDecimal.valueOf(1.5);
+
     private final String value;
 
     GameType(String value) {
@@ -19,6 +23,6 @@ public enum GameType {
     }
 
     public BigDecimal getPriceMultiplier() {
-        return this == DOUBLES ? BigDecimal.valueOf(1.5) : BigDecimal.valueOf(1.0);
+        return this == DOUBLES ? DOUBLES_MULTIPLIER : SINGLES_MULTIPLIER;
     }
 }
@@ -0,0 +1,18 @@
+package com.inqool.tennisclub.data.model.enums;
+
+public enum StatsGrouping {
+    /**
+     * One group per court, labelled by court number
+     */
+    COURT,
+
+    /**
+     * One group per court surface, labelled by surface name
+     */
+    SURFACE,
+
+    /**
+     * One group per day, labelled by ISO date
+     */
+    DAY
+}
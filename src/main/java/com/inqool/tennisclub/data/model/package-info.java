@@ -0,0 +1,4 @@
+@FilterDef(name = ActiveFilter.NAME, defaultCondition = ActiveFilter.CONDITION, autoEnabled = true)
+package com.inqool.tennisclub.data.model;
+
+import org.hibernate.annotations.FilterDef;
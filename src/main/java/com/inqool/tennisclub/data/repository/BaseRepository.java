@@ -1,5 +1,6 @@
 package com.inqool.tennisclub.data.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,9 +29,24 @@ public interface BaseRepository<T, ID> {
     List<T> findAll();
 
     /**
-     * Soft delete entity by ID
+     * Find at most limit active entities with ID greater than afterId, ordered by ID.
+     * A null afterId starts from the first entity.
      */
-    void deleteById(ID id);
+    List<T> findAllAfter(ID afterId, int limit);
+
+    /**
+     * Soft delete entity by ID with one UPDATE statement
+     *
+     * @return true if an active entity was deleted
+     */
+    boolean deleteById(ID id);
+
+    /**
+     * Soft delete entities by IDs with one UPDATE statement per 1000 IDs
+     *
+     * @return number of deleted active entities
+     */
+    int deleteAllById(Collection<ID> ids);
 
     /**
      * Soft delete entity
@@ -46,4 +62,9 @@ public interface BaseRepository<T, ID> {
      * Count all active entities
      */
     long count();
+
+    /**
+     * Flush pending changes to the database
+     */
+    void flush();
 }
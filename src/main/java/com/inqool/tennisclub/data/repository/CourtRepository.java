@@ -2,6 +2,7 @@ package com.inqool.tennisclub.data.repository;
 
 import com.inqool.tennisclub.data.model.CourtEntity;
 import com.inqool.tennisclub.data.model.CourtSurfaceEntity;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,11 @@ public interface CourtRepository extends BaseRepository<CourtEntity, Long> {
      */
     Optional<CourtEntity> findByCourtNumber(Integer courtNumber);
 
+    /**
+     * Find active courts with any of given court numbers, with their surfaces loaded
+     */
+    List<CourtEntity> findByCourtNumbers(Collection<Integer> courtNumbers);
+
     /**
      * Find courts by surface type
      */
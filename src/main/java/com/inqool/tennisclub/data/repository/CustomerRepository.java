@@ -1,6 +1,8 @@
 package com.inqool.tennisclub.data.repository;
 
 import com.inqool.tennisclub.data.model.CustomerEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,4 +14,25 @@ public interface CustomerRepository extends BaseRepository<CustomerEntity, Long>
      * Find customer by phone number
      */
     Optional<CustomerEntity> findByPhoneNumber(String phoneNumber);
+
+    /**
+     * Find active customers with any of given phone numbers
+     */
+    List<CustomerEntity> findByPhoneNumbers(Collection<String> phoneNumbers);
+
+    /**
+     * Insert customer unless one with the same phone number exists, atomically with one statement.
+     * A soft deleted customer with the phone number is reactivated.
+     *
+     * @return given customer with assigned ID if inserted, the existing customer otherwise
+     */
+    CustomerEntity insertIfAbsent(CustomerEntity customer);
+
+    /**
+     * Insert customers unless ones with the same phone numbers exist, as one JDBC batch of upserts.
+     * Soft deleted customers with the phone numbers are reactivated.
+     *
+     * @return inserted customers with assigned IDs followed by the existing customers
+     */
+    List<CustomerEntity> insertAllIfAbsent(Collection<CustomerEntity> customers);
 }
@@ -0,0 +1,57 @@
+package com.inqool.tennisclub.data.repository;
+
+import com.inqool.tennisclub.data.model.ReservationDailyStatsEntity;
+import com.inqool.tennisclub.data.model.StatsTotals;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Repository of the daily reservation rollup (reservation_daily_stats).
+ * Rows are updated with deltas of the reservations written, whole courts can be recomputed
+ * from the reservation table with INSERT ... SELECT.
+ */
+public interface ReservationDailyStatsRepository {
+
+    /**
+     * Contribution of an active reservation to the rollup row of its court and start day
+     */
+    Optional<ReservationDailyStatsEntity> findContribution(Long reservationId);
+
+    /**
+     * Add totals of given delta, which may be negative, to the row of its court and day, creating it if missing
+     */
+    void add(ReservationDailyStatsEntity delta);
+
+    /**
+     * Recompute all rollup rows of given courts from active reservations
+     */
+    void refreshCourts(Collection<Long> courtIds);
+
+    /**
+     * Delete all rollup rows of given courts
+     */
+    void deleteCourts(Collection<Long> courtIds);
+
+    /**
+     * Totals per court number of days within [from, to), ordered by court number
+     */
+    List<StatsTotals> sumByCourt(LocalDate from, LocalDate to);
+
+    /**
+     * Totals per surface name of days within [from, to), ordered by surface name
+     */
+    List<StatsTotals> sumBySurface(LocalDate from, LocalDate to);
+
+    /**
+     * Totals per day within [from, to), ordered by day
+     */
+    List<StatsTotals> sumByDay(LocalDate from, LocalDate to);
+
+    /**
+     * Number of active courts per surface name
+     */
+    Map<String, Long> countCourtsBySurface();
+}
@@ -1,14 +1,25 @@
 package com.inqool.tennisclub.data.repository;
 
 import com.inqool.tennisclub.data.model.ReservationEntity;
+import com.inqool.tennisclub.data.model.ReservationSlot;
+import com.inqool.tennisclub.data.model.ReservationView;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
- * Repository interface for Reservation entities
+ * Repository interface for Reservation entities.
+ * List methods load customer, court and court surface in the same statement.
  */
 public interface ReservationRepository extends BaseRepository<ReservationEntity, Long> {
 
+    /**
+     * Find all active reservations
+     */
+    @Override
+    List<ReservationEntity> findAll();
+
     /**
      * Find reservations by court number, ordered by creation date
      */
@@ -24,8 +35,42 @@ public interface ReservationRepository extends BaseRepository<ReservationEntity,
      */
     List<ReservationEntity> findFutureReservationsByCustomerPhoneNumber(String phoneNumber);
 
+    /**
+     * Pass active reservations starting within [from, to) to the action, ordered by start time, without
+     * materializing the whole result. The persistence context is cleared periodically, so entities
+     * managed before the call become detached.
+     */
+    void forEachStartingBetween(OffsetDateTime from, OffsetDateTime to, Consumer<ReservationEntity> action);
+
     /**
      * Check if court is available for given time period
      */
     boolean isCourtAvailable(Long courtId, OffsetDateTime startTime, OffsetDateTime endTime);
+
+    /**
+     * Check if court is available for given time period, ignoring the given reservation
+     */
+    boolean isCourtAvailable(Long courtId, OffsetDateTime startTime, OffsetDateTime endTime, Long excludeReservationId);
+
+    /**
+     * Find time slots of active reservations on any of given courts overlapping [from, to)
+     */
+    List<ReservationSlot> findActiveSlotsOverlapping(Collection<Long> courtIds, OffsetDateTime from, OffsetDateTime to);
+
+    /**
+     * Soft delete active reservations of given courts with one UPDATE statement per 1000 reservations
+     *
+     * @return IDs of the deleted reservations
+     */
+    List<Long> deleteByCourtIds(Collection<Long> courtIds);
+
+    /**
+     * Find time slots of active reservations ending after given time
+     */
+    List<ReservationSlot> findActiveSlotsEndingAfter(OffsetDateTime time);
+
+    /**
+     * Find active reservations ending after given time with their court and customer details
+     */
+    List<ReservationView> findActiveViewsEndingAfter(OffsetDateTime time);
 }
@@ -1,30 +1,70 @@
 package com.inqool.tennisclub.data.repository.impl;
 
+import com.inqool.tennisclub.data.model.ActiveFilter;
 import com.inqool.tennisclub.data.repository.BaseRepository;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
-import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.persister.entity.EntityPersister;
 
 /**
  * Abstract base implementation of BaseRepository providing common CRUD operations
  * with soft delete support using JPA EntityManager.
+ * <p>
+ * Soft deleted rows are hidden from all queries by the {@link ActiveFilter} Hibernate filter,
+ * so queries do not repeat the 'active' condition. Bulk updates still state it explicitly.
+ * <p>
+ * All queries are defined in the constructor and registered as named queries,
+ * see {@link NamedQueryRepositoryImpl}.
  *
  * @param <T> Entity type
  * @param <ID> Primary key type
  */
-public abstract class BaseRepositoryImpl<T, ID> implements BaseRepository<T, ID> {
+public abstract class BaseRepositoryImpl<T, ID> extends NamedQueryRepositoryImpl implements BaseRepository<T, ID> {
 
-    @PersistenceContext
-    protected EntityManager entityManager;
+    private static final String FIND_BY_ID = "findById";
+
+    protected static final String FIND_ALL = "findAll";
+
+    private static final String FIND_FIRST_PAGE = "findFirstPage";
+
+    private static final String FIND_PAGE_AFTER = "findPageAfter";
+
+    private static final String EXISTS_BY_ID = "existsById";
+
+    private static final String COUNT = "count";
+
+    private static final String DELETE_ALL_BY_ID = "deleteAllById";
+
+    // IDs bound per UPDATE, well below the 65535 bind parameters PostgreSQL accepts in one statement
+    private static final int DELETE_CHUNK_SIZE = 1000;
 
     private final Class<T> entityClass;
 
+    private final EntityMetadata<T, ID> metadata;
+
     protected BaseRepositoryImpl(Class<T> entityClass) {
+        super(entityClass);
         this.entityClass = entityClass;
+        this.metadata = EntityMetadata.of(entityClass);
+
+        String entity = entityClass.getSimpleName();
+        defineQuery(FIND_BY_ID, "SELECT e FROM " + entity + " e WHERE e.id = :id");
+        defineQuery(FIND_ALL, "SELECT e FROM " + entity + " e");
+        // Keyset pages over the primary key, so each page is a range scan instead of an OFFSET skip
+        defineQuery(FIND_FIRST_PAGE, "SELECT e FROM " + entity + " e ORDER BY e.id");
+        defineQuery(FIND_PAGE_AFTER, "SELECT e FROM " + entity + " e WHERE e.id > :afterId ORDER BY e.id");
+        defineQuery(EXISTS_BY_ID, "SELECT COUNT(e) FROM " + entity + " e WHERE e.id = :id");
+        defineQuery(COUNT, "SELECT COUNT(e) FROM " + entity + " e");
+        defineQuery(
+                DELETE_ALL_BY_ID,
+                "UPDATE " + entity + " e SET e.active = false WHERE e.id IN :ids AND e.active = true");
     }
 
     @Override
@@ -33,7 +73,7 @@ public abstract class BaseRepositoryImpl<T, ID> implements BaseRepository<T, ID>
         if (entity == null) {
             throw new IllegalArgumentException("Entity cannot be null");
         }
-        if (getId(entity) == null) {
+        if (metadata.getId(entity) == null) {
             entityManager.persist(entity);
             return entity;
         } else {
@@ -46,9 +86,7 @@ public abstract class BaseRepositoryImpl<T, ID> implements BaseRepository<T, ID>
         if (id == null) {
             return Optional.empty();
         }
-        String queryStr = "SELECT e FROM " + entityClass.getSimpleName() + " e WHERE e.id = :id AND e.active = true";
-
-        TypedQuery<T> query = entityManager.createQuery(queryStr, entityClass);
+        TypedQuery<T> query = namedQuery(FIND_BY_ID, entityClass);
         query.setParameter("id", id);
 
         List<T> results = query.getResultList();
@@ -57,19 +95,60 @@ public abstract class BaseRepositoryImpl<T, ID> implements BaseRepository<T, ID>
 
     @Override
     public List<T> findAll() {
-        String queryStr = "SELECT e FROM " + entityClass.getSimpleName() + " e WHERE e.active = true";
-        TypedQuery<T> query = entityManager.createQuery(queryStr, entityClass);
-        return query.getResultList();
+        return namedQuery(FIND_ALL, entityClass).getResultList();
+    }
+
+    @Override
+    public List<T> findAllAfter(ID afterId, int limit) {
+        return createPageQuery(afterId, limit).getResultList();
+    }
+
+    /**
+     * Keyset page query over the primary key, starting after afterId or from the first entity if null
+     */
+    protected TypedQuery<T> createPageQuery(ID afterId, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        TypedQuery<T> query;
+        if (afterId == null) {
+            query = namedQuery(FIND_FIRST_PAGE, entityClass);
+        } else {
+            query = namedQuery(FIND_PAGE_AFTER, entityClass);
+            query.setParameter("afterId", afterId);
+        }
+        query.setMaxResults(limit);
+        return query;
     }
 
     @Override
     @Transactional
-    public void deleteById(ID id) {
+    public boolean deleteById(ID id) {
         if (id == null) {
             throw new IllegalArgumentException("Entity cannot be null");
         }
-        Optional<T> entity = findById(id);
-        entity.ifPresent(this::delete);
+        return deleteAllById(List.of(id)) > 0;
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllById(Collection<ID> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("IDs cannot be null");
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // Pending changes must reach the database before the bulk update bypasses the persistence context
+        entityManager.flush();
+        List<ID> idList = List.copyOf(ids);
+        int deleted = 0;
+        for (int from = 0; from < idList.size(); from += DELETE_CHUNK_SIZE) {
+            List<ID> chunk = idList.subList(from, Math.min(from + DELETE_CHUNK_SIZE, idList.size()));
+            deleted += namedUpdate(DELETE_ALL_BY_ID).setParameter("ids", chunk).executeUpdate();
+        }
+        markManagedDeleted(ids);
+        return deleted;
     }
 
     @Override
@@ -78,15 +157,12 @@ public abstract class BaseRepositoryImpl<T, ID> implements BaseRepository<T, ID>
         if (entity == null) {
             throw new IllegalArgumentException("Entity cannot be null");
         }
-        try {
-            // Soft delete - set active field to false
-            Field activeField = entityClass.getDeclaredField("active");
-            activeField.setAccessible(true);
-            activeField.set(entity, false);
-            entityManager.merge(entity);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException("Entity must have 'active' field for soft delete", e);
+        ID id = metadata.getId(entity);
+        if (id != null) {
+            deleteAllById(List.of(id));
         }
+        // Soft delete - set active field to false
+        metadata.setActive(entity, false);
     }
 
     @Override
@@ -94,31 +170,54 @@ public abstract class BaseRepositoryImpl<T, ID> implements BaseRepository<T, ID>
         if (id == null) {
             return false;
         }
-        String queryStr =
-                "SELECT COUNT(e) FROM " + entityClass.getSimpleName() + " e WHERE e.id = :id AND e.active = true";
-        TypedQuery<Long> query = entityManager.createQuery(queryStr, Long.class);
+        TypedQuery<Long> query = namedQuery(EXISTS_BY_ID, Long.class);
         query.setParameter("id", id);
         return query.getSingleResult() > 0;
     }
 
     @Override
     public long count() {
-        String queryStr = "SELECT COUNT(e) FROM " + entityClass.getSimpleName() + " e WHERE e.active = true";
-        TypedQuery<Long> query = entityManager.createQuery(queryStr, Long.class);
-        return query.getSingleResult();
+        return namedQuery(COUNT, Long.class).getSingleResult();
+    }
+
+    @Override
+    public void flush() {
+        entityManager.flush();
     }
 
     /**
-     * Extract ID from entity using reflection
+     * Allocate an ID from the entity's generator without persisting it,
+     * for inserts bypassing the persistence context
      */
     @SuppressWarnings("unchecked")
-    private ID getId(T entity) {
-        try {
-            Field idField = entityClass.getDeclaredField("id");
-            idField.setAccessible(true);
-            return (ID) idField.get(entity);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException("Entity must have 'id' field", e);
+    protected ID nextId(T entity) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityClass);
+        if (!(persister.getGenerator() instanceof BeforeExecutionGenerator generator)) {
+            throw new IllegalStateException("Entity " + entityClass.getSimpleName() + " has no ID generator");
+        }
+        return (ID) generator.generate(session, entity, null, EventType.INSERT);
+    }
+
+    /**
+     * Mark managed instances of entities soft deleted by a bulk update as inactive, including their
+     * loaded state, so dirty checking does not write them again. Entities not loaded stay untouched.
+     */
+    protected void markManagedDeleted(Collection<ID> ids) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityClass);
+        int activeIndex = persister.getPropertyIndex("active");
+        for (ID id : ids) {
+            @SuppressWarnings("unchecked")
+            T managed = (T) session.getPersistenceContextInternal().getEntity(session.generateEntityKey(id, persister));
+            if (managed == null) {
+                continue;
+            }
+            metadata.setActive(managed, false);
+            EntityEntry entry = session.getPersistenceContextInternal().getEntry(managed);
+            if (entry != null && entry.getLoadedState() != null) {
+                entry.getLoadedState()[activeIndex] = false;
+            }
         }
     }
 }
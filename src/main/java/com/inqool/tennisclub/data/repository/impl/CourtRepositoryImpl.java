@@ -3,6 +3,7 @@ package com.inqool.tennisclub.data.repository.impl;
 import com.inqool.tennisclub.data.model.*;
 import com.inqool.tennisclub.data.repository.*;
 import jakarta.persistence.TypedQuery;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
@@ -10,8 +11,37 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class CourtRepositoryImpl extends BaseRepositoryImpl<CourtEntity, Long> implements CourtRepository {
 
+    private static final String FIND_BY_ID_WITH_SURFACE = "findByIdWithSurface";
+
+    private static final String FIND_BY_COURT_NUMBER = "findByCourtNumber";
+
+    private static final String FIND_BY_COURT_NUMBERS = "findByCourtNumbers";
+
+    private static final String FIND_BY_COURT_SURFACE = "findByCourtSurface";
+
     public CourtRepositoryImpl() {
         super(CourtEntity.class);
+        // Single court lookups fetch the surface too, the court is cached and used detached by CourtService
+        defineQuery(FIND_BY_ID_WITH_SURFACE, "SELECT c FROM CourtEntity c JOIN FETCH c.courtSurface WHERE c.id = :id");
+        defineQuery(
+                FIND_BY_COURT_NUMBER,
+                "SELECT c FROM CourtEntity c JOIN FETCH c.courtSurface WHERE c.courtNumber = :courtNumber");
+        defineQuery(
+                FIND_BY_COURT_NUMBERS,
+                "SELECT c FROM CourtEntity c JOIN FETCH c.courtSurface WHERE c.courtNumber IN :courtNumbers");
+        defineQuery(FIND_BY_COURT_SURFACE, "SELECT c FROM CourtEntity c WHERE c.courtSurface = :courtSurface");
+    }
+
+    @Override
+    public Optional<CourtEntity> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        TypedQuery<CourtEntity> query = namedQuery(FIND_BY_ID_WITH_SURFACE, CourtEntity.class);
+        query.setParameter("id", id);
+
+        List<CourtEntity> results = query.getResultList();
+        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
     }
 
     @Override
@@ -19,21 +49,29 @@ public class CourtRepositoryImpl extends BaseRepositoryImpl<CourtEntity, Long> i
         if (courtNumber == null) {
             return Optional.empty();
         }
-        String queryStr = "SELECT c FROM CourtEntity c WHERE c.courtNumber = :courtNumber AND c.active = true";
-        TypedQuery<CourtEntity> query = entityManager.createQuery(queryStr, CourtEntity.class);
+        TypedQuery<CourtEntity> query = namedQuery(FIND_BY_COURT_NUMBER, CourtEntity.class);
         query.setParameter("courtNumber", courtNumber);
 
         List<CourtEntity> results = query.getResultList();
         return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
     }
 
+    @Override
+    public List<CourtEntity> findByCourtNumbers(Collection<Integer> courtNumbers) {
+        if (courtNumbers == null || courtNumbers.isEmpty()) {
+            return List.of();
+        }
+        TypedQuery<CourtEntity> query = namedQuery(FIND_BY_COURT_NUMBERS, CourtEntity.class);
+        query.setParameter("courtNumbers", courtNumbers);
+        return query.getResultList();
+    }
+
     @Override
     public List<CourtEntity> findByCourtSurface(CourtSurfaceEntity courtSurface) {
         if (courtSurface == null) {
             return List.of();
         }
-        String queryStr = "SELECT c FROM CourtEntity c WHERE c.courtSurface = :courtSurface AND c.active = true";
-        TypedQuery<CourtEntity> query = entityManager.createQuery(queryStr, CourtEntity.class);
+        TypedQuery<CourtEntity> query = namedQuery(FIND_BY_COURT_SURFACE, CourtEntity.class);
         query.setParameter("courtSurface", courtSurface);
         return query.getResultList();
     }
@@ -11,8 +11,11 @@ import org.springframework.stereotype.Repository;
 public class CourtSurfaceRepositoryImpl extends BaseRepositoryImpl<CourtSurfaceEntity, Long>
         implements CourtSurfaceRepository {
 
+    private static final String FIND_BY_SURFACE_NAME = "findBySurfaceName";
+
     public CourtSurfaceRepositoryImpl() {
         super(CourtSurfaceEntity.class);
+        defineQuery(FIND_BY_SURFACE_NAME, "SELECT cs FROM CourtSurfaceEntity cs WHERE cs.surfaceName = :surfaceName");
     }
 
     @Override
@@ -20,9 +23,7 @@ public class CourtSurfaceRepositoryImpl extends BaseRepositoryImpl<CourtSurfaceE
         if (surfaceName == null || surfaceName.trim().isEmpty()) {
             return Optional.empty();
         }
-        String queryStr =
-                "SELECT cs FROM CourtSurfaceEntity cs WHERE cs.surfaceName = :surfaceName AND cs.active = true";
-        TypedQuery<CourtSurfaceEntity> query = entityManager.createQuery(queryStr, CourtSurfaceEntity.class);
+        TypedQuery<CourtSurfaceEntity> query = namedQuery(FIND_BY_SURFACE_NAME, CourtSurfaceEntity.class);
         query.setParameter("surfaceName", surfaceName);
 
         List<CourtSurfaceEntity> results = query.getResultList();
@@ -1,17 +1,51 @@
 package com.inqool.tennisclub.data.repository.impl;
 
+import com.inqool.tennisclub.data.model.ActiveFilter;
 import com.inqool.tennisclub.data.model.CustomerEntity;
 import com.inqool.tennisclub.data.repository.CustomerRepository;
 import jakarta.persistence.TypedQuery;
+import jakarta.transaction.Transactional;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class CustomerRepositoryImpl extends BaseRepositoryImpl<CustomerEntity, Long> implements CustomerRepository {
 
+    private static final String FIND_BY_PHONE_NUMBER = "findByPhoneNumber";
+
+    private static final String FIND_BY_PHONE_NUMBERS = "findByPhoneNumbers";
+
+    private static final String REACTIVATE_BY_PHONE_NUMBERS = "reactivateByPhoneNumbers";
+
+    /**
+     * Native SQL, Hibernate renders HQL ON CONFLICT DO NOTHING as a plain INSERT on H2, which fails on an
+     * existing phone number. Parameters are id, phone number and name, the update count is 0 when it exists.
+     */
+    private static final String INSERT_IF_ABSENT_POSTGRESQL = "INSERT INTO customer (id, phone_number, name, active) "
+            + "VALUES (?, ?, ?, true) ON CONFLICT (phone_number) DO NOTHING";
+
+    private static final String INSERT_IF_ABSENT_H2 = "MERGE INTO customer c "
+            + "USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(20)), CAST(? AS VARCHAR(255)))) "
+            + "s (id, phone_number, name) ON c.phone_number = s.phone_number "
+            + "WHEN NOT MATCHED THEN INSERT (id, phone_number, name, active) "
+            + "VALUES (s.id, s.phone_number, s.name, true)";
+
     public CustomerRepositoryImpl() {
         super(CustomerEntity.class);
+        defineQuery(FIND_BY_PHONE_NUMBER, "SELECT c FROM CustomerEntity c WHERE c.phoneNumber = :phoneNumber");
+        defineQuery(FIND_BY_PHONE_NUMBERS, "SELECT c FROM CustomerEntity c WHERE c.phoneNumber IN :phoneNumbers");
+        defineQuery(
+                REACTIVATE_BY_PHONE_NUMBERS,
+                "UPDATE CustomerEntity c SET c.active = true "
+                        + "WHERE c.phoneNumber IN :phoneNumbers AND c.active = false");
     }
 
     @Override
@@ -19,11 +53,105 @@ public class CustomerRepositoryImpl extends BaseRepositoryImpl<CustomerEntity, L
         if (phoneNumber == null || phoneNumber.trim().isEmpty()) {
             return Optional.empty();
         }
-        String queryStr = "SELECT c FROM CustomerEntity c WHERE c.phoneNumber = :phoneNumber AND c.active = true";
-        TypedQuery<CustomerEntity> query = entityManager.createQuery(queryStr, CustomerEntity.class);
+        TypedQuery<CustomerEntity> query = namedQuery(FIND_BY_PHONE_NUMBER, CustomerEntity.class);
         query.setParameter("phoneNumber", phoneNumber);
 
         List<CustomerEntity> results = query.getResultList();
         return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
     }
+
+    @Override
+    public List<CustomerEntity> findByPhoneNumbers(Collection<String> phoneNumbers) {
+        if (phoneNumbers == null || phoneNumbers.isEmpty()) {
+            return List.of();
+        }
+        TypedQuery<CustomerEntity> query = namedQuery(FIND_BY_PHONE_NUMBERS, CustomerEntity.class);
+        query.setParameter("phoneNumbers", phoneNumbers);
+        return query.getResultList();
+    }
+
+    @Override
+    @Transactional
+    public CustomerEntity insertIfAbsent(CustomerEntity customer) {
+        if (customer == null || customer.getPhoneNumber() == null) {
+            throw new IllegalArgumentException("Customer and phone number cannot be null");
+        }
+        return insertAllIfAbsent(List.of(customer)).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<CustomerEntity> insertAllIfAbsent(Collection<CustomerEntity> customers) {
+        if (customers == null || customers.stream().anyMatch(c -> c == null || c.getPhoneNumber() == null)) {
+            throw new IllegalArgumentException("Customers and phone numbers cannot be null");
+        }
+        if (customers.isEmpty()) {
+            return List.of();
+        }
+        // Customers persisted in this transaction must conflict with the inserts below
+        entityManager.flush();
+
+        List<CustomerEntity> batch = List.copyOf(customers);
+        List<Long> ids = batch.stream().map(this::nextId).toList();
+        int[] inserted = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(insertIfAbsentSql())) {
+                for (int i = 0; i < batch.size(); i++) {
+                    statement.setLong(1, ids.get(i));
+                    statement.setString(2, batch.get(i).getPhoneNumber());
+                    statement.setString(3, batch.get(i).getName());
+                    statement.addBatch();
+                }
+                return statement.executeBatch();
+            }
+        });
+
+        List<CustomerEntity> result = new ArrayList<>(batch.size());
+        List<String> existing = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            CustomerEntity customer = batch.get(i);
+            if (inserted[i] > 0) {
+                customer.setId(ids.get(i));
+                customer.setActive(true);
+                result.add(customer);
+            } else {
+                existing.add(customer.getPhoneNumber());
+            }
+        }
+        if (existing.isEmpty()) {
+            return result;
+        }
+
+        // Inserted by a concurrent transaction (the INSERT waited for its commit) or soft deleted
+        // The active filter applies to bulk updates too and would hide the soft deleted rows
+        Session session = entityManager.unwrap(Session.class);
+        session.disableFilter(ActiveFilter.NAME);
+        int reactivated;
+        try {
+            reactivated = namedUpdate(REACTIVATE_BY_PHONE_NUMBERS)
+                    .setParameter("phoneNumbers", existing)
+                    .executeUpdate();
+        } finally {
+            session.enableFilter(ActiveFilter.NAME);
+        }
+        List<CustomerEntity> found = findByPhoneNumbers(existing);
+        if (found.size() < existing.size()) {
+            throw new IllegalStateException(
+                    "Customer with one of phone numbers " + existing + " was deleted concurrently");
+        }
+        if (reactivated > 0) {
+            // Soft deleted customers loaded before the bulk update are still inactive in the persistence context
+            found.stream().filter(customer -> !customer.isActive()).forEach(entityManager::refresh);
+        }
+        result.addAll(found);
+        return result;
+    }
+
+    private String insertIfAbsentSql() {
+        Dialect dialect = entityManager
+                .getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+        return dialect instanceof H2Dialect ? INSERT_IF_ABSENT_H2 : INSERT_IF_ABSENT_POSTGRESQL;
+    }
 }
@@ -0,0 +1,57 @@
+package com.inqool.tennisclub.data.repository.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Accessors of the 'id' and 'active' fields of an entity class, resolved once per repository
+ * instead of looking the fields up by reflection on every save and delete.
+ *
+ * @param <T> Entity type
+ * @param <ID> Primary key type
+ */
+public final class EntityMetadata<T, ID> {
+
+    private final VarHandle id;
+
+    private final VarHandle active;
+
+    private EntityMetadata(VarHandle id, VarHandle active) {
+        this.id = id;
+        this.active = active;
+    }
+
+    /**
+     * Resolve accessors of given entity class
+     *
+     * @throws IllegalStateException if the class does not declare 'id' and 'active' fields
+     */
+    public static <T, ID> EntityMetadata<T, ID> of(Class<T> entityClass) {
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(entityClass, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access fields of " + entityClass.getSimpleName(), e);
+        }
+        return new EntityMetadata<>(
+                findField(lookup, entityClass, "id", "Entity must have 'id' field"),
+                findField(lookup, entityClass, "active", "Entity must have 'active' field for soft delete"));
+    }
+
+    @SuppressWarnings("unchecked")
+    public ID getId(T entity) {
+        return (ID) id.get(entity);
+    }
+
+    public void setActive(T entity, boolean value) {
+        active.set(entity, value);
+    }
+
+    private static VarHandle findField(MethodHandles.Lookup lookup, Class<?> entityClass, String name, String message) {
+        try {
+            return lookup.findVarHandle(entityClass, name, entityClass.getDeclaredField(name).getType());
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException(message, e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.inqool.tennisclub.data.repository.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Base of repositories whose queries are defined once, in the constructor, and registered as named
+ * queries when the repository is initialized. Hibernate parses and validates them at startup, executions
+ * then only hit the query plan cache instead of building a new JPQL string per call. Names are prefixed
+ * with the entity name.
+ * <p>
+ * Queries of second-level cached entities ({@link Cacheable}) also use the Hibernate query cache.
+ */
+public abstract class NamedQueryRepositoryImpl {
+
+    private static final String CACHEABLE_HINT = "org.hibernate.cacheable";
+
+    @PersistenceContext
+    protected EntityManager entityManager;
+
+    private final String queryPrefix;
+
+    private final Map<String, String> queries = new LinkedHashMap<>();
+
+    private final boolean queryCacheable;
+
+    protected NamedQueryRepositoryImpl(Class<?> entityClass) {
+        this.queryPrefix = entityClass.getSimpleName() + ".";
+        this.queryCacheable = entityClass.isAnnotationPresent(Cacheable.class);
+    }
+
+    /**
+     * Define a query of this repository, registered as named query on startup.
+     * Must be called from the constructor.
+     */
+    protected final void defineQuery(String name, String queryStr) {
+        if (queries.putIfAbsent(name, queryStr) != null) {
+            throw new IllegalStateException("Query " + name + " is already defined");
+        }
+    }
+
+    /**
+     * Create a typed query from a query defined by defineQuery, cached if the entity is cacheable
+     */
+    protected final <R> TypedQuery<R> namedQuery(String name, Class<R> resultClass) {
+        TypedQuery<R> query = entityManager.createNamedQuery(qualifiedName(name), resultClass);
+        if (queryCacheable) {
+            query.setHint(CACHEABLE_HINT, true);
+        }
+        return query;
+    }
+
+    /**
+     * Create an update query from a query defined by defineQuery
+     */
+    protected final Query namedUpdate(String name) {
+        return entityManager.createNamedQuery(qualifiedName(name));
+    }
+
+    @PostConstruct
+    private void registerQueries() {
+        EntityManagerFactory entityManagerFactory = entityManager.getEntityManagerFactory();
+        EntityManager registrar = entityManagerFactory.createEntityManager();
+        try {
+            queries.forEach((name, queryStr) ->
+                    entityManagerFactory.addNamedQuery(qualifiedName(name), registrar.createQuery(queryStr)));
+        } finally {
+            registrar.close();
+        }
+    }
+
+    private String qualifiedName(String name) {
+        return queryPrefix + name;
+    }
+}
@@ -0,0 +1,171 @@
+package com.inqool.tennisclub.data.repository.impl;
+
+import com.inqool.tennisclub.data.model.ReservationDailyStatsEntity;
+import com.inqool.tennisclub.data.model.StatsTotals;
+import com.inqool.tennisclub.data.repository.ReservationDailyStatsRepository;
+import jakarta.transaction.Transactional;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ReservationDailyStatsRepositoryImpl extends NamedQueryRepositoryImpl
+        implements ReservationDailyStatsRepository {
+
+    private static final String FIND_CONTRIBUTION = "findContribution";
+
+    private static final String ADD = "add";
+
+    private static final String DELETE_COURTS = "deleteCourts";
+
+    private static final String INSERT_COURTS = "insertCourts";
+
+    private static final String SUM_BY_COURT = "sumByCourt";
+
+    private static final String SUM_BY_SURFACE = "sumBySurface";
+
+    private static final String SUM_BY_DAY = "sumByDay";
+
+    private static final String COUNT_COURTS_BY_SURFACE = "countCourtsBySurface";
+
+    private static final String RESERVATION_DAY = "cast(r.startTime as LocalDate)";
+
+    private static final String INSERT_SELECT = "INSERT INTO ReservationDailyStatsEntity "
+            + "(courtId, day, reservations, bookedMinutes, revenue) "
+            + "SELECT r.court.id, " + RESERVATION_DAY + ", count(r), "
+            + "sum((r.endTime - r.startTime) by minute), sum(r.totalPrice) "
+            + "FROM ReservationEntity r WHERE r.active = true AND r.court.id IN :courtIds ";
+
+    private static final String GROUP_BY_COURT_DAY = "GROUP BY r.court.id, " + RESERVATION_DAY;
+
+    private static final String SELECT_TOTALS = "SELECT new com.inqool.tennisclub.data.model.StatsTotals(";
+
+    private static final String SUMS = ", sum(s.reservations), sum(s.bookedMinutes), sum(s.revenue)) "
+            + "FROM ReservationDailyStatsEntity s ";
+
+    private static final String IN_RANGE = "WHERE s.day >= :from AND s.day < :to ";
+
+    // Rows of days whose reservations were all removed stay in the table with zero totals
+    private static final String NOT_EMPTY = "HAVING sum(s.reservations) > 0 ";
+
+    public ReservationDailyStatsRepositoryImpl() {
+        super(ReservationDailyStatsEntity.class);
+        defineQuery(
+                FIND_CONTRIBUTION,
+                "SELECT new com.inqool.tennisclub.data.model.ReservationDailyStatsEntity(r.court.id, "
+                        + RESERVATION_DAY + ", 1L, (r.endTime - r.startTime) by minute, r.totalPrice) "
+                        + "FROM ReservationEntity r WHERE r.id = :id");
+        // Rendered as INSERT ... ON CONFLICT on PostgreSQL and as MERGE on H2
+        defineQuery(
+                ADD,
+                "INSERT INTO ReservationDailyStatsEntity (courtId, day, reservations, bookedMinutes, revenue) "
+                        + "VALUES (:courtId, :day, :reservations, :bookedMinutes, :revenue) "
+                        + "ON CONFLICT (courtId, day) DO UPDATE SET "
+                        + "reservations = reservations + excluded.reservations, "
+                        + "bookedMinutes = bookedMinutes + excluded.bookedMinutes, "
+                        + "revenue = revenue + excluded.revenue");
+        defineQuery(DELETE_COURTS, "DELETE FROM ReservationDailyStatsEntity s WHERE s.courtId IN :courtIds");
+        defineQuery(INSERT_COURTS, INSERT_SELECT + GROUP_BY_COURT_DAY);
+        defineQuery(
+                SUM_BY_COURT,
+                SELECT_TOTALS + "cast(c.courtNumber as String)" + SUMS + "JOIN CourtEntity c ON c.id = s.courtId "
+                        + IN_RANGE + "GROUP BY c.courtNumber " + NOT_EMPTY + "ORDER BY c.courtNumber");
+        defineQuery(
+                SUM_BY_SURFACE,
+                SELECT_TOTALS + "cs.surfaceName" + SUMS + "JOIN CourtEntity c ON c.id = s.courtId "
+                        + "JOIN c.courtSurface cs " + IN_RANGE + "GROUP BY cs.surfaceName " + NOT_EMPTY
+                        + "ORDER BY cs.surfaceName");
+        defineQuery(
+                SUM_BY_DAY,
+                SELECT_TOTALS + "cast(s.day as String)" + SUMS + IN_RANGE + "GROUP BY s.day " + NOT_EMPTY
+                        + "ORDER BY s.day");
+        defineQuery(
+                COUNT_COURTS_BY_SURFACE,
+                "SELECT cs.surfaceName, count(c) FROM CourtEntity c JOIN c.courtSurface cs WHERE c.active = true "
+                        + "GROUP BY cs.surfaceName");
+    }
+
+    @Override
+    public Optional<ReservationDailyStatsEntity> findContribution(Long reservationId) {
+        if (reservationId == null) {
+            return Optional.empty();
+        }
+        List<ReservationDailyStatsEntity> results = namedQuery(FIND_CONTRIBUTION, ReservationDailyStatsEntity.class)
+                .setParameter("id", reservationId)
+                .getResultList();
+        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
+    }
+
+    @Override
+    @Transactional
+    public void add(ReservationDailyStatsEntity delta) {
+        if (delta == null || delta.getCourtId() == null || delta.getDay() == null) {
+            throw new IllegalArgumentException("Delta, court and day cannot be null");
+        }
+        namedUpdate(ADD)
+                .setParameter("courtId", delta.getCourtId())
+                .setParameter("day", delta.getDay())
+                .setParameter("reservations", delta.getReservations())
+                .setParameter("bookedMinutes", delta.getBookedMinutes())
+                .setParameter("revenue", delta.getRevenue())
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void refreshCourts(Collection<Long> courtIds) {
+        if (courtIds == null || courtIds.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        deleteCourts(courtIds);
+        namedUpdate(INSERT_COURTS).setParameter("courtIds", courtIds).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void deleteCourts(Collection<Long> courtIds) {
+        if (courtIds == null || courtIds.isEmpty()) {
+            return;
+        }
+        namedUpdate(DELETE_COURTS).setParameter("courtIds", courtIds).executeUpdate();
+    }
+
+    @Override
+    public List<StatsTotals> sumByCourt(LocalDate from, LocalDate to) {
+        return sum(SUM_BY_COURT, from, to);
+    }
+
+    @Override
+    public List<StatsTotals> sumBySurface(LocalDate from, LocalDate to) {
+        return sum(SUM_BY_SURFACE, from, to);
+    }
+
+    @Override
+    public List<StatsTotals> sumByDay(LocalDate from, LocalDate to) {
+        return sum(SUM_BY_DAY, from, to);
+    }
+
+    @Override
+    public Map<String, Long> countCourtsBySurface() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        namedQuery(COUNT_COURTS_BY_SURFACE, Object[].class)
+                .getResultList()
+                .forEach(row -> counts.put((String) row[0], (Long) row[1]));
+        return counts;
+    }
+
+    private List<StatsTotals> sum(String queryName, LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("From and to cannot be null");
+        }
+        return namedQuery(queryName, StatsTotals.class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList();
+    }
+}
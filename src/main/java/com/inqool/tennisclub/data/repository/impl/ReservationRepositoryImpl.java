@@ -1,18 +1,83 @@
 package com.inqool.tennisclub.data.repository.impl;
 
 import com.inqool.tennisclub.data.model.ReservationEntity;
+import com.inqool.tennisclub.data.model.ReservationSlot;
+import com.inqool.tennisclub.data.model.ReservationView;
 import com.inqool.tennisclub.data.repository.ReservationRepository;
 import jakarta.persistence.TypedQuery;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class ReservationRepositoryImpl extends BaseRepositoryImpl<ReservationEntity, Long>
         implements ReservationRepository {
 
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    private static final String FETCH_SIZE_HINT = "org.hibernate.fetchSize";
+
+    // Rows fetched per round trip and kept in the persistence context while streaming
+    private static final int STREAM_BATCH_SIZE = 500;
+
+    private static final String FIND_BY_COURT_NUMBER = "findByCourtNumberOrderByCreatedAt";
+
+    private static final String FIND_BY_PHONE_NUMBER = "findByCustomerPhoneNumber";
+
+    private static final String FIND_FUTURE_BY_PHONE_NUMBER = "findFutureReservationsByCustomerPhoneNumber";
+
+    private static final String FIND_STARTING_BETWEEN = "findStartingBetween";
+
+    private static final String COUNT_OVERLAPPING = "countOverlapping";
+
+    private static final String COUNT_OVERLAPPING_EXCLUDING = "countOverlappingExcluding";
+
+    private static final String FIND_SLOTS_OVERLAPPING = "findActiveSlotsOverlapping";
+
+    private static final String FIND_SLOTS_ENDING_AFTER = "findActiveSlotsEndingAfter";
+
+    private static final String FIND_VIEWS_ENDING_AFTER = "findActiveViewsEndingAfter";
+
+    private static final String FIND_IDS_BY_COURT_IDS = "findIdsByCourtIds";
+
+    private static final String SELECT_SLOT =
+            "SELECT new com.inqool.tennisclub.data.model.ReservationSlot(r.id, r.court.id, r.startTime, r.endTime) ";
+
+    private static final String COUNT_OVERLAPPING_QUERY =
+            "SELECT COUNT(r) FROM ReservationEntity r WHERE r.court.id = :courtId "
+                    + "AND NOT (r.endTime <= :startTime OR r.startTime >= :endTime)";
+
     public ReservationRepositoryImpl() {
         super(ReservationEntity.class);
+        defineQuery(
+                FIND_BY_COURT_NUMBER,
+                "SELECT r FROM ReservationEntity r WHERE r.court.courtNumber = :courtNumber ORDER BY r.createdAt");
+        defineQuery(
+                FIND_BY_PHONE_NUMBER, "SELECT r FROM ReservationEntity r WHERE r.customer.phoneNumber = :phoneNumber");
+        defineQuery(
+                FIND_FUTURE_BY_PHONE_NUMBER,
+                "SELECT r FROM ReservationEntity r WHERE r.customer.phoneNumber = :phoneNumber AND r.startTime > :now");
+        defineQuery(
+                FIND_STARTING_BETWEEN,
+                "SELECT r FROM ReservationEntity r WHERE r.startTime >= :from AND r.startTime < :to "
+                        + "ORDER BY r.startTime, r.id");
+        defineQuery(COUNT_OVERLAPPING, COUNT_OVERLAPPING_QUERY);
+        defineQuery(COUNT_OVERLAPPING_EXCLUDING, COUNT_OVERLAPPING_QUERY + " AND r.id != :excludeReservationId");
+        defineQuery(
+                FIND_SLOTS_OVERLAPPING,
+                SELECT_SLOT + "FROM ReservationEntity r WHERE r.court.id IN :courtIds "
+                        + "AND r.endTime > :from AND r.startTime < :to");
+        defineQuery(FIND_SLOTS_ENDING_AFTER, SELECT_SLOT + "FROM ReservationEntity r WHERE r.endTime > :time");
+        defineQuery(
+                FIND_VIEWS_ENDING_AFTER,
+                "SELECT new com.inqool.tennisclub.data.model.ReservationView(r.id, c.id, c.courtNumber, "
+                        + "cu.phoneNumber, cu.name, r.gameType, r.startTime, r.endTime, r.totalPrice, r.createdAt) "
+                        + "FROM ReservationEntity r JOIN r.court c JOIN r.customer cu WHERE r.endTime > :time");
+        defineQuery(FIND_IDS_BY_COURT_IDS, "SELECT r.id FROM ReservationEntity r WHERE r.court.id IN :courtIds");
     }
 
     /**
@@ -45,18 +110,34 @@ public class ReservationRepositoryImpl extends BaseRepositoryImpl<ReservationEnt
         return phoneNumber.trim();
     }
 
+    /**
+     * Load customer and court in the same statement,
+     * so mapping a list of reservations does not trigger a lazy load per row
+     */
+    private TypedQuery<ReservationEntity> withDetails(TypedQuery<ReservationEntity> query) {
+        return query.setHint(FETCH_GRAPH_HINT, entityManager.getEntityGraph(ReservationEntity.DETAILS_GRAPH));
+    }
+
+    @Override
+    public List<ReservationEntity> findAll() {
+        return withDetails(namedQuery(FIND_ALL, ReservationEntity.class))
+                .getResultList();
+    }
+
+    @Override
+    public List<ReservationEntity> findAllAfter(Long afterId, int limit) {
+        return withDetails(createPageQuery(afterId, limit)).getResultList();
+    }
+
     @Override
     public List<ReservationEntity> findByCourtNumberOrderByCreatedAt(Integer courtNumber) {
         if (courtNumber == null) {
             return List.of();
         }
 
-        String queryStr = "SELECT r FROM ReservationEntity r "
-                + "WHERE r.court.courtNumber = :courtNumber AND r.active = true "
-                + "ORDER BY r.createdAt";
-        TypedQuery<ReservationEntity> query = entityManager.createQuery(queryStr, ReservationEntity.class);
+        TypedQuery<ReservationEntity> query = namedQuery(FIND_BY_COURT_NUMBER, ReservationEntity.class);
         query.setParameter("courtNumber", courtNumber);
-        return query.getResultList();
+        return withDetails(query).getResultList();
     }
 
     @Override
@@ -65,11 +146,9 @@ public class ReservationRepositoryImpl extends BaseRepositoryImpl<ReservationEnt
             return List.of();
         }
 
-        String queryStr = "SELECT r FROM ReservationEntity r "
-                + "WHERE r.customer.phoneNumber = :phoneNumber AND r.active = true";
-        TypedQuery<ReservationEntity> query = entityManager.createQuery(queryStr, ReservationEntity.class);
+        TypedQuery<ReservationEntity> query = namedQuery(FIND_BY_PHONE_NUMBER, ReservationEntity.class);
         query.setParameter("phoneNumber", getTrimmedPhoneNumber(phoneNumber));
-        return query.getResultList();
+        return withDetails(query).getResultList();
     }
 
     @Override
@@ -78,13 +157,33 @@ public class ReservationRepositoryImpl extends BaseRepositoryImpl<ReservationEnt
             return List.of();
         }
 
-        String queryStr = "SELECT r FROM ReservationEntity r "
-                + "WHERE r.customer.phoneNumber = :phoneNumber "
-                + "AND r.startTime > :now AND r.active = true";
-        TypedQuery<ReservationEntity> query = entityManager.createQuery(queryStr, ReservationEntity.class);
+        TypedQuery<ReservationEntity> query = namedQuery(FIND_FUTURE_BY_PHONE_NUMBER, ReservationEntity.class);
         query.setParameter("phoneNumber", getTrimmedPhoneNumber(phoneNumber));
         query.setParameter("now", OffsetDateTime.now());
-        return query.getResultList();
+        return withDetails(query).getResultList();
+    }
+
+    @Override
+    public void forEachStartingBetween(OffsetDateTime from, OffsetDateTime to, Consumer<ReservationEntity> action) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("From and to cannot be null");
+        }
+
+        TypedQuery<ReservationEntity> query = namedQuery(FIND_STARTING_BETWEEN, ReservationEntity.class);
+        query.setParameter("from", from);
+        query.setParameter("to", to);
+        query.setHint(FETCH_SIZE_HINT, STREAM_BATCH_SIZE);
+
+        try (Stream<ReservationEntity> reservations = withDetails(query).getResultStream()) {
+            Iterator<ReservationEntity> iterator = reservations.iterator();
+            int processed = 0;
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                if (++processed % STREAM_BATCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
     }
 
     @Override
@@ -92,20 +191,14 @@ public class ReservationRepositoryImpl extends BaseRepositoryImpl<ReservationEnt
         return isCourtAvailable(courtId, startTime, endTime, null);
     }
 
+    @Override
     public boolean isCourtAvailable(
             Long courtId, OffsetDateTime startTime, OffsetDateTime endTime, Long excludeReservationId) {
 
         validateCourtAvailabilityParams(courtId, startTime, endTime);
 
-        String queryStr = "SELECT COUNT(r) FROM ReservationEntity r WHERE r.court.id = :courtId "
-                + "AND r.active = true "
-                + "AND NOT (r.endTime <= :startTime OR r.startTime >= :endTime)";
-
-        if (excludeReservationId != null) {
-            queryStr += " AND r.id != :excludeReservationId";
-        }
-
-        TypedQuery<Long> query = entityManager.createQuery(queryStr, Long.class);
+        TypedQuery<Long> query =
+                namedQuery(excludeReservationId != null ? COUNT_OVERLAPPING_EXCLUDING : COUNT_OVERLAPPING, Long.class);
         query.setParameter("courtId", courtId);
         query.setParameter("startTime", startTime);
         query.setParameter("endTime", endTime);
@@ -116,4 +209,63 @@ public class ReservationRepositoryImpl extends BaseRepositoryImpl<ReservationEnt
 
         return query.getSingleResult() == 0;
     }
+
+    @Override
+    public List<ReservationSlot> findActiveSlotsOverlapping(
+            Collection<Long> courtIds, OffsetDateTime from, OffsetDateTime to) {
+        if (courtIds == null || courtIds.isEmpty()) {
+            return List.of();
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("From and to cannot be null");
+        }
+
+        TypedQuery<ReservationSlot> query = namedQuery(FIND_SLOTS_OVERLAPPING, ReservationSlot.class);
+        query.setParameter("courtIds", courtIds);
+        query.setParameter("from", from);
+        query.setParameter("to", to);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Long> deleteByCourtIds(Collection<Long> courtIds) {
+        if (courtIds == null || courtIds.isEmpty()) {
+            return List.of();
+        }
+        entityManager.flush();
+
+        // IDs are read first, so the availability index and managed instances can be updated
+        TypedQuery<Long> idQuery = namedQuery(FIND_IDS_BY_COURT_IDS, Long.class);
+        idQuery.setParameter("courtIds", courtIds);
+        List<Long> ids = idQuery.getResultList();
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        // Deleted by the IDs read, a reservation inserted meanwhile is neither deleted nor reported
+        deleteAllById(ids);
+        return ids;
+    }
+
+    @Override
+    public List<ReservationSlot> findActiveSlotsEndingAfter(OffsetDateTime time) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+
+        TypedQuery<ReservationSlot> query = namedQuery(FIND_SLOTS_ENDING_AFTER, ReservationSlot.class);
+        query.setParameter("time", time);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<ReservationView> findActiveViewsEndingAfter(OffsetDateTime time) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+
+        TypedQuery<ReservationView> query = namedQuery(FIND_VIEWS_ENDING_AFTER, ReservationView.class);
+        query.setParameter("time", time);
+        return query.getResultList();
+    }
 }
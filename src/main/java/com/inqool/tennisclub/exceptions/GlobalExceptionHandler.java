@@ -1,7 +1,10 @@
 package com.inqool.tennisclub.exceptions;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +16,19 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * Bookings rejected because the court is already reserved at that time
+     */
+    public static final String CONFLICTS_METRIC = "app.reservation.conflicts";
+
+    private final Counter reservationConflicts;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.reservationConflicts = Counter.builder(CONFLICTS_METRIC)
+                .description("Reservations rejected as overlapping an existing one")
+                .register(meterRegistry);
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<Object> handleNotFound(EntityNotFoundException ex) {
         Map<String, Object> body = new HashMap<>();
@@ -23,12 +39,22 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(ReservationAlreadyExist.class)
     public ResponseEntity<Object> handleReservationAlreadyExists(ReservationAlreadyExist ex) {
+        reservationConflicts.increment();
         Map<String, Object> body = new HashMap<>();
         body.put("error", "Reservation Already Exists");
         body.put("message", ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    @ExceptionHandler(ReservationBatchRejected.class)
+    public ResponseEntity<Object> handleReservationBatchRejected(ReservationBatchRejected ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "Reservation Batch Rejected");
+        body.put("message", ex.getMessage());
+        body.put("rejected", new TreeMap<>(ex.getRejected()));
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<Object> handleIntegrityViolationException(DataIntegrityViolationException ex) {
         Map<String, Object> body = new HashMap<>();
@@ -65,6 +91,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(body);
     }
 
+    @ExceptionHandler(InvalidQueryException.class)
+    public ResponseEntity<Object> handleInvalidQuery(InvalidQueryException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "Bad Request");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.badRequest().body(body);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleOtherErrors(Exception ex) {
         Map<String, Object> body = new HashMap<>();
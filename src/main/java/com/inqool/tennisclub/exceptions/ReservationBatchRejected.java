@@ -0,0 +1,23 @@
+package com.inqool.tennisclub.exceptions;
+
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class ReservationBatchRejected extends RuntimeException {
+
+    private final Map<Integer, String> rejected;
+
+    public ReservationBatchRejected(Map<Integer, String> rejected) {
+        super(rejected.size() + " reservation(s) of the batch rejected, nothing was created");
+        this.rejected = Map.copyOf(rejected);
+    }
+
+    /**
+     * Rejection reason by position of the reservation in the batch
+     */
+    public Map<Integer, String> getRejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,27 @@
+package com.inqool.tennisclub.facade;
+
+import com.inqool.tennisclub.api.CourtAvailabilityDto;
+import com.inqool.tennisclub.mappers.AvailabilityMapper;
+import com.inqool.tennisclub.service.AvailabilityService;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AvailabilityFacade {
+
+    private final AvailabilityService availabilityService;
+    private final AvailabilityMapper availabilityMapper;
+
+    @Autowired
+    public AvailabilityFacade(AvailabilityService availabilityService, AvailabilityMapper availabilityMapper) {
+        this.availabilityService = availabilityService;
+        this.availabilityMapper = availabilityMapper;
+    }
+
+    public List<CourtAvailabilityDto> findAvailableCourts(
+            OffsetDateTime from, OffsetDateTime to, String surface, int minMinutes) {
+        return availabilityMapper.toDtoList(availabilityService.findAvailableCourts(from, to, surface, minMinutes));
+    }
+}
@@ -2,10 +2,14 @@ package com.inqool.tennisclub.facade;
 
 import com.inqool.tennisclub.api.CourtDto;
 import com.inqool.tennisclub.api.CreateCourtDto;
+import com.inqool.tennisclub.api.CursorPageDto;
 import com.inqool.tennisclub.data.model.CourtEntity;
 import com.inqool.tennisclub.mappers.CourtMapper;
 import com.inqool.tennisclub.service.CourtService;
 import com.inqool.tennisclub.service.CourtSurfaceService;
+import com.inqool.tennisclub.service.CursorPage;
+import com.inqool.tennisclub.service.ReservationService;
+import jakarta.transaction.Transactional;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -16,12 +20,18 @@ public class CourtFacade {
     private final CourtService courtService;
     private final CourtMapper courtMapper;
     private final CourtSurfaceService courtSurfaceService;
+    private final ReservationService reservationService;
 
     @Autowired
-    public CourtFacade(CourtService courtService, CourtMapper courtMapper, CourtSurfaceService courtSurfaceService) {
+    public CourtFacade(
+            CourtService courtService,
+            CourtMapper courtMapper,
+            CourtSurfaceService courtSurfaceService,
+            ReservationService reservationService) {
         this.courtService = courtService;
         this.courtMapper = courtMapper;
         this.courtSurfaceService = courtSurfaceService;
+        this.reservationService = reservationService;
     }
 
     public CourtDto create(CreateCourtDto dto) {
@@ -38,6 +48,11 @@ public class CourtFacade {
         return courtMapper.toDtoList(courtService.findAll());
     }
 
+    public CursorPageDto<CourtDto> findPage(Long after, int size) {
+        CursorPage<CourtEntity> page = courtService.findPage(after, size);
+        return new CursorPageDto<>(courtMapper.toDtoList(page.items()), page.next());
+    }
+
     public CourtDto update(Long id, CreateCourtDto dto) {
         CourtEntity entity = courtMapper.toEntity(dto, courtSurfaceService);
         entity.setId(id);
@@ -45,7 +60,14 @@ public class CourtFacade {
         return courtMapper.toDto(saved);
     }
 
-    public void deleteById(Long id) {
+    /**
+     * Soft delete the court, with cascade also all its active reservations in the same transaction
+     */
+    @Transactional
+    public void deleteById(Long id, boolean cascade) {
         courtService.deleteById(id);
+        if (cascade) {
+            reservationService.deleteByCourtId(id);
+        }
     }
 }
@@ -2,9 +2,11 @@ package com.inqool.tennisclub.facade;
 
 import com.inqool.tennisclub.api.CourtSurfaceDto;
 import com.inqool.tennisclub.api.CreateCourtSurfaceDto;
+import com.inqool.tennisclub.api.CursorPageDto;
 import com.inqool.tennisclub.data.model.CourtSurfaceEntity;
 import com.inqool.tennisclub.mappers.CourtSurfaceMapper;
 import com.inqool.tennisclub.service.CourtSurfaceService;
+import com.inqool.tennisclub.service.CursorPage;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -16,7 +18,7 @@ public class CourtSurfaceFacade {
     private final CourtSurfaceMapper courtSurfaceMapper;
 
     @Autowired
-    private CourtSurfaceFacade(CourtSurfaceService courtSurfaceService, CourtSurfaceMapper courtSurfaceMapper) {
+    public CourtSurfaceFacade(CourtSurfaceService courtSurfaceService, CourtSurfaceMapper courtSurfaceMapper) {
         this.courtSurfaceService = courtSurfaceService;
         this.courtSurfaceMapper = courtSurfaceMapper;
     }
@@ -35,6 +37,11 @@ public class CourtSurfaceFacade {
         return courtSurfaceMapper.toDtoList(courtSurfaceService.findAll());
     }
 
+    public CursorPageDto<CourtSurfaceDto> findPage(Long after, int size) {
+        CursorPage<CourtSurfaceEntity> page = courtSurfaceService.findPage(after, size);
+        return new CursorPageDto<>(courtSurfaceMapper.toDtoList(page.items()), page.next());
+    }
+
     public CourtSurfaceDto update(Long id, CreateCourtSurfaceDto dto) {
         CourtSurfaceEntity courtSurfaceEntity = courtSurfaceMapper.toEntity(dto);
 
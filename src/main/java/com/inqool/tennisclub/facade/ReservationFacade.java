@@ -1,14 +1,27 @@
 package com.inqool.tennisclub.facade;
 
+import com.inqool.tennisclub.api.CreateReservationBatchDto;
 import com.inqool.tennisclub.api.CreateReservationDto;
+import com.inqool.tennisclub.api.CursorPageDto;
+import com.inqool.tennisclub.api.ReservationBatchResultDto;
 import com.inqool.tennisclub.api.ReservationDto;
+import com.inqool.tennisclub.data.model.CourtEntity;
+import com.inqool.tennisclub.data.model.CustomerEntity;
 import com.inqool.tennisclub.data.model.ReservationEntity;
 import com.inqool.tennisclub.mappers.ReservationMapper;
 import com.inqool.tennisclub.service.CourtService;
+import com.inqool.tennisclub.service.CursorPage;
 import com.inqool.tennisclub.service.CustomerService;
 import com.inqool.tennisclub.service.ReservationService;
+import com.inqool.tennisclub.service.ScheduleService;
 import jakarta.transaction.Transactional;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -17,6 +30,7 @@ public class ReservationFacade {
     private final ReservationService reservationService;
     private final CustomerService customerService;
     private final CourtService courtService;
+    private final ScheduleService scheduleService;
     private final ReservationMapper reservationMapper;
 
     @Autowired
@@ -24,10 +38,12 @@ public class ReservationFacade {
             ReservationService reservationService,
             CustomerService customerService,
             CourtService courtService,
+            ScheduleService scheduleService,
             ReservationMapper reservationMapper) {
         this.reservationService = reservationService;
         this.customerService = customerService;
         this.courtService = courtService;
+        this.scheduleService = scheduleService;
         this.reservationMapper = reservationMapper;
     }
 
@@ -39,16 +55,54 @@ public class ReservationFacade {
         return reservationMapper.toDto(saved, reservationService);
     }
 
+    /**
+     * Create a batch of reservations with one lookup for all courts and one for all customers
+     */
+    @Transactional
+    public ReservationBatchResultDto createBatch(CreateReservationBatchDto batch) {
+        List<CreateReservationDto> items = batch.getReservations();
+
+        Map<Integer, CourtEntity> courts = courtService.findByCourtNumbers(
+                items.stream().map(CreateReservationDto::getCourtNumber).collect(Collectors.toSet()));
+        Map<String, String> namesByPhoneNumber = new LinkedHashMap<>();
+        items.forEach(item -> namesByPhoneNumber.putIfAbsent(item.getPhoneNumber(), item.getCustomerName()));
+        Map<String, CustomerEntity> customers = customerService.findOrCreateAll(namesByPhoneNumber);
+
+        List<ReservationEntity> reservations = new ArrayList<>(items.size());
+        for (CreateReservationDto item : items) {
+            ReservationEntity reservation = reservationMapper.toReservationEntity(item);
+            reservation.setCourt(courts.get(item.getCourtNumber()));
+            reservation.setCustomer(customers.get(item.getPhoneNumber()));
+            reservations.add(reservation);
+        }
+
+        ReservationService.BatchResult result = reservationService.createBatch(reservations, batch.getMode());
+        return new ReservationBatchResultDto(
+                reservationMapper.toDtoList(result.created(), reservationService), result.rejected());
+    }
+
     public ReservationDto findById(Long id) {
         return reservationMapper.toDto(reservationService.findById(id), reservationService);
     }
 
-    public List<ReservationDto> findByCourt(Integer number) {
+    /**
+     * Reservations of a court, only those that have not ended yet are served from the schedule read model
+     */
+    public List<ReservationDto> findByCourt(Integer number, boolean upcomingOnly) {
+        if (upcomingOnly) {
+            return reservationMapper.toDtoList(scheduleService.findUpcomingByCourtNumber(number));
+        }
         return reservationMapper.toDtoList(reservationService.findByCourtNumber(number), reservationService);
     }
 
+    /**
+     * Reservations of a customer, future ones are served from the schedule read model
+     */
     public List<ReservationDto> findByPhone(String phone, boolean futureOnly) {
-        return reservationMapper.toDtoList(reservationService.findByPhoneNumber(phone, futureOnly), reservationService);
+        if (futureOnly) {
+            return reservationMapper.toDtoList(scheduleService.findFutureByPhoneNumber(phone));
+        }
+        return reservationMapper.toDtoList(reservationService.findByPhoneNumber(phone, false), reservationService);
     }
 
     public ReservationDto update(Long id, CreateReservationDto createReservationDto) {
@@ -63,6 +117,19 @@ public class ReservationFacade {
         return reservationMapper.toDtoList(reservationService.findAll(), reservationService);
     }
 
+    public CursorPageDto<ReservationDto> findPage(Long after, int size) {
+        CursorPage<ReservationEntity> page = reservationService.findPage(after, size);
+        return new CursorPageDto<>(reservationMapper.toDtoList(page.items(), reservationService), page.next());
+    }
+
+    /**
+     * Pass reservations starting within [from, to) to the consumer one by one, mapped to DTOs
+     */
+    public void export(OffsetDateTime from, OffsetDateTime to, Consumer<ReservationDto> consumer) {
+        reservationService.forEachStartingBetween(
+                from, to, reservation -> consumer.accept(reservationMapper.toDto(reservation, reservationService)));
+    }
+
     public void deleteById(Long id) {
         reservationService.deleteById(id);
     }
@@ -0,0 +1,29 @@
+package com.inqool.tennisclub.facade;
+
+import com.inqool.tennisclub.api.ReservationDto;
+import com.inqool.tennisclub.mappers.ReservationMapper;
+import com.inqool.tennisclub.service.ScheduleService;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ScheduleFacade {
+
+    private final ScheduleService scheduleService;
+    private final ReservationMapper reservationMapper;
+
+    @Autowired
+    public ScheduleFacade(ScheduleService scheduleService, ReservationMapper reservationMapper) {
+        this.scheduleService = scheduleService;
+        this.reservationMapper = reservationMapper;
+    }
+
+    public List<ReservationDto> findUpcomingByCourt(Integer number) {
+        return reservationMapper.toDtoList(scheduleService.findUpcomingByCourtNumber(number));
+    }
+
+    public List<ReservationDto> findUpcomingByPhone(String phone) {
+        return reservationMapper.toDtoList(scheduleService.findUpcomingByPhoneNumber(phone));
+    }
+}
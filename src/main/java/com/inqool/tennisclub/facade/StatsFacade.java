@@ -0,0 +1,64 @@
+package com.inqool.tennisclub.facade;
+
+import com.inqool.tennisclub.api.CacheStatsDto;
+import com.inqool.tennisclub.api.QueryPlanCacheStatsDto;
+import com.inqool.tennisclub.api.RevenueStatsDto;
+import com.inqool.tennisclub.api.UtilizationStatsDto;
+import com.inqool.tennisclub.data.model.enums.StatsGrouping;
+import com.inqool.tennisclub.service.CacheStatsService;
+import com.inqool.tennisclub.service.QueryPlanCacheStats;
+import com.inqool.tennisclub.service.QueryStatsService;
+import com.inqool.tennisclub.service.ReservationStatsService;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StatsFacade {
+
+    private final QueryStatsService queryStatsService;
+    private final CacheStatsService cacheStatsService;
+    private final ReservationStatsService reservationStatsService;
+
+    @Autowired
+    public StatsFacade(
+            QueryStatsService queryStatsService,
+            CacheStatsService cacheStatsService,
+            ReservationStatsService reservationStatsService) {
+        this.queryStatsService = queryStatsService;
+        this.cacheStatsService = cacheStatsService;
+        this.reservationStatsService = reservationStatsService;
+    }
+
+    public QueryPlanCacheStatsDto getQueryPlanCacheStats() {
+        QueryPlanCacheStats stats = queryStatsService.queryPlanCache();
+        return new QueryPlanCacheStatsDto(
+                stats.enabled(), stats.hitCount(), stats.missCount(), stats.queryExecutionCount());
+    }
+
+    public List<CacheStatsDto> getCacheStats() {
+        return cacheStatsService.caches().stream()
+                .map(stats -> new CacheStatsDto(
+                        stats.name(),
+                        stats.size(),
+                        stats.hitCount(),
+                        stats.missCount(),
+                        stats.hitRate(),
+                        stats.evictionCount()))
+                .toList();
+    }
+
+    public List<RevenueStatsDto> getRevenue(LocalDate from, LocalDate to, StatsGrouping groupBy) {
+        return reservationStatsService.revenue(from, to, groupBy).stream()
+                .map(totals -> new RevenueStatsDto(totals.group(), totals.reservations(), totals.revenue()))
+                .toList();
+    }
+
+    public List<UtilizationStatsDto> getUtilization(LocalDate from, LocalDate to, StatsGrouping groupBy) {
+        return reservationStatsService.utilization(from, to, groupBy).stream()
+                .map(stats -> new UtilizationStatsDto(
+                        stats.group(), stats.bookedMinutes(), stats.availableMinutes(), stats.utilizationPercent()))
+                .toList();
+    }
+}
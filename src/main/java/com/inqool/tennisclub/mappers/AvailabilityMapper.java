@@ -0,0 +1,22 @@
+package com.inqool.tennisclub.mappers;
+
+import com.inqool.tennisclub.api.CourtAvailabilityDto;
+import com.inqool.tennisclub.api.FreeSlotDto;
+import com.inqool.tennisclub.data.index.FreeSlot;
+import com.inqool.tennisclub.service.AvailabilityService.CourtAvailability;
+import java.util.List;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface AvailabilityMapper {
+
+    @Mapping(target = "courtId", source = "court.id")
+    @Mapping(target = "courtNumber", source = "court.courtNumber")
+    @Mapping(target = "surfaceId", source = "court.courtSurface.id")
+    CourtAvailabilityDto toDto(CourtAvailability availability);
+
+    List<CourtAvailabilityDto> toDtoList(List<CourtAvailability> availabilities);
+
+    FreeSlotDto toDto(FreeSlot freeSlot);
+}
@@ -5,6 +5,7 @@ import com.inqool.tennisclub.api.ReservationDto;
 import com.inqool.tennisclub.data.model.CourtEntity;
 import com.inqool.tennisclub.data.model.CustomerEntity;
 import com.inqool.tennisclub.data.model.ReservationEntity;
+import com.inqool.tennisclub.data.model.ReservationView;
 import com.inqool.tennisclub.service.CourtService;
 import com.inqool.tennisclub.service.CustomerService;
 import com.inqool.tennisclub.service.ReservationService;
@@ -24,10 +25,24 @@ public interface ReservationMapper {
     @Mapping(target = "customer", source = ".", qualifiedByName = "findOrCreateCustomer")
     @Mapping(target = "court", source = "courtNumber", qualifiedByName = "findCourt")
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "costPerMinute", ignore = true)
+    @Mapping(target = "totalPrice", ignore = true)
     @Mapping(target = "active", ignore = true)
     ReservationEntity toReservationEntity(
             CreateReservationDto dto, @Context CustomerService customerService, @Context CourtService courtService);
 
+    /**
+     * Map without resolving customer and court, for batches where they are looked up together
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "customer", ignore = true)
+    @Mapping(target = "court", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "costPerMinute", ignore = true)
+    @Mapping(target = "totalPrice", ignore = true)
+    @Mapping(target = "active", ignore = true)
+    ReservationEntity toReservationEntity(CreateReservationDto dto);
+
     @Named("findOrCreateCustomer")
     default CustomerEntity findOrCreateCustomer(CreateReservationDto dto, @Context CustomerService customerService) {
         CustomerEntity customer = new CustomerEntity();
@@ -46,13 +61,23 @@ public interface ReservationMapper {
     @Mapping(target = "courtNumber", source = "court.courtNumber")
     @Mapping(target = "customerName", source = "customer.name")
     @Mapping(target = "phoneNumber", source = "customer.phoneNumber")
-    @Mapping(target = "totalPrice", source = ".", qualifiedByName = "calculatePrice")
+    @Mapping(target = "totalPrice", source = ".", qualifiedByName = "totalPrice")
     ReservationDto toDto(ReservationEntity entity, @Context ReservationService reservationService);
 
-    @Named("calculatePrice")
-    default BigDecimal calculatePrice(ReservationEntity entity, @Context ReservationService reservationService) {
+    /**
+     * Price snapshot stored with the reservation, calculated only for reservations not saved yet
+     */
+    @Named("totalPrice")
+    default BigDecimal totalPrice(ReservationEntity entity, @Context ReservationService reservationService) {
+        if (entity.getTotalPrice() != null) {
+            return entity.getTotalPrice();
+        }
         return reservationService.calculateTotalPrice(entity);
     }
 
     List<ReservationDto> toDtoList(List<ReservationEntity> entities, @Context ReservationService reservationService);
+
+    ReservationDto toDto(ReservationView view);
+
+    List<ReservationDto> toDtoList(List<ReservationView> views);
 }
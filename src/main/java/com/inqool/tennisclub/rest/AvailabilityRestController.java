@@ -0,0 +1,44 @@
+package com.inqool.tennisclub.rest;
+
+import com.inqool.tennisclub.api.CourtAvailabilityDto;
+import com.inqool.tennisclub.facade.AvailabilityFacade;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.tags.Tags;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tags(value = @Tag(name = "Availability API"))
+@RestController
+@RequestMapping("/api/availability")
+public class AvailabilityRestController {
+
+    private final AvailabilityFacade availabilityFacade;
+
+    @Autowired
+    public AvailabilityRestController(AvailabilityFacade availabilityFacade) {
+        this.availabilityFacade = availabilityFacade;
+    }
+
+    @Operation(summary = "Find courts with a free time range of at least minMinutes between from and to")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Available courts with their free time ranges"),
+        @ApiResponse(responseCode = "400", description = "Invalid search window provided", content = @Content),
+        @ApiResponse(responseCode = "404", description = "Surface not found", content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<List<CourtAvailabilityDto>> findAvailableCourts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(required = false) String surface,
+            @RequestParam(required = false, defaultValue = "30") int minMinutes) {
+        return ResponseEntity.ok(availabilityFacade.findAvailableCourts(from, to, surface, minMinutes));
+    }
+}
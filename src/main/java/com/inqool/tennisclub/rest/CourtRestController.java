@@ -2,6 +2,7 @@ package com.inqool.tennisclub.rest;
 
 import com.inqool.tennisclub.api.CourtDto;
 import com.inqool.tennisclub.api.CreateCourtDto;
+import com.inqool.tennisclub.api.CursorPageDto;
 import com.inqool.tennisclub.facade.CourtFacade;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,7 +12,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.tags.Tags;
 import jakarta.validation.Valid;
 import java.net.URI;
-import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -39,11 +39,16 @@ public class CourtRestController {
         return ResponseEntity.created(URI.create("/court/" + created.getId())).body(created);
     }
 
-    @Operation(summary = "Get all courts")
-    @ApiResponses({@ApiResponse(responseCode = "200", description = "List of courts retrieved successfully")})
+    @Operation(summary = "Get a page of courts, ordered by ID")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Page of courts retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid page size provided", content = @Content)
+    })
     @GetMapping
-    public ResponseEntity<List<CourtDto>> findAll() {
-        return ResponseEntity.ok(courtFacade.findAll());
+    public ResponseEntity<CursorPageDto<CourtDto>> findAll(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false, defaultValue = "50") int size) {
+        return ResponseEntity.ok(courtFacade.findPage(after, size));
     }
 
     @Operation(summary = "Get a court by ID")
@@ -68,14 +73,15 @@ public class CourtRestController {
         return ResponseEntity.ok(updated);
     }
 
-    @Operation(summary = "Delete a court")
+    @Operation(summary = "Delete a court, with cascade=true also its reservations")
     @ApiResponses({
         @ApiResponse(responseCode = "204", description = "Court deleted successfully"),
         @ApiResponse(responseCode = "404", description = "Court not found", content = @Content)
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
-        courtFacade.deleteById(id);
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id, @RequestParam(required = false, defaultValue = "false") boolean cascade) {
+        courtFacade.deleteById(id, cascade);
         return ResponseEntity.noContent().build();
     }
 }
@@ -2,6 +2,7 @@ package com.inqool.tennisclub.rest;
 
 import com.inqool.tennisclub.api.CourtSurfaceDto;
 import com.inqool.tennisclub.api.CreateCourtSurfaceDto;
+import com.inqool.tennisclub.api.CursorPageDto;
 import com.inqool.tennisclub.facade.CourtSurfaceFacade;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,7 +12,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.tags.Tags;
 import jakarta.validation.Valid;
 import java.net.URI;
-import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -39,11 +39,16 @@ public class CourtSurfaceRestController {
                 .body(created);
     }
 
-    @Operation(summary = "Get all CourtSurfaces")
-    @ApiResponses({@ApiResponse(responseCode = "200", description = "List of CourtSurfaces retrieved successfully")})
+    @Operation(summary = "Get a page of CourtSurfaces, ordered by ID")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Page of CourtSurfaces retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid page size provided", content = @Content)
+    })
     @GetMapping
-    public ResponseEntity<List<CourtSurfaceDto>> findAll() {
-        return ResponseEntity.ok(courtSurfaceFacade.findAll());
+    public ResponseEntity<CursorPageDto<CourtSurfaceDto>> findAll(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false, defaultValue = "50") int size) {
+        return ResponseEntity.ok(courtSurfaceFacade.findPage(after, size));
     }
 
     @Operation(summary = "Get a CourtSurface by ID")
@@ -1,7 +1,12 @@
 package com.inqool.tennisclub.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inqool.tennisclub.api.CreateReservationBatchDto;
 import com.inqool.tennisclub.api.CreateReservationDto;
+import com.inqool.tennisclub.api.CursorPageDto;
+import com.inqool.tennisclub.api.ReservationBatchResultDto;
 import com.inqool.tennisclub.api.ReservationDto;
+import com.inqool.tennisclub.exceptions.InvalidQueryException;
 import com.inqool.tennisclub.facade.ReservationFacade;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,21 +15,35 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.tags.Tags;
 import jakarta.validation.Valid;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.OffsetDateTime;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tags(value = @Tag(name = "Reservation API"))
 @RestController
 @RequestMapping("/api/reservation")
 public class ReservationRestController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final ReservationFacade reservationFacade;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public ReservationRestController(ReservationFacade reservationFacade) {
+    public ReservationRestController(ReservationFacade reservationFacade, ObjectMapper objectMapper) {
         this.reservationFacade = reservationFacade;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(summary = "Create a new Reservation")
@@ -39,11 +58,60 @@ public class ReservationRestController {
                 .body(created);
     }
 
-    @Operation(summary = "Get all Reservations")
-    @ApiResponses({@ApiResponse(responseCode = "200", description = "List of Reservations retrieved successfully")})
+    @Operation(summary = "Create a batch of Reservations in one transaction")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "All Reservations of the batch created successfully"),
+        @ApiResponse(responseCode = "200", description = "Best effort batch processed, some Reservations rejected"),
+        @ApiResponse(
+                responseCode = "400",
+                description = "Invalid batch provided or all-or-nothing batch rejected",
+                content = @Content)
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<ReservationBatchResultDto> createBatch(@RequestBody @Valid CreateReservationBatchDto dto) {
+        ReservationBatchResultDto result = reservationFacade.createBatch(dto);
+        HttpStatus status = result.getRejected().isEmpty() ? HttpStatus.CREATED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(result);
+    }
+
+    @Operation(summary = "Get a page of Reservations, ordered by ID")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Page of Reservations retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid page size provided", content = @Content)
+    })
     @GetMapping
-    public ResponseEntity<List<ReservationDto>> findAll() {
-        return ResponseEntity.ok(reservationFacade.findAll());
+    public ResponseEntity<CursorPageDto<ReservationDto>> findAll(
+            @RequestParam(required = false) Long after, @RequestParam(required = false, defaultValue = "50") int size) {
+        return ResponseEntity.ok(reservationFacade.findPage(after, size));
+    }
+
+    @Operation(summary = "Export Reservations starting in given time range as NDJSON, one Reservation per line")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Reservations streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid time range provided", content = @Content)
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to) {
+        // Validated up front, once streaming starts the status can no longer change
+        if (!from.isBefore(to)) {
+            throw new InvalidQueryException("From must be before to");
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream);
+            reservationFacade.export(from, to, reservation -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(reservation));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
     }
 
     @Operation(summary = "Get a Reservation by ID")
@@ -62,8 +130,10 @@ public class ReservationRestController {
         @ApiResponse(responseCode = "404", description = "Court number not found", content = @Content)
     })
     @GetMapping("/court/{number}")
-    public ResponseEntity<List<ReservationDto>> findByCourt(@PathVariable Integer number) {
-        return ResponseEntity.ok(reservationFacade.findByCourt(number));
+    public ResponseEntity<List<ReservationDto>> findByCourt(
+            @PathVariable Integer number,
+            @RequestParam(required = false, defaultValue = "false") boolean upcomingOnly) {
+        return ResponseEntity.ok(reservationFacade.findByCourt(number, upcomingOnly));
     }
 
     @Operation(summary = "Get a Reservations by phone number")
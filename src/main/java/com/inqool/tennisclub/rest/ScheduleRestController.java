@@ -0,0 +1,44 @@
+package com.inqool.tennisclub.rest;
+
+import com.inqool.tennisclub.api.ReservationDto;
+import com.inqool.tennisclub.facade.ScheduleFacade;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.tags.Tags;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tags(value = @Tag(name = "Schedule API"))
+@RestController
+@RequestMapping("/api/schedule")
+public class ScheduleRestController {
+
+    private final ScheduleFacade scheduleFacade;
+
+    @Autowired
+    public ScheduleRestController(ScheduleFacade scheduleFacade) {
+        this.scheduleFacade = scheduleFacade;
+    }
+
+    @Operation(summary = "Get upcoming Reservations of a court, ordered by start time")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Upcoming Reservations retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Court number not found", content = @Content)
+    })
+    @GetMapping("/court/{number}")
+    public ResponseEntity<List<ReservationDto>> findByCourt(@PathVariable Integer number) {
+        return ResponseEntity.ok(scheduleFacade.findUpcomingByCourt(number));
+    }
+
+    @Operation(summary = "Get upcoming Reservations of a customer by phone number, ordered by start time")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Upcoming Reservations retrieved successfully")})
+    @GetMapping("/phone/{number}")
+    public ResponseEntity<List<ReservationDto>> findByPhone(@PathVariable String number) {
+        return ResponseEntity.ok(scheduleFacade.findUpcomingByPhone(number));
+    }
+}
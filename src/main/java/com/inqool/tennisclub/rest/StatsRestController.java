@@ -0,0 +1,73 @@
+package com.inqool.tennisclub.rest;
+
+import com.inqool.tennisclub.api.CacheStatsDto;
+import com.inqool.tennisclub.api.QueryPlanCacheStatsDto;
+import com.inqool.tennisclub.api.RevenueStatsDto;
+import com.inqool.tennisclub.api.UtilizationStatsDto;
+import com.inqool.tennisclub.data.model.enums.StatsGrouping;
+import com.inqool.tennisclub.facade.StatsFacade;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.tags.Tags;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tags(value = @Tag(name = "Stats API"))
+@RestController
+@RequestMapping("/api/stats")
+public class StatsRestController {
+
+    private final StatsFacade statsFacade;
+
+    @Autowired
+    public StatsRestController(StatsFacade statsFacade) {
+        this.statsFacade = statsFacade;
+    }
+
+    @Operation(summary = "Get Hibernate query plan cache hit and miss counts")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Query plan cache counters since startup")})
+    @GetMapping("/query-plan-cache")
+    public ResponseEntity<QueryPlanCacheStatsDto> getQueryPlanCacheStats() {
+        return ResponseEntity.ok(statsFacade.getQueryPlanCacheStats());
+    }
+
+    @Operation(summary = "Get hit and miss counts of the court and court surface caches")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Cache counters since startup")})
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(statsFacade.getCacheStats());
+    }
+
+    @Operation(summary = "Get reservation count and revenue per court, surface or day of reservations in [from, to)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Revenue per group, groups without reservations omitted"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range provided", content = @Content)
+    })
+    @GetMapping("/revenue")
+    public ResponseEntity<List<RevenueStatsDto>> getRevenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false, defaultValue = "COURT") StatsGrouping groupBy) {
+        return ResponseEntity.ok(statsFacade.getRevenue(from, to, groupBy));
+    }
+
+    @Operation(summary = "Get booked share of opening hours per court, surface or day in [from, to)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Utilization per group, groups without reservations omitted"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range provided", content = @Content)
+    })
+    @GetMapping("/utilization")
+    public ResponseEntity<List<UtilizationStatsDto>> getUtilization(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false, defaultValue = "COURT") StatsGrouping groupBy) {
+        return ResponseEntity.ok(statsFacade.getUtilization(from, to, groupBy));
+    }
+}
@@ -0,0 +1,112 @@
+package com.inqool.tennisclub.service;
+
+import com.inqool.tennisclub.data.index.AvailabilityBitmapEngine;
+import com.inqool.tennisclub.data.index.CourtAvailabilityIndex;
+import com.inqool.tennisclub.data.index.FreeSlot;
+import com.inqool.tennisclub.data.model.CourtEntity;
+import com.inqool.tennisclub.data.model.ReservationSlot;
+import com.inqool.tennisclub.data.repository.ReservationRepository;
+import com.inqool.tennisclub.exceptions.InvalidQueryException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class AvailabilityService {
+
+    static final Duration MAX_WINDOW = Duration.ofDays(31);
+
+    private final CourtService courtService;
+    private final CourtSurfaceService courtSurfaceService;
+    private final AvailabilityBitmapEngine availabilityEngine;
+    private final CourtAvailabilityIndex availabilityIndex;
+    private final ReservationRepository reservationRepository;
+
+    @Autowired
+    public AvailabilityService(
+            CourtService courtService,
+            CourtSurfaceService courtSurfaceService,
+            AvailabilityBitmapEngine availabilityEngine,
+            CourtAvailabilityIndex availabilityIndex,
+            ReservationRepository reservationRepository) {
+        this.courtService = courtService;
+        this.courtSurfaceService = courtSurfaceService;
+        this.availabilityEngine = availabilityEngine;
+        this.availabilityIndex = availabilityIndex;
+        this.reservationRepository = reservationRepository;
+    }
+
+    /**
+     * Find courts with at least one free range of minMinutes within [from, to),
+     * optionally limited to courts with given surface. Only the future part of the window is searched.
+     * Until the availability index is warm the reservations of the window are read from the database.
+     */
+    public List<CourtAvailability> findAvailableCourts(
+            OffsetDateTime from, OffsetDateTime to, String surfaceName, int minMinutes) {
+        if (from == null || to == null) {
+            throw new InvalidQueryException("From and to are required");
+        }
+        if (!from.isBefore(to)) {
+            throw new InvalidQueryException("From must be before to");
+        }
+        if (Duration.between(from, to).compareTo(MAX_WINDOW) > 0) {
+            throw new InvalidQueryException("Search window must not exceed " + MAX_WINDOW.toDays() + " days");
+        }
+        if (minMinutes <= 0) {
+            throw new InvalidQueryException("Minimal duration must be positive");
+        }
+
+        OffsetDateTime now = OffsetDateTime.now(from.getOffset());
+        OffsetDateTime searchFrom = from.isBefore(now) ? now : from;
+        if (!searchFrom.isBefore(to)) {
+            return List.of();
+        }
+
+        List<CourtEntity> courts = surfaceName == null
+                ? courtService.findAll()
+                : courtService.findBySurface(courtSurfaceService.findBySurfaceName(surfaceName));
+
+        if (!availabilityIndex.isWarm()) {
+            return findAvailableCourtsInDatabase(courts, searchFrom, to, minMinutes);
+        }
+
+        List<CourtAvailability> available = new ArrayList<>();
+        for (CourtEntity court : courts) {
+            List<FreeSlot> freeSlots = availabilityEngine.findFreeSlots(court.getId(), searchFrom, to, minMinutes);
+            if (!freeSlots.isEmpty()) {
+                available.add(new CourtAvailability(court, freeSlots));
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Free ranges around the reservations of the window loaded with one query, used while the index is cold
+     */
+    private List<CourtAvailability> findAvailableCourtsInDatabase(
+            List<CourtEntity> courts, OffsetDateTime from, OffsetDateTime to, int minMinutes) {
+        Map<Long, List<ReservationSlot>> slotsByCourt = reservationRepository
+                .findActiveSlotsOverlapping(courts.stream().map(CourtEntity::getId).toList(), from, to)
+                .stream()
+                .collect(Collectors.groupingBy(ReservationSlot::courtId));
+
+        List<CourtAvailability> available = new ArrayList<>();
+        for (CourtEntity court : courts) {
+            List<FreeSlot> freeSlots = availabilityEngine.findFreeSlots(
+                    slotsByCourt.getOrDefault(court.getId(), List.of()), from, to, minMinutes);
+            if (!freeSlots.isEmpty()) {
+                available.add(new CourtAvailability(court, freeSlots));
+            }
+        }
+        return available;
+    }
+
+    public record CourtAvailability(CourtEntity court, List<FreeSlot> freeSlots) {}
+}
@@ -0,0 +1,7 @@
+package com.inqool.tennisclub.service;
+
+/**
+ * Hit and miss counters of one in-process cache since startup
+ */
+public record CacheHitStats(
+        String name, long size, long hitCount, long missCount, double hitRate, long evictionCount) {}
@@ -0,0 +1,41 @@
+package com.inqool.tennisclub.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CacheStatsService {
+
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public CacheStatsService(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Statistics of all Caffeine backed caches, ordered by cache name
+     */
+    public List<CacheHitStats> caches() {
+        List<CacheHitStats> result = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames().stream().sorted().toList()) {
+            org.springframework.cache.Cache cache = cacheManager.getCache(name);
+            if (cache != null && cache.getNativeCache() instanceof Cache<?, ?> nativeCache) {
+                CacheStats stats = nativeCache.stats();
+                result.add(new CacheHitStats(
+                        name,
+                        nativeCache.estimatedSize(),
+                        stats.hitCount(),
+                        stats.missCount(),
+                        stats.hitRate(),
+                        stats.evictionCount()));
+            }
+        }
+        return result;
+    }
+}
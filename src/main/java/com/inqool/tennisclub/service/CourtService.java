@@ -1,11 +1,20 @@
 package com.inqool.tennisclub.service;
 
+import com.inqool.tennisclub.config.CacheConfig;
 import com.inqool.tennisclub.data.model.CourtEntity;
+import com.inqool.tennisclub.data.model.CourtSurfaceEntity;
 import com.inqool.tennisclub.data.repository.CourtRepository;
 import com.inqool.tennisclub.exceptions.EntityNotFoundException;
 import com.inqool.tennisclub.exceptions.NonUniqueFieldException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +36,10 @@ public class CourtService {
         return courtRepository.save(court);
     }
 
+    /**
+     * Find court by id, served from the courts cache. The returned court is shared, do not modify it.
+     */
+    @Cacheable(cacheNames = CacheConfig.COURTS, key = "#id")
     @Transactional(readOnly = true)
     public CourtEntity findById(Long id) {
         return courtRepository
@@ -34,6 +47,10 @@ public class CourtService {
                 .orElseThrow(() -> new EntityNotFoundException("Court with id " + id + " not found"));
     }
 
+    /**
+     * Find court by number, served from the courts cache. The returned court is shared, do not modify it.
+     */
+    @Cacheable(cacheNames = CacheConfig.COURTS_BY_NUMBER, key = "#number")
     @Transactional(readOnly = true)
     public CourtEntity findByCourtNumber(Integer number) {
         return courtRepository
@@ -41,11 +58,37 @@ public class CourtService {
                 .orElseThrow(() -> new EntityNotFoundException("Court with number " + number + " not found"));
     }
 
+    /**
+     * Find courts by court numbers, numbers without an active court are missing from the result
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, CourtEntity> findByCourtNumbers(Collection<Integer> numbers) {
+        return courtRepository.findByCourtNumbers(numbers).stream()
+                .collect(Collectors.toMap(CourtEntity::getCourtNumber, Function.identity()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<CourtEntity> findBySurface(CourtSurfaceEntity surface) {
+        return courtRepository.findByCourtSurface(surface);
+    }
+
     @Transactional(readOnly = true)
     public List<CourtEntity> findAll() {
         return courtRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<CourtEntity> findPage(Long afterId, int size) {
+        int limit = CursorPage.limit(size);
+        return CursorPage.of(courtRepository.findAllAfter(afterId, limit + 1), limit, CourtEntity::getId);
+    }
+
+    // The court number may change, so the old number cannot be evicted by key
+    @Caching(
+            evict = {
+                @CacheEvict(cacheNames = CacheConfig.COURTS, key = "#court.id"),
+                @CacheEvict(cacheNames = CacheConfig.COURTS_BY_NUMBER, allEntries = true)
+            })
     public CourtEntity update(CourtEntity court) {
         courtRepository
                 .findById(court.getId())
@@ -54,11 +97,14 @@ public class CourtService {
         return courtRepository.save(court);
     }
 
+    @Caching(
+            evict = {
+                @CacheEvict(cacheNames = CacheConfig.COURTS, key = "#id"),
+                @CacheEvict(cacheNames = CacheConfig.COURTS_BY_NUMBER, allEntries = true)
+            })
     public void deleteById(Long id) {
-        if (!courtRepository.existsById(id)) {
+        if (!courtRepository.deleteById(id)) {
             throw new EntityNotFoundException("Court with id " + id + " not found");
         }
-
-        courtRepository.deleteById(id);
     }
 }
@@ -1,10 +1,14 @@
 package com.inqool.tennisclub.service;
 
+import com.inqool.tennisclub.config.CacheConfig;
 import com.inqool.tennisclub.data.model.CourtSurfaceEntity;
 import com.inqool.tennisclub.data.repository.CourtSurfaceRepository;
 import com.inqool.tennisclub.exceptions.EntityNotFoundException;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +27,10 @@ public class CourtSurfaceService {
         return courtSurfaceRepository.save(entity);
     }
 
+    /**
+     * Find surface by id, served from the surfaces cache. The returned surface is shared, do not modify it.
+     */
+    @Cacheable(cacheNames = CacheConfig.COURT_SURFACES, key = "#id")
     @Transactional(readOnly = true)
     public CourtSurfaceEntity findById(Long id) {
         return courtSurfaceRepository
@@ -30,11 +38,31 @@ public class CourtSurfaceService {
                 .orElseThrow(() -> new EntityNotFoundException("CourtSurface with id " + id + " not found"));
     }
 
+    @Transactional(readOnly = true)
+    public CourtSurfaceEntity findBySurfaceName(String surfaceName) {
+        return courtSurfaceRepository
+                .findBySurfaceName(surfaceName)
+                .orElseThrow(() -> new EntityNotFoundException("CourtSurface with name " + surfaceName + " not found"));
+    }
+
     @Transactional(readOnly = true)
     public List<CourtSurfaceEntity> findAll() {
         return courtSurfaceRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<CourtSurfaceEntity> findPage(Long afterId, int size) {
+        int limit = CursorPage.limit(size);
+        return CursorPage.of(courtSurfaceRepository.findAllAfter(afterId, limit + 1), limit, CourtSurfaceEntity::getId);
+    }
+
+    // Cached courts carry their surface, its price would be stale
+    @Caching(
+            evict = {
+                @CacheEvict(cacheNames = CacheConfig.COURT_SURFACES, key = "#entity.id"),
+                @CacheEvict(cacheNames = CacheConfig.COURTS, allEntries = true),
+                @CacheEvict(cacheNames = CacheConfig.COURTS_BY_NUMBER, allEntries = true)
+            })
     public CourtSurfaceEntity update(CourtSurfaceEntity entity) {
         courtSurfaceRepository
                 .findById(entity.getId())
@@ -44,11 +72,15 @@ public class CourtSurfaceService {
         return courtSurfaceRepository.save(entity);
     }
 
+    @Caching(
+            evict = {
+                @CacheEvict(cacheNames = CacheConfig.COURT_SURFACES, key = "#id"),
+                @CacheEvict(cacheNames = CacheConfig.COURTS, allEntries = true),
+                @CacheEvict(cacheNames = CacheConfig.COURTS_BY_NUMBER, allEntries = true)
+            })
     public void deleteById(Long id) {
-        if (!courtSurfaceRepository.existsById(id)) {
+        if (!courtSurfaceRepository.deleteById(id)) {
             throw new EntityNotFoundException("CourtSurface with id " + id + " not found");
         }
-
-        courtSurfaceRepository.deleteById(id);
     }
 }
@@ -0,0 +1,34 @@
+package com.inqool.tennisclub.service;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset pagination over entity IDs.
+ * next is the ID to continue after, null on the last page.
+ */
+public record CursorPage<T>(List<T> items, Long next) {
+
+    public static final int MAX_SIZE = 500;
+
+    /**
+     * Validate requested page size, sizes above MAX_SIZE are capped
+     */
+    public static int limit(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * Build page from rows fetched with limit size + 1, the extra row only tells there is a next page
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Long> idGetter) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = List.copyOf(rows.subList(0, size));
+        return new CursorPage<>(items, idGetter.apply(items.get(size - 1)));
+    }
+}
@@ -1,11 +1,19 @@
 package com.inqool.tennisclub.service;
 
+import com.inqool.tennisclub.config.CacheConfig;
 import com.inqool.tennisclub.data.model.CustomerEntity;
 import com.inqool.tennisclub.data.repository.CustomerRepository;
 import com.inqool.tennisclub.exceptions.EntityNotFoundException;
+import com.inqool.tennisclub.service.event.CustomerChangedEvent;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,19 +21,63 @@ public class CustomerService {
 
     private final CustomerRepository customerRepository;
 
+    /**
+     * Customers by phone number. Entries are detached and shared, they are added and evicted on commit.
+     */
+    private final Cache customersByPhoneNumber;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     @Autowired
-    public CustomerService(CustomerRepository customerRepository) {
+    public CustomerService(
+            CustomerRepository customerRepository,
+            CacheManager cacheManager,
+            ApplicationEventPublisher eventPublisher) {
         this.customerRepository = customerRepository;
+        this.customersByPhoneNumber = cacheManager.getCache(CacheConfig.CUSTOMERS_BY_PHONE_NUMBER);
+        this.eventPublisher = eventPublisher;
     }
 
     public CustomerEntity create(CustomerEntity entity) {
         return customerRepository.save(entity);
     }
 
+    /**
+     * Find customer by phone number or create it with one atomic upsert. Returning customers
+     * are served from the cache without a query. The returned customer must not be modified.
+     */
     public CustomerEntity createIfNotExist(CustomerEntity entity) {
-        return customerRepository
-                .findByPhoneNumber(entity.getPhoneNumber())
-                .orElseGet(() -> customerRepository.save(entity));
+        CustomerEntity cached = customersByPhoneNumber.get(entity.getPhoneNumber(), CustomerEntity.class);
+        if (cached != null) {
+            return cached;
+        }
+        CustomerEntity customer = customerRepository.insertIfAbsent(entity);
+        customersByPhoneNumber.put(customer.getPhoneNumber(), customer);
+        return customer;
+    }
+
+    /**
+     * Find customers by phone number with one query and create the missing ones with given names in one batch
+     */
+    public Map<String, CustomerEntity> findOrCreateAll(Map<String, String> namesByPhoneNumber) {
+        Map<String, CustomerEntity> customers = new HashMap<>();
+        customerRepository
+                .findByPhoneNumbers(namesByPhoneNumber.keySet())
+                .forEach(customer -> customers.put(customer.getPhoneNumber(), customer));
+
+        List<CustomerEntity> missing = new ArrayList<>();
+        namesByPhoneNumber.forEach((phoneNumber, name) -> {
+            if (!customers.containsKey(phoneNumber)) {
+                CustomerEntity customer = new CustomerEntity();
+                customer.setPhoneNumber(phoneNumber);
+                customer.setName(name);
+                missing.add(customer);
+            }
+        });
+        customerRepository
+                .insertAllIfAbsent(missing)
+                .forEach(customer -> customers.put(customer.getPhoneNumber(), customer));
+        return customers;
     }
 
     public Optional<CustomerEntity> findById(Long id) {
@@ -46,18 +98,24 @@ public class CustomerService {
     }
 
     public CustomerEntity update(CustomerEntity entity) {
-        customerRepository
+        CustomerEntity existing = customerRepository
                 .findById(entity.getId())
                 .orElseThrow(() -> new EntityNotFoundException("Customer with id " + entity.getId() + " not found"));
+        // Read before the save, which merges the new state into the managed existing customer
+        String previousPhoneNumber = existing.getPhoneNumber();
+        customersByPhoneNumber.evict(previousPhoneNumber);
 
-        return customerRepository.save(entity);
+        CustomerEntity saved = customerRepository.save(entity);
+        eventPublisher.publishEvent(
+                new CustomerChangedEvent(previousPhoneNumber, saved.getPhoneNumber(), saved.getName()));
+        return saved;
     }
 
     public void deleteById(Long id) {
-        customerRepository
-                .findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Customer with id " + id + " not found"));
-
-        customerRepository.deleteById(id);
+        if (!customerRepository.deleteById(id)) {
+            throw new EntityNotFoundException("Customer with id " + id + " not found");
+        }
+        // The phone number is not known without loading the customer, deletes are rare
+        customersByPhoneNumber.clear();
     }
 }
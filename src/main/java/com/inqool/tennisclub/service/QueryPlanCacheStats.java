@@ -0,0 +1,7 @@
+package com.inqool.tennisclub.service;
+
+/**
+ * Hibernate query plan cache counters since startup.
+ * A miss means a query string was parsed and translated again.
+ */
+public record QueryPlanCacheStats(boolean enabled, long hitCount, long missCount, long queryExecutionCount) {}
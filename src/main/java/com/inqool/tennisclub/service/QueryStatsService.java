@@ -0,0 +1,29 @@
+package com.inqool.tennisclub.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class QueryStatsService {
+
+    private final Statistics statistics;
+
+    @Autowired
+    public QueryStatsService(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Query plan cache hits and misses, collected when hibernate.generate_statistics is enabled
+     */
+    public QueryPlanCacheStats queryPlanCache() {
+        return new QueryPlanCacheStats(
+                statistics.isStatisticsEnabled(),
+                statistics.getQueryPlanCacheHitCount(),
+                statistics.getQueryPlanCacheMissCount(),
+                statistics.getQueryExecutionCount());
+    }
+}
@@ -1,14 +1,32 @@
 package com.inqool.tennisclub.service;
 
+import com.inqool.tennisclub.data.index.CourtAvailabilityIndex;
+import com.inqool.tennisclub.data.model.ReservationDailyStatsEntity;
 import com.inqool.tennisclub.data.model.ReservationEntity;
+import com.inqool.tennisclub.data.model.ReservationSlot;
+import com.inqool.tennisclub.data.model.enums.BatchMode;
 import com.inqool.tennisclub.data.repository.ReservationRepository;
 import com.inqool.tennisclub.exceptions.EntityNotFoundException;
 import com.inqool.tennisclub.exceptions.ReservationAlreadyExist;
+import com.inqool.tennisclub.exceptions.ReservationBatchRejected;
+import com.inqool.tennisclub.service.event.ReservationChangedEvent;
+import com.inqool.tennisclub.service.lock.StripedCourtLocks;
+import com.inqool.tennisclub.service.pricing.PricingEngine;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.Duration;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,20 +34,92 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class ReservationService {
 
+    /**
+     * SQLState of PostgreSQL exclusion constraint violation (ex_reservation_court_overlap)
+     */
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private static final String EXISTING_OVERLAP = "Reservation for this court at this time already exists";
+
     private final ReservationRepository reservationRepository;
+    private final CourtAvailabilityIndex availabilityIndex;
+    private final StripedCourtLocks courtLocks;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PricingEngine pricingEngine;
+    private final ReservationStatsService statsService;
 
     @Autowired
-    public ReservationService(ReservationRepository reservationRepository) {
+    public ReservationService(
+            ReservationRepository reservationRepository,
+            CourtAvailabilityIndex availabilityIndex,
+            StripedCourtLocks courtLocks,
+            ApplicationEventPublisher eventPublisher,
+            PricingEngine pricingEngine,
+            ReservationStatsService statsService) {
         this.reservationRepository = reservationRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.courtLocks = courtLocks;
+        this.eventPublisher = eventPublisher;
+        this.pricingEngine = pricingEngine;
+        this.statsService = statsService;
     }
 
     public ReservationEntity create(ReservationEntity entity) {
-        if (!reservationRepository.isCourtAvailable(
-                entity.getCourt().getId(), entity.getStartTime(), entity.getEndTime())) {
-            throw new ReservationAlreadyExist("Reservation for this court at this time already exists");
+        courtLocks.lockUntilTransactionEnds(List.of(entity.getCourt().getId()));
+
+        if (!isCourtAvailable(entity)) {
+            throw new ReservationAlreadyExist(EXISTING_OVERLAP);
         }
 
-        return reservationRepository.save(entity);
+        ReservationEntity saved = saveAndFlush(entity);
+        statsService.apply(statsService.contributionsOf(List.of(saved)), List.of());
+        eventPublisher.publishEvent(ReservationChangedEvent.saved(saved));
+        return saved;
+    }
+
+    /**
+     * Create reservations of a batch. Courts of the batch are locked together and overlaps, with existing
+     * reservations as well as within the batch, are found in a single sweep per court. Within the batch,
+     * the reservation starting earlier wins. In ALL_OR_NOTHING mode any rejection fails the whole batch.
+     */
+    public BatchResult createBatch(List<ReservationEntity> reservations, BatchMode mode) {
+        SortedMap<Integer, String> rejected = new TreeMap<>();
+        Map<Long, List<Interval>> intervalsByCourt = new HashMap<>();
+        OffsetDateTime from = null;
+        OffsetDateTime to = null;
+        for (int i = 0; i < reservations.size(); i++) {
+            ReservationEntity reservation = reservations.get(i);
+            if (reservation.getCourt() == null) {
+                rejected.put(i, "Court not found");
+                continue;
+            }
+            intervalsByCourt
+                    .computeIfAbsent(reservation.getCourt().getId(), courtId -> new ArrayList<>())
+                    .add(Interval.of(reservation.getStartTime(), reservation.getEndTime(), i));
+            from = from == null || reservation.getStartTime().isBefore(from) ? reservation.getStartTime() : from;
+            to = to == null || reservation.getEndTime().isAfter(to) ? reservation.getEndTime() : to;
+        }
+
+        if (!intervalsByCourt.isEmpty()) {
+            courtLocks.lockUntilTransactionEnds(intervalsByCourt.keySet());
+            addExistingIntervals(intervalsByCourt, from, to);
+            intervalsByCourt.values().forEach(intervals -> sweep(intervals, rejected));
+        }
+
+        if (mode == BatchMode.ALL_OR_NOTHING && !rejected.isEmpty()) {
+            throw new ReservationBatchRejected(rejected);
+        }
+
+        List<ReservationEntity> accepted = new ArrayList<>();
+        for (int i = 0; i < reservations.size(); i++) {
+            if (!rejected.containsKey(i)) {
+                accepted.add(reservations.get(i));
+            }
+        }
+        List<ReservationEntity> created = saveAllAndFlush(accepted);
+        statsService.apply(statsService.contributionsOf(created), List.of());
+        created.forEach(reservation -> eventPublisher.publishEvent(ReservationChangedEvent.saved(reservation)));
+        return new BatchResult(created, rejected);
     }
 
     @Transactional(readOnly = true)
@@ -58,33 +148,229 @@ public class ReservationService {
         return reservationRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<ReservationEntity> findPage(Long afterId, int size) {
+        int limit = CursorPage.limit(size);
+        return CursorPage.of(reservationRepository.findAllAfter(afterId, limit + 1), limit, ReservationEntity::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachStartingBetween(OffsetDateTime from, OffsetDateTime to, Consumer<ReservationEntity> action) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("From must be before to");
+        }
+        reservationRepository.forEachStartingBetween(from, to, action);
+    }
+
     public ReservationEntity update(ReservationEntity entity) {
         ReservationEntity oldEntity = reservationRepository
                 .findById(entity.getId())
                 .orElseThrow(() -> new EntityNotFoundException("Reservation with id " + entity.getId() + " not found"));
 
         entity.setCreatedAt(oldEntity.getCreatedAt());
+        // Both courts, the rollup row of the court the reservation moves off changes too
+        courtLocks.lockUntilTransactionEnds(List.of(oldEntity.getCourt().getId(), entity.getCourt().getId()));
+
+        // The reservation's own current slot does not count as an overlap
+        if (!isCourtAvailableExcept(entity, oldEntity.getId())) {
+            throw new ReservationAlreadyExist(EXISTING_OVERLAP);
+        }
+
+        // Taken before the save, which merges the new state into the managed old entity
+        List<ReservationDailyStatsEntity> before = statsService.contributionsOf(List.of(oldEntity));
 
-        return reservationRepository.save(entity);
+        ReservationEntity saved = saveAndFlush(entity);
+        statsService.apply(statsService.contributionsOf(List.of(saved)), before);
+        eventPublisher.publishEvent(ReservationChangedEvent.saved(saved));
+        return saved;
     }
 
     public void deleteById(Long id) {
-        reservationRepository
-                .findById(id)
+        ReservationDailyStatsEntity contribution = statsService
+                .contributionOf(id)
                 .orElseThrow(() -> new EntityNotFoundException("Reservation with id " + id + " not found"));
+        courtLocks.lockUntilTransactionEnds(List.of(contribution.getCourtId()));
+        if (!reservationRepository.deleteById(id)) {
+            throw new EntityNotFoundException("Reservation with id " + id + " not found");
+        }
+        statsService.apply(List.of(), List.of(contribution));
+        eventPublisher.publishEvent(ReservationChangedEvent.deleted(id));
+    }
 
-        reservationRepository.deleteById(id);
+    /**
+     * Soft delete all active reservations of given court, returns number of deleted reservations
+     */
+    public int deleteByCourtId(Long courtId) {
+        courtLocks.lockUntilTransactionEnds(List.of(courtId));
+        List<Long> ids = reservationRepository.deleteByCourtIds(List.of(courtId));
+        // All active reservations of the court are gone, so are its rollup rows
+        statsService.deleteCourts(List.of(courtId));
+        ids.forEach(id -> eventPublisher.publishEvent(ReservationChangedEvent.deleted(id)));
+        return ids.size();
+    }
+
+    /**
+     * Store the current surface cost and the resulting total price on the reservation
+     */
+    private ReservationEntity snapshotPrice(ReservationEntity reservation) {
+        reservation.setCostPerMinute(reservation.getCourt().getCourtSurface().getCostPerMinute());
+        reservation.setTotalPrice(calculateTotalPrice(reservation));
+        return reservation;
     }
 
     public BigDecimal calculateTotalPrice(ReservationEntity reservation) {
-        long minutes = Duration.between(reservation.getStartTime(), reservation.getEndTime())
-                .toMinutes();
+        return PricingEngine.toAmount(calculateTotalPriceInCents(reservation));
+    }
 
+    /**
+     * Total price in cents, computed without allocating
+     */
+    public long calculateTotalPriceInCents(ReservationEntity reservation) {
+        long minutes = ChronoUnit.MINUTES.between(reservation.getStartTime(), reservation.getEndTime());
         BigDecimal costPerMinute = reservation.getCourt().getCourtSurface().getCostPerMinute();
-        BigDecimal baseCost = costPerMinute.multiply(BigDecimal.valueOf(minutes));
+        return pricingEngine.priceInCents(costPerMinute, reservation.getGameType(), minutes);
+    }
 
-        BigDecimal multiplier = reservation.getGameType().getPriceMultiplier();
+    private ReservationEntity saveAndFlush(ReservationEntity entity) {
+        return saveAllAndFlush(List.of(entity)).get(0);
+    }
+
+    /**
+     * Saves the reservations and flushes them, so an overlap rejected by the database
+     * exclusion constraint (another node won the race) surfaces as a booking conflict.
+     */
+    private List<ReservationEntity> saveAllAndFlush(List<ReservationEntity> entities) {
+        try {
+            List<ReservationEntity> saved = new ArrayList<>(entities.size());
+            entities.forEach(entity -> saved.add(reservationRepository.save(snapshotPrice(entity))));
+            reservationRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException ex) {
+            if (isOverlapViolation(ex)) {
+                throw new ReservationAlreadyExist(EXISTING_OVERLAP);
+            }
+            throw ex;
+        }
+    }
+
+    private static boolean isOverlapViolation(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                // A failed JDBC batch reports the violating statement as the next exception
+                for (SQLException next = sqlException; next != null; next = next.getNextException()) {
+                    if (EXCLUSION_VIOLATION.equals(next.getSQLState())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Availability is answered by the in-memory index once it is warm,
+     * the database is only queried while the index is still loading.
+     */
+    private boolean isCourtAvailable(ReservationEntity entity) {
+        Long courtId = entity.getCourt().getId();
+        if (availabilityIndex.isWarm()) {
+            return availabilityIndex.isAvailable(courtId, entity.getStartTime(), entity.getEndTime());
+        }
+        return reservationRepository.isCourtAvailable(courtId, entity.getStartTime(), entity.getEndTime());
+    }
+
+    /**
+     * Same as {@link #isCourtAvailable(ReservationEntity)}, the given reservation does not count as an overlap
+     */
+    private boolean isCourtAvailableExcept(ReservationEntity entity, Long excludeReservationId) {
+        Long courtId = entity.getCourt().getId();
+        if (availabilityIndex.isWarm()) {
+            return availabilityIndex.isAvailable(
+                    courtId, entity.getStartTime(), entity.getEndTime(), excludeReservationId);
+        }
+        return reservationRepository.isCourtAvailable(
+                courtId, entity.getStartTime(), entity.getEndTime(), excludeReservationId);
+    }
+
+    /**
+     * Add already booked slots overlapping [from, to) to the intervals of their courts,
+     * from the in-memory index once it is warm, otherwise with one query for all courts
+     */
+    private void addExistingIntervals(
+            Map<Long, List<Interval>> intervalsByCourt, OffsetDateTime from, OffsetDateTime to) {
+        if (availabilityIndex.isWarm()) {
+            long fromMillis = from.toInstant().toEpochMilli();
+            long toMillis = to.toInstant().toEpochMilli();
+            intervalsByCourt.forEach((courtId, intervals) -> availabilityIndex.forEachSlot(
+                    courtId, fromMillis, toMillis, (start, end) -> intervals.add(new Interval(start, end, -1))));
+            return;
+        }
+        List<ReservationSlot> slots =
+                reservationRepository.findActiveSlotsOverlapping(intervalsByCourt.keySet(), from, to);
+        for (ReservationSlot slot : slots) {
+            intervalsByCourt.get(slot.courtId()).add(Interval.of(slot.startTime(), slot.endTime(), -1));
+        }
+    }
+
+    /**
+     * Reject batch intervals of one court overlapping an existing interval or an accepted batch interval.
+     * Existing intervals are merged first, so a batch interval is accepted only once it is known to be
+     * free and a rejection never names a batch interval that is rejected itself. Accepted batch
+     * intervals never overlap each other, so only the last accepted one can reach past the start of
+     * the next interval.
+     */
+    private static void sweep(List<Interval> intervals, Map<Integer, String> rejected) {
+        intervals.sort(Comparator.comparingLong(Interval::start).thenComparingInt(Interval::index));
+
+        List<Interval> booked = new ArrayList<>();
+        for (Interval interval : intervals) {
+            if (!interval.isExisting()) {
+                continue;
+            }
+            Interval last = booked.isEmpty() ? null : booked.get(booked.size() - 1);
+            if (last != null && interval.start() <= last.end()) {
+                booked.set(booked.size() - 1, new Interval(last.start(), Math.max(last.end(), interval.end()), -1));
+            } else {
+                booked.add(interval);
+            }
+        }
+
+        // Batch intervals come in start order, so booked intervals ending before one never matter again
+        int nextBooked = 0;
+        Interval lastAccepted = null;
+        for (Interval interval : intervals) {
+            if (interval.isExisting()) {
+                continue;
+            }
+            while (nextBooked < booked.size() && booked.get(nextBooked).end() <= interval.start()) {
+                nextBooked++;
+            }
+            if (nextBooked < booked.size() && booked.get(nextBooked).start() < interval.end()) {
+                rejected.put(interval.index(), EXISTING_OVERLAP);
+            } else if (lastAccepted != null && interval.start() < lastAccepted.end()) {
+                rejected.put(interval.index(), "Overlaps reservation " + lastAccepted.index() + " of the batch");
+            } else {
+                lastAccepted = interval;
+            }
+        }
+    }
+
+    /**
+     * Reservations created from a batch and rejection reasons by position in the batch
+     */
+    public record BatchResult(List<ReservationEntity> created, SortedMap<Integer, String> rejected) {}
+
+    /**
+     * Time interval in epoch millis, index is the position in the batch or -1 for an existing reservation
+     */
+    private record Interval(long start, long end, int index) {
 
-        return baseCost.multiply(multiplier).setScale(2, RoundingMode.HALF_UP);
+        static Interval of(OffsetDateTime start, OffsetDateTime end, int index) {
+            return new Interval(start.toInstant().toEpochMilli(), end.toInstant().toEpochMilli(), index);
+        }
+
+        boolean isExisting() {
+            return index < 0;
+        }
     }
 }
@@ -0,0 +1,173 @@
+package com.inqool.tennisclub.service;
+
+import com.inqool.tennisclub.data.model.ReservationDailyStatsEntity;
+import com.inqool.tennisclub.data.model.ReservationDailyStatsId;
+import com.inqool.tennisclub.data.model.ReservationEntity;
+import com.inqool.tennisclub.data.model.StatsTotals;
+import com.inqool.tennisclub.data.model.enums.StatsGrouping;
+import com.inqool.tennisclub.data.repository.CourtRepository;
+import com.inqool.tennisclub.data.repository.ReservationDailyStatsRepository;
+import com.inqool.tennisclub.exceptions.InvalidQueryException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Revenue and utilization reports over the daily reservation rollup.
+ * <p>
+ * The rollup holds one row per court and day. ReservationService adds and subtracts the contributions
+ * of the reservations it writes in the same transaction, so reports are consistent with committed
+ * reservations and never scan the reservation table. A reservation counts towards the day it starts on.
+ */
+@Service
+@Transactional
+public class ReservationStatsService {
+
+    private static final Comparator<ReservationDailyStatsId> ROW_ORDER =
+            Comparator.comparing(ReservationDailyStatsId::getCourtId).thenComparing(ReservationDailyStatsId::getDay);
+
+    private final ReservationDailyStatsRepository dailyStatsRepository;
+    private final CourtRepository courtRepository;
+    private final long openMinutesPerDay;
+
+    @Autowired
+    public ReservationStatsService(
+            ReservationDailyStatsRepository dailyStatsRepository,
+            CourtRepository courtRepository,
+            @Value("${app.stats.open-minutes-per-day:840}") long openMinutesPerDay) {
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.courtRepository = courtRepository;
+        this.openMinutesPerDay = openMinutesPerDay;
+    }
+
+    /**
+     * Contributions of given reservations to the rollup rows of their courts and start days.
+     * Must be taken before a managed reservation is changed.
+     */
+    public List<ReservationDailyStatsEntity> contributionsOf(Collection<ReservationEntity> reservations) {
+        return reservations.stream()
+                .map(reservation -> new ReservationDailyStatsEntity(
+                        reservation.getCourt().getId(),
+                        dayOf(reservation.getStartTime()),
+                        1,
+                        ChronoUnit.MINUTES.between(reservation.getStartTime(), reservation.getEndTime()),
+                        reservation.getTotalPrice()))
+                .toList();
+    }
+
+    /**
+     * Contribution of an active reservation read from the database, for deletes that do not load it
+     */
+    public Optional<ReservationDailyStatsEntity> contributionOf(Long reservationId) {
+        return dailyStatsRepository.findContribution(reservationId);
+    }
+
+    /**
+     * Add contributions of created reservations and subtract those of removed ones. Contributions to
+     * the same court and day are combined first, so each changed row costs one upsert and rows that
+     * do not change cost nothing.
+     */
+    public void apply(
+            Collection<ReservationDailyStatsEntity> added, Collection<ReservationDailyStatsEntity> removed) {
+        Map<ReservationDailyStatsId, ReservationDailyStatsEntity> deltas = new TreeMap<>(ROW_ORDER);
+        added.forEach(contribution -> combine(deltas, contribution, 1));
+        removed.forEach(contribution -> combine(deltas, contribution, -1));
+        deltas.values().stream().filter(delta -> !isEmpty(delta)).forEach(dailyStatsRepository::add);
+    }
+
+    /**
+     * Recompute all rollup rows of given courts
+     */
+    public void refreshCourts(Collection<Long> courtIds) {
+        dailyStatsRepository.refreshCourts(courtIds);
+    }
+
+    /**
+     * Delete all rollup rows of given courts, after all their reservations were deleted
+     */
+    public void deleteCourts(Collection<Long> courtIds) {
+        dailyStatsRepository.deleteCourts(courtIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<StatsTotals> revenue(LocalDate from, LocalDate to, StatsGrouping groupBy) {
+        validateRange(from, to);
+        return switch (groupBy) {
+            case COURT -> dailyStatsRepository.sumByCourt(from, to);
+            case SURFACE -> dailyStatsRepository.sumBySurface(from, to);
+            case DAY -> dailyStatsRepository.sumByDay(from, to);
+        };
+    }
+
+    /**
+     * Booked minutes against opening hours (app.stats.open-minutes-per-day) of the courts in each group
+     */
+    @Transactional(readOnly = true)
+    public List<UtilizationStats> utilization(LocalDate from, LocalDate to, StatsGrouping groupBy) {
+        List<StatsTotals> totals = revenue(from, to, groupBy);
+        long days = ChronoUnit.DAYS.between(from, to);
+        return switch (groupBy) {
+            case COURT -> utilization(totals, group -> days * openMinutesPerDay);
+            case SURFACE -> {
+                Map<String, Long> courts = dailyStatsRepository.countCourtsBySurface();
+                yield utilization(totals, group -> courts.getOrDefault(group, 0L) * days * openMinutesPerDay);
+            }
+            case DAY -> {
+                long courts = courtRepository.count();
+                yield utilization(totals, group -> courts * openMinutesPerDay);
+            }
+        };
+    }
+
+    private static List<UtilizationStats> utilization(
+            List<StatsTotals> totals, ToLongFunction<String> availableMinutes) {
+        return totals.stream()
+                .map(total -> new UtilizationStats(
+                        total.group(), total.bookedMinutes(), availableMinutes.applyAsLong(total.group())))
+                .toList();
+    }
+
+    /**
+     * The start_time column has no time zone. Hibernate writes it in the JVM time zone, so the day in that
+     * zone is the day the database casts it to when the rollup is recomputed.
+     */
+    private static LocalDate dayOf(OffsetDateTime startTime) {
+        return startTime.atZoneSameInstant(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    private static void combine(
+            Map<ReservationDailyStatsId, ReservationDailyStatsEntity> deltas,
+            ReservationDailyStatsEntity contribution,
+            int sign) {
+        ReservationDailyStatsEntity delta = deltas.computeIfAbsent(
+                new ReservationDailyStatsId(contribution.getCourtId(), contribution.getDay()),
+                id -> new ReservationDailyStatsEntity(id.getCourtId(), id.getDay(), 0, 0, BigDecimal.ZERO));
+        delta.setReservations(delta.getReservations() + sign * contribution.getReservations());
+        delta.setBookedMinutes(delta.getBookedMinutes() + sign * contribution.getBookedMinutes());
+        BigDecimal revenue = contribution.getRevenue() == null ? BigDecimal.ZERO : contribution.getRevenue();
+        delta.setRevenue(sign > 0 ? delta.getRevenue().add(revenue) : delta.getRevenue().subtract(revenue));
+    }
+
+    private static boolean isEmpty(ReservationDailyStatsEntity delta) {
+        return delta.getReservations() == 0 && delta.getBookedMinutes() == 0 && delta.getRevenue().signum() == 0;
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new InvalidQueryException("From must be before to");
+        }
+    }
+}
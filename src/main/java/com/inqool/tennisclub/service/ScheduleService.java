@@ -0,0 +1,82 @@
+package com.inqool.tennisclub.service;
+
+import com.inqool.tennisclub.data.index.ReservationScheduleReadModel;
+import com.inqool.tennisclub.data.model.CourtEntity;
+import com.inqool.tennisclub.data.model.ReservationEntity;
+import com.inqool.tennisclub.data.model.ReservationView;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Upcoming reservations of a court or a customer, served from the {@link ReservationScheduleReadModel}.
+ * <p>
+ * Deliberately not transactional: once the read model is warm and the court is cached, a schedule read
+ * does not borrow a database connection or wait for a court lock. Until the model is warm the reservations
+ * are loaded from the database. Reads still run on the request threads, which writes can exhaust unless
+ * requests run on virtual threads (VIRTUAL_THREADS=true).
+ */
+@Service
+public class ScheduleService {
+
+    private static final Comparator<ReservationView> START_ORDER =
+            Comparator.comparing(ReservationView::startTime).thenComparing(ReservationView::id);
+
+    private final ReservationScheduleReadModel readModel;
+    private final ReservationService reservationService;
+    private final CourtService courtService;
+
+    @Autowired
+    public ScheduleService(
+            ReservationScheduleReadModel readModel, ReservationService reservationService, CourtService courtService) {
+        this.readModel = readModel;
+        this.reservationService = reservationService;
+        this.courtService = courtService;
+    }
+
+    /**
+     * Reservations of court with given number that have not ended yet, ordered by start time
+     */
+    public List<ReservationView> findUpcomingByCourtNumber(Integer number) {
+        // Resolved first in both paths, so an unknown court is reported whether the model is warm or not
+        CourtEntity court = courtService.findByCourtNumber(number);
+        if (!readModel.isWarm()) {
+            return upcoming(reservationService.findByCourtNumber(number));
+        }
+        return readModel.findUpcomingByCourt(court.getId());
+    }
+
+    /**
+     * Reservations of customer with given phone number that have not ended yet, ordered by start time
+     */
+    public List<ReservationView> findUpcomingByPhoneNumber(String phone) {
+        if (!readModel.isWarm()) {
+            return upcoming(reservationService.findByPhoneNumber(phone, false));
+        }
+        return readModel.findUpcomingByPhone(phone);
+    }
+
+    /**
+     * Reservations of customer with given phone number that start in the future, ordered by start time
+     */
+    public List<ReservationView> findFutureByPhoneNumber(String phone) {
+        if (!readModel.isWarm()) {
+            return upcoming(reservationService.findByPhoneNumber(phone, true));
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        return readModel.findUpcomingByPhone(phone).stream()
+                .filter(view -> view.startTime().isAfter(now))
+                .toList();
+    }
+
+    private static List<ReservationView> upcoming(List<ReservationEntity> reservations) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return reservations.stream()
+                .filter(reservation -> reservation.getEndTime().isAfter(now))
+                .map(ReservationView::of)
+                .sorted(START_ORDER)
+                .toList();
+    }
+}
@@ -0,0 +1,14 @@
+package com.inqool.tennisclub.service;
+
+/**
+ * Booked and bookable minutes of one group (court number, surface name or day)
+ */
+public record UtilizationStats(String group, long bookedMinutes, long availableMinutes) {
+
+    /**
+     * Booked share of the bookable time in percent, 0 when nothing was bookable
+     */
+    public double utilizationPercent() {
+        return availableMinutes == 0 ? 0 : bookedMinutes * 100.0 / availableMinutes;
+    }
+}
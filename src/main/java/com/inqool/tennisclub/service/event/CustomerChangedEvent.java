@@ -0,0 +1,7 @@
+package com.inqool.tennisclub.service.event;
+
+/**
+ * Published by CustomerService when a customer is updated, with the phone number it had before.
+ * Listeners that keep in-memory state should react after the transaction commits.
+ */
+public record CustomerChangedEvent(String previousPhoneNumber, String phoneNumber, String name) {}
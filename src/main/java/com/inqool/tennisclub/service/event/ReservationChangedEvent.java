@@ -0,0 +1,34 @@
+package com.inqool.tennisclub.service.event;
+
+import com.inqool.tennisclub.data.model.ReservationEntity;
+import com.inqool.tennisclub.data.model.ReservationSlot;
+import com.inqool.tennisclub.data.model.ReservationView;
+
+/**
+ * Published by ReservationService whenever a reservation is saved or soft deleted.
+ * Listeners that keep in-memory state should react after the transaction commits.
+ * Saved reservations carry a {@link ReservationView} snapshot, deleted ones only their id.
+ */
+public record ReservationChangedEvent(Type type, ReservationSlot slot, ReservationView view) {
+
+    public enum Type {
+        SAVED,
+        DELETED
+    }
+
+    public static ReservationChangedEvent saved(ReservationEntity entity) {
+        ReservationSlot slot = new ReservationSlot(
+                entity.getId(), entity.getCourt().getId(), entity.getStartTime(), entity.getEndTime());
+        return new ReservationChangedEvent(
+                entity.isActive() ? Type.SAVED : Type.DELETED, slot, ReservationView.of(entity));
+    }
+
+    public static ReservationChangedEvent deleted(Long reservationId) {
+        return new ReservationChangedEvent(
+                Type.DELETED, new ReservationSlot(reservationId, null, null, null), null);
+    }
+
+    public Long reservationId() {
+        return slot.reservationId();
+    }
+}
@@ -0,0 +1,87 @@
+package com.inqool.tennisclub.service.lock;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-court locks serializing conflicting reservation writes inside this JVM.
+ * <p>
+ * Courts are mapped onto a fixed number of lock stripes, so bookings of unrelated
+ * courts rarely contend. Locks are held until the surrounding transaction completes,
+ * which covers the availability check, the insert and the commit. Listeners that
+ * must run while the lock is still held (like the availability index) have to be
+ * ordered before {@link #RELEASE_ORDER}.
+ */
+@Component
+public class StripedCourtLocks {
+
+    public static final int RELEASE_ORDER = TransactionSynchronization.LOWEST_PRECEDENCE;
+
+    private final ReentrantLock[] stripes;
+
+    public StripedCourtLocks(@Value("${app.reservation.lock-stripes:64}") int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("Lock stripe count must be positive");
+        }
+        int size = Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new ReentrantLock[Math.max(size, 1)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Lock given courts until the current transaction completes.
+     * Stripes are always acquired in ascending order to avoid deadlocks.
+     */
+    public void lockUntilTransactionEnds(Collection<Long> courtIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Court locks require an active transaction");
+        }
+
+        List<ReentrantLock> locks = stripesFor(courtIds);
+        locks.forEach(ReentrantLock::lock);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return RELEASE_ORDER;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                for (int i = locks.size() - 1; i >= 0; i--) {
+                    locks.get(i).unlock();
+                }
+            }
+        });
+    }
+
+    /**
+     * Whether the stripe of given court is held by the current thread
+     */
+    public boolean isHeldByCurrentThread(Long courtId) {
+        return stripes[stripeIndex(courtId)].isHeldByCurrentThread();
+    }
+
+    private List<ReentrantLock> stripesFor(Collection<Long> courtIds) {
+        List<ReentrantLock> locks = new ArrayList<>();
+        courtIds.stream()
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .forEach(index -> locks.add(stripes[index]));
+        return locks;
+    }
+
+    private int stripeIndex(Long courtId) {
+        int hash = courtId.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+}
@@ -0,0 +1,118 @@
+package com.inqool.tennisclub.service.pricing;
+
+import com.inqool.tennisclub.data.model.enums.GameType;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reservation prices computed on scaled longs instead of BigDecimal.
+ * <p>
+ * Per-minute rates of every game type are precomputed once per surface cost as milli-cents
+ * (1/100 000 of the currency unit), a price is then a single multiplication and a HALF_UP
+ * rounding to cents - no allocation. Costs whose rates are not a whole number of milli-cents,
+ * and products overflowing a long, fall back to the exact BigDecimal computation, so results
+ * are always identical to {@code costPerMinute * minutes * multiplier} rounded HALF_UP to 2 places.
+ */
+@Component
+public class PricingEngine {
+
+    /**
+     * Scale of the precomputed rates, milli-cents
+     */
+    static final int RATE_SCALE = 5;
+
+    private static final int PRICE_SCALE = 2;
+
+    private static final long MILLI_CENTS_PER_CENT = 1000;
+
+    /**
+     * Distinct surface costs kept, surfaces are few - the map is only reset if costs keep changing
+     */
+    private static final int MAX_RATES = 1024;
+
+    private static final GameType[] GAME_TYPES = GameType.values();
+
+    private final Map<BigDecimal, Rates> ratesByCost = new ConcurrentHashMap<>();
+
+    /**
+     * Price of playing given number of minutes at given surface cost, in cents
+     */
+    public long priceInCents(BigDecimal costPerMinute, GameType gameType, long minutes) {
+        Rates rates = rates(costPerMinute);
+        if (rates.exact) {
+            long milliCentsPerMinute = rates.milliCentsPerMinute[gameType.ordinal()];
+            if (Math.abs(minutes) <= Long.MAX_VALUE / Math.max(1, Math.abs(milliCentsPerMinute))) {
+                return roundToCents(milliCentsPerMinute * minutes);
+            }
+        }
+        return exactPriceInCents(costPerMinute, gameType, minutes);
+    }
+
+    /**
+     * Amount in cents as a BigDecimal with 2 decimal places
+     */
+    public static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, PRICE_SCALE);
+    }
+
+    private Rates rates(BigDecimal costPerMinute) {
+        Rates rates = ratesByCost.get(costPerMinute);
+        if (rates == null) {
+            if (ratesByCost.size() >= MAX_RATES) {
+                ratesByCost.clear();
+            }
+            rates = ratesByCost.computeIfAbsent(costPerMinute, Rates::of);
+        }
+        return rates;
+    }
+
+    /**
+     * HALF_UP rounding of milli-cents to cents, ties away from zero
+     */
+    private static long roundToCents(long milliCents) {
+        long cents = (Math.abs(milliCents) + MILLI_CENTS_PER_CENT / 2) / MILLI_CENTS_PER_CENT;
+        return milliCents < 0 ? -cents : cents;
+    }
+
+    private static long exactPriceInCents(BigDecimal costPerMinute, GameType gameType, long minutes) {
+        return costPerMinute
+                .multiply(BigDecimal.valueOf(minutes))
+                .multiply(gameType.getPriceMultiplier())
+                .setScale(PRICE_SCALE, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+    }
+
+    private static final class Rates {
+
+        private static final Rates INEXACT = new Rates(false, null);
+
+        private final boolean exact;
+
+        private final long[] milliCentsPerMinute;
+
+        private Rates(boolean exact, long[] milliCentsPerMinute) {
+            this.exact = exact;
+            this.milliCentsPerMinute = milliCentsPerMinute;
+        }
+
+        static Rates of(BigDecimal costPerMinute) {
+            long[] rates = new long[GAME_TYPES.length];
+            for (GameType gameType : GAME_TYPES) {
+                BigDecimal rate = costPerMinute.multiply(gameType.getPriceMultiplier());
+                if (rate.stripTrailingZeros().scale() > RATE_SCALE) {
+                    return INEXACT;
+                }
+                try {
+                    rates[gameType.ordinal()] = rate.setScale(RATE_SCALE).unscaledValue().longValueExact();
+                } catch (ArithmeticException e) {
+                    return INEXACT;
+                }
+            }
+            return new Rates(true, rates);
+        }
+    }
+}
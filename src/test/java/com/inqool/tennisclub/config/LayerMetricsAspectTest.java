@@ -0,0 +1,81 @@
+package com.inqool.tennisclub.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.inqool.tennisclub.data.model.CourtEntity;
+import com.inqool.tennisclub.data.model.enums.GameType;
+import com.inqool.tennisclub.data.repository.CourtRepository;
+import com.inqool.tennisclub.exceptions.EntityNotFoundException;
+import com.inqool.tennisclub.service.CourtService;
+import com.inqool.tennisclub.service.pricing.PricingEngine;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+public class LayerMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CourtRepository courtRepository;
+
+    private CourtService courtService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        courtRepository = mock(CourtRepository.class);
+        courtService = proxy(new CourtService(courtRepository));
+    }
+
+    @Test
+    void time_serviceMethod_recordsTimerTaggedByLayerClassAndMethod() {
+        when(courtRepository.findById(1L)).thenReturn(Optional.of(new CourtEntity()));
+
+        courtService.findById(1L);
+        courtService.findById(1L);
+
+        Timer timer = meterRegistry
+                .find(LayerMetricsAspect.METRIC)
+                .tags("layer", "service", "class", "CourtService", "method", "findById", "exception", "none")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void time_methodThrows_recordsExceptionTagAndRethrows() {
+        when(courtRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> courtService.findById(1L)).isInstanceOf(EntityNotFoundException.class);
+
+        Timer timer = meterRegistry
+                .find(LayerMetricsAspect.METRIC)
+                .tags("method", "findById", "exception", "EntityNotFoundException")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void time_pricingEngine_isNotTimed() {
+        PricingEngine pricingEngine = proxy(new PricingEngine());
+
+        pricingEngine.priceInCents(new BigDecimal("0.20"), GameType.SINGLES, 60);
+
+        assertThat(meterRegistry.find(LayerMetricsAspect.METRIC).timers()).isEmpty();
+    }
+
+    private <T> T proxy(T target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new LayerMetricsAspect(meterRegistry));
+        return proxyFactory.getProxy();
+    }
+}
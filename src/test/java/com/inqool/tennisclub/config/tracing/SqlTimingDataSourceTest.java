@@ -0,0 +1,64 @@
+package com.inqool.tennisclub.config.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SqlTimingDataSourceTest {
+
+    private SqlTimingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sql_timing_test");
+        dataSource = new SqlTimingDataSource(h2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStats.stop();
+    }
+
+    @Test
+    void execute_tracedRequest_recordsEveryStatement() throws Exception {
+        SqlStats stats = SqlStats.start();
+
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                PreparedStatement prepared = connection.prepareStatement("SELECT ? + 1")) {
+            statement.execute("SELECT 1");
+            prepared.setInt(1, 1);
+            prepared.executeQuery().close();
+            prepared.executeQuery().close();
+        }
+
+        assertThat(stats.getStatements()).isEqualTo(3);
+        assertThat(stats.getTotalNanos()).isPositive();
+        assertThat(stats.getSlowestSql()).isIn("SELECT 1", "SELECT ? + 1");
+    }
+
+    @Test
+    void execute_outsideTracedRequest_isNotRecorded() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+
+        assertThat(SqlStats.current()).isNull();
+    }
+
+    @Test
+    void getConnection_proxyEqualsOnlyItself() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection).isEqualTo(connection);
+            assertThat(connection.unwrap(Connection.class)).isNotNull();
+        }
+    }
+}
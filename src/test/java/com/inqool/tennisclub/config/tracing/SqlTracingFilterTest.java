@@ -0,0 +1,55 @@
+package com.inqool.tennisclub.config.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class SqlTracingFilterTest {
+
+    private final SqlTracingFilter filter = new SqlTracingFilter(Duration.ofMillis(500), 50);
+
+    @Test
+    void doFilter_bodyWritten_addsServerTimingOfRequestStatements() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, servletResponse) -> {
+            SqlStats.current().record("select 1", 2_000_000);
+            SqlStats.current().record("select 2", 5_500_000);
+            servletResponse.getOutputStream().write("[]".getBytes());
+            servletResponse.flushBuffer();
+        };
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/reservation"), response, chain);
+
+        assertThat(response.getHeader(SqlTracingFilter.SERVER_TIMING))
+                .isEqualTo("db;dur=7.50;desc=\"2 statements\", db-slowest;dur=5.50");
+        assertThat(SqlStats.current()).isNull();
+    }
+
+    @Test
+    void doFilter_noBody_addsServerTimingAfterChain() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/court/1"), response, (request, res) -> {});
+
+        assertThat(response.getHeader(SqlTracingFilter.SERVER_TIMING))
+                .isEqualTo("db;dur=0.00;desc=\"0 statements\", db-slowest;dur=0.00");
+    }
+
+    @Test
+    void record_keepsSlowestStatement() {
+        SqlStats stats = new SqlStats();
+
+        stats.record("select fast", 1_000);
+        stats.record("select slow", 9_000);
+        stats.record("select medium", 5_000);
+
+        assertThat(stats.getStatements()).isEqualTo(3);
+        assertThat(stats.getTotalNanos()).isEqualTo(15_000);
+        assertThat(stats.getSlowestSql()).isEqualTo("select slow");
+        assertThat(stats.getSlowestNanos()).isEqualTo(9_000);
+    }
+}
@@ -0,0 +1,146 @@
+package com.inqool.tennisclub.data.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.inqool.tennisclub.data.model.ReservationSlot;
+import com.inqool.tennisclub.data.repository.ReservationRepository;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AvailabilityBitmapEngineTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private CourtAvailabilityIndex availabilityIndex;
+
+    private AvailabilityBitmapEngine availabilityEngine;
+
+    private OffsetDateTime tomorrow;
+
+    @BeforeEach
+    void setUp() {
+        availabilityIndex = new CourtAvailabilityIndex(reservationRepository);
+        availabilityEngine = new AvailabilityBitmapEngine(availabilityIndex);
+        tomorrow = OffsetDateTime.now(ZoneOffset.UTC).plusDays(1).truncatedTo(ChronoUnit.DAYS);
+    }
+
+    @Test
+    void findFreeSlots_emptyCourt_returnsWholeWindow() {
+        List<FreeSlot> freeSlots =
+                availabilityEngine.findFreeSlots(1L, tomorrow.plusHours(17), tomorrow.plusHours(21), 90);
+
+        assertThat(freeSlots).containsExactly(new FreeSlot(tomorrow.plusHours(17), tomorrow.plusHours(21)));
+    }
+
+    @Test
+    void findFreeSlots_reservationInWindow_returnsGaps() {
+        availabilityIndex.put(new ReservationSlot(1L, 1L, tomorrow.plusHours(18), tomorrow.plusHours(19)));
+
+        List<FreeSlot> freeSlots =
+                availabilityEngine.findFreeSlots(1L, tomorrow.plusHours(17), tomorrow.plusHours(21), 60);
+
+        assertThat(freeSlots)
+                .containsExactly(
+                        new FreeSlot(tomorrow.plusHours(17), tomorrow.plusHours(18)),
+                        new FreeSlot(tomorrow.plusHours(19), tomorrow.plusHours(21)));
+    }
+
+    @Test
+    void findFreeSlots_gapShorterThanMinimum_isSkipped() {
+        availabilityIndex.put(new ReservationSlot(1L, 1L, tomorrow.plusHours(18), tomorrow.plusHours(19)));
+
+        List<FreeSlot> freeSlots =
+                availabilityEngine.findFreeSlots(1L, tomorrow.plusHours(17), tomorrow.plusHours(21), 90);
+
+        assertThat(freeSlots).containsExactly(new FreeSlot(tomorrow.plusHours(19), tomorrow.plusHours(21)));
+    }
+
+    @Test
+    void findFreeSlots_unalignedReservation_blocksWholeSlots() {
+        availabilityIndex.put(new ReservationSlot(
+                1L, 1L, tomorrow.plusHours(18).plusMinutes(2), tomorrow.plusHours(18).plusMinutes(58)));
+
+        List<FreeSlot> freeSlots =
+                availabilityEngine.findFreeSlots(1L, tomorrow.plusHours(17), tomorrow.plusHours(20), 5);
+
+        assertThat(freeSlots)
+                .containsExactly(
+                        new FreeSlot(tomorrow.plusHours(17), tomorrow.plusHours(18)),
+                        new FreeSlot(tomorrow.plusHours(19), tomorrow.plusHours(20)));
+    }
+
+    @Test
+    void findFreeSlots_windowAcrossMidnight_mergesDays() {
+        availabilityIndex.put(new ReservationSlot(1L, 1L, tomorrow.plusHours(20), tomorrow.plusHours(22)));
+
+        List<FreeSlot> freeSlots =
+                availabilityEngine.findFreeSlots(1L, tomorrow.plusHours(21), tomorrow.plusHours(27), 30);
+
+        assertThat(freeSlots).containsExactly(new FreeSlot(tomorrow.plusHours(22), tomorrow.plusHours(27)));
+    }
+
+    @Test
+    void findFreeSlots_afterIndexChange_rebuildsBitmap() {
+        assertThat(availabilityEngine.findFreeSlots(1L, tomorrow.plusHours(17), tomorrow.plusHours(18), 60))
+                .hasSize(1);
+
+        availabilityIndex.put(new ReservationSlot(1L, 1L, tomorrow.plusHours(17), tomorrow.plusHours(18)));
+        assertThat(availabilityEngine.findFreeSlots(1L, tomorrow.plusHours(17), tomorrow.plusHours(18), 60))
+                .isEmpty();
+
+        availabilityIndex.remove(1L);
+        assertThat(availabilityEngine.findFreeSlots(1L, tomorrow.plusHours(17), tomorrow.plusHours(18), 60))
+                .hasSize(1);
+    }
+
+    @Test
+    void findFreeSlots_otherCourt_isNotAffected() {
+        availabilityIndex.put(new ReservationSlot(1L, 2L, tomorrow.plusHours(17), tomorrow.plusHours(21)));
+
+        assertThat(availabilityEngine.findFreeSlots(1L, tomorrow.plusHours(17), tomorrow.plusHours(21), 90))
+                .hasSize(1);
+        assertThat(availabilityEngine.findFreeSlots(2L, tomorrow.plusHours(17), tomorrow.plusHours(21), 90))
+                .isEmpty();
+    }
+
+    @Test
+    void findFreeSlots_farFutureDay_isNotCached() {
+        OffsetDateTime farFuture = tomorrow.plusDays(AvailabilityBitmapEngine.CACHED_DAYS_AHEAD + 10);
+        availabilityIndex.put(new ReservationSlot(1L, 1L, farFuture.plusHours(18), farFuture.plusHours(19)));
+
+        List<FreeSlot> freeSlots =
+                availabilityEngine.findFreeSlots(1L, farFuture.plusHours(17), farFuture.plusHours(21), 60);
+
+        assertThat(freeSlots)
+                .containsExactly(
+                        new FreeSlot(farFuture.plusHours(17), farFuture.plusHours(18)),
+                        new FreeSlot(farFuture.plusHours(19), farFuture.plusHours(21)));
+        assertThat(availabilityEngine.cachedDays(1L)).isZero();
+    }
+
+    @Test
+    void findFreeSlots_givenReservations_returnsGapsWithoutIndex() {
+        List<ReservationSlot> reservations = List.of(
+                new ReservationSlot(1L, 1L, tomorrow.plusHours(18), tomorrow.plusHours(19)),
+                new ReservationSlot(2L, 1L, tomorrow.plusHours(23), tomorrow.plusHours(25)));
+
+        List<FreeSlot> freeSlots =
+                availabilityEngine.findFreeSlots(reservations, tomorrow.plusHours(17), tomorrow.plusHours(27), 60);
+
+        assertThat(freeSlots)
+                .containsExactly(
+                        new FreeSlot(tomorrow.plusHours(17), tomorrow.plusHours(18)),
+                        new FreeSlot(tomorrow.plusHours(19), tomorrow.plusHours(23)),
+                        new FreeSlot(tomorrow.plusHours(25), tomorrow.plusHours(27)));
+        assertThat(availabilityEngine.cachedDays(1L)).isZero();
+    }
+}
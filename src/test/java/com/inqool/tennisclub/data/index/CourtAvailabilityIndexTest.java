@@ -0,0 +1,142 @@
+package com.inqool.tennisclub.data.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.inqool.tennisclub.data.model.ReservationSlot;
+import com.inqool.tennisclub.data.repository.ReservationRepository;
+import com.inqool.tennisclub.service.event.ReservationChangedEvent;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CourtAvailabilityIndexTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @InjectMocks
+    private CourtAvailabilityIndex availabilityIndex;
+
+    private OffsetDateTime tomorrow;
+
+    @BeforeEach
+    void setUp() {
+        tomorrow = OffsetDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    @Test
+    void warmUp_loadsActiveSlots_marksIndexWarm() {
+        when(reservationRepository.findActiveSlotsEndingAfter(any()))
+                .thenReturn(List.of(new ReservationSlot(1L, 1L, tomorrow, tomorrow.plusHours(1))));
+
+        assertThat(availabilityIndex.isWarm()).isFalse();
+
+        availabilityIndex.warmUp();
+
+        assertThat(availabilityIndex.isWarm()).isTrue();
+        assertThat(availabilityIndex.size()).isEqualTo(1);
+        assertThat(availabilityIndex.isAvailable(1L, tomorrow, tomorrow.plusMinutes(30)))
+                .isFalse();
+    }
+
+    @Test
+    void isAvailable_emptyCourt_returnsTrue() {
+        assertThat(availabilityIndex.isAvailable(1L, tomorrow, tomorrow.plusHours(1)))
+                .isTrue();
+    }
+
+    @Test
+    void isAvailable_overlappingSlot_returnsFalse() {
+        availabilityIndex.put(new ReservationSlot(1L, 1L, tomorrow, tomorrow.plusHours(2)));
+
+        assertThat(availabilityIndex.isAvailable(1L, tomorrow.plusHours(1), tomorrow.plusHours(3)))
+                .isFalse();
+        assertThat(availabilityIndex.isAvailable(1L, tomorrow.minusHours(1), tomorrow.plusMinutes(1)))
+                .isFalse();
+        assertThat(availabilityIndex.isAvailable(1L, tomorrow.plusMinutes(30), tomorrow.plusMinutes(60)))
+                .isFalse();
+    }
+
+    @Test
+    void isAvailable_adjacentSlots_returnsTrue() {
+        availabilityIndex.put(new ReservationSlot(1L, 1L, tomorrow, tomorrow.plusHours(2)));
+
+        assertThat(availabilityIndex.isAvailable(1L, tomorrow.plusHours(2), tomorrow.plusHours(3)))
+                .isTrue();
+        assertThat(availabilityIndex.isAvailable(1L, tomorrow.minusHours(1), tomorrow))
+                .isTrue();
+    }
+
+    @Test
+    void isAvailable_longSlotStartingEarlier_returnsFalse() {
+        availabilityIndex.put(new ReservationSlot(1L, 1L, tomorrow, tomorrow.plusHours(10)));
+        availabilityIndex.put(new ReservationSlot(2L, 1L, tomorrow.plusHours(10), tomorrow.plusHours(11)));
+
+        assertThat(availabilityIndex.isAvailable(1L, tomorrow.plusHours(8), tomorrow.plusHours(9)))
+                .isFalse();
+    }
+
+    @Test
+    void isAvailable_otherCourt_returnsTrue() {
+        availabilityIndex.put(new ReservationSlot(1L, 1L, tomorrow, tomorrow.plusHours(2)));
+
+        assertThat(availabilityIndex.isAvailable(2L, tomorrow, tomorrow.plusHours(2)))
+                .isTrue();
+    }
+
+    @Test
+    void isAvailable_withExclusion_ignoresExcludedReservation() {
+        availabilityIndex.put(new ReservationSlot(1L, 1L, tomorrow, tomorrow.plusHours(2)));
+
+        assertThat(availabilityIndex.isAvailable(1L, tomorrow, tomorrow.plusHours(1), 1L))
+                .isTrue();
+    }
+
+    @Test
+    void isAvailable_startTimeAfterEndTime_throwsException() {
+        assertThatThrownBy(() -> availabilityIndex.isAvailable(1L, tomorrow.plusHours(1), tomorrow))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void put_sameReservation_replacesPreviousSlot() {
+        availabilityIndex.put(new ReservationSlot(1L, 1L, tomorrow, tomorrow.plusHours(1)));
+        availabilityIndex.put(new ReservationSlot(1L, 2L, tomorrow.plusHours(3), tomorrow.plusHours(4)));
+
+        assertThat(availabilityIndex.size()).isEqualTo(1);
+        assertThat(availabilityIndex.isAvailable(1L, tomorrow, tomorrow.plusHours(1)))
+                .isTrue();
+        assertThat(availabilityIndex.isAvailable(2L, tomorrow.plusHours(3), tomorrow.plusHours(4)))
+                .isFalse();
+    }
+
+    @Test
+    void onReservationChanged_deleted_removesSlot() {
+        availabilityIndex.put(new ReservationSlot(1L, 1L, tomorrow, tomorrow.plusHours(1)));
+
+        availabilityIndex.onReservationChanged(ReservationChangedEvent.deleted(1L));
+
+        assertThat(availabilityIndex.size()).isZero();
+        assertThat(availabilityIndex.isAvailable(1L, tomorrow, tomorrow.plusHours(1)))
+                .isTrue();
+    }
+
+    @Test
+    void put_endedSlot_isEvicted() {
+        OffsetDateTime yesterday = tomorrow.minusDays(2);
+        availabilityIndex.put(new ReservationSlot(1L, 1L, yesterday, yesterday.plusHours(1)));
+        availabilityIndex.put(new ReservationSlot(2L, 1L, tomorrow, tomorrow.plusHours(1)));
+
+        assertThat(availabilityIndex.size()).isEqualTo(1);
+    }
+}
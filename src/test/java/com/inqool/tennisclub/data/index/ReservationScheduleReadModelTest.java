@@ -0,0 +1,201 @@
+package com.inqool.tennisclub.data.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.inqool.tennisclub.data.model.ReservationView;
+import com.inqool.tennisclub.data.model.enums.GameType;
+import com.inqool.tennisclub.data.repository.ReservationRepository;
+import com.inqool.tennisclub.service.event.CustomerChangedEvent;
+import com.inqool.tennisclub.service.event.ReservationChangedEvent;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ReservationScheduleReadModelTest {
+
+    private static final String PHONE = "+420123456789";
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @InjectMocks
+    private ReservationScheduleReadModel readModel;
+
+    private OffsetDateTime tomorrow;
+
+    @BeforeEach
+    void setUp() {
+        tomorrow = OffsetDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    @Test
+    void warmUp_loadsUpcomingViews_marksModelWarm() {
+        when(reservationRepository.findActiveViewsEndingAfter(any()))
+                .thenReturn(List.of(view(1L, 1L, PHONE, tomorrow, "John")));
+
+        assertThat(readModel.isWarm()).isFalse();
+
+        readModel.warmUp();
+
+        assertThat(readModel.isWarm()).isTrue();
+        assertThat(readModel.size()).isEqualTo(1);
+        assertThat(readModel.findUpcomingByCourt(1L))
+                .extracting(ReservationView::id)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void warmUp_reservationSavedWhileLoading_keepsNewerView() {
+        ReservationView saved = view(1L, 2L, PHONE, tomorrow.plusHours(3), "John");
+        when(reservationRepository.findActiveViewsEndingAfter(any())).thenAnswer(invocation -> {
+            readModel.put(saved);
+            return List.of(view(1L, 1L, PHONE, tomorrow, "John"));
+        });
+
+        readModel.warmUp();
+
+        assertThat(readModel.findUpcomingByCourt(1L)).isEmpty();
+        assertThat(readModel.findUpcomingByCourt(2L)).containsExactly(saved);
+    }
+
+    @Test
+    void warmUp_reservationDeletedWhileLoading_isNotRestored() {
+        when(reservationRepository.findActiveViewsEndingAfter(any())).thenAnswer(invocation -> {
+            readModel.onReservationChanged(ReservationChangedEvent.deleted(1L));
+            return List.of(view(1L, 1L, PHONE, tomorrow, "John"));
+        });
+
+        readModel.warmUp();
+
+        assertThat(readModel.size()).isZero();
+        assertThat(readModel.findUpcomingByCourt(1L)).isEmpty();
+        assertThat(readModel.findUpcomingByPhone(PHONE)).isEmpty();
+    }
+
+    @Test
+    void findUpcomingByCourt_orderedByStartTime() {
+        readModel.put(view(1L, 1L, PHONE, tomorrow.plusHours(2), "John"));
+        readModel.put(view(2L, 1L, "+420987654321", tomorrow, "Jane"));
+        readModel.put(view(3L, 2L, PHONE, tomorrow.plusHours(1), "John"));
+
+        assertThat(readModel.findUpcomingByCourt(1L))
+                .extracting(ReservationView::id)
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    void findUpcomingByPhone_returnsReservationsOnAllCourts() {
+        readModel.put(view(1L, 1L, PHONE, tomorrow.plusHours(2), "John"));
+        readModel.put(view(2L, 1L, "+420987654321", tomorrow, "Jane"));
+        readModel.put(view(3L, 2L, PHONE, tomorrow.plusHours(1), "John"));
+
+        assertThat(readModel.findUpcomingByPhone(PHONE))
+                .extracting(ReservationView::id)
+                .containsExactly(3L, 1L);
+    }
+
+    @Test
+    void findUpcomingByCourt_unknownCourt_returnsEmptyList() {
+        assertThat(readModel.findUpcomingByCourt(1L)).isEmpty();
+    }
+
+    @Test
+    void findUpcomingByCourt_nullCourt_throwsException() {
+        assertThatThrownBy(() -> readModel.findUpcomingByCourt(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void put_endedReservationOfCourt_isEvicted() {
+        OffsetDateTime yesterday = tomorrow.minusDays(2);
+        readModel.put(view(1L, 1L, PHONE, yesterday, "John"));
+        readModel.put(view(2L, 1L, PHONE, tomorrow, "John"));
+
+        assertThat(readModel.size()).isEqualTo(1);
+        assertThat(readModel.findUpcomingByCourt(1L))
+                .extracting(ReservationView::id)
+                .containsExactly(2L);
+        assertThat(readModel.findUpcomingByPhone(PHONE))
+                .extracting(ReservationView::id)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void put_sameReservation_replacesPreviousView() {
+        readModel.put(view(1L, 1L, PHONE, tomorrow, "John"));
+        readModel.put(view(1L, 2L, "+420987654321", tomorrow.plusHours(3), "Jane"));
+
+        assertThat(readModel.size()).isEqualTo(1);
+        assertThat(readModel.findUpcomingByCourt(1L)).isEmpty();
+        assertThat(readModel.findUpcomingByPhone(PHONE)).isEmpty();
+        assertThat(readModel.findUpcomingByPhone("+420987654321"))
+                .extracting(ReservationView::customerName)
+                .containsExactly("Jane");
+    }
+
+    @Test
+    void onReservationChanged_deleted_removesView() {
+        readModel.put(view(1L, 1L, PHONE, tomorrow, "John"));
+
+        readModel.onReservationChanged(ReservationChangedEvent.deleted(1L));
+
+        assertThat(readModel.size()).isZero();
+        assertThat(readModel.findUpcomingByCourt(1L)).isEmpty();
+        assertThat(readModel.findUpcomingByPhone(PHONE)).isEmpty();
+    }
+
+    @Test
+    void onCustomerChanged_newPhoneNumber_movesViewsToNewNumberAndName() {
+        readModel.put(view(1L, 1L, PHONE, tomorrow, "John"));
+        readModel.put(view(2L, 2L, PHONE, tomorrow.plusHours(2), "John"));
+
+        readModel.onCustomerChanged(new CustomerChangedEvent(PHONE, "+420111222333", "John Smith"));
+
+        assertThat(readModel.findUpcomingByPhone(PHONE)).isEmpty();
+        assertThat(readModel.findUpcomingByPhone("+420111222333"))
+                .extracting(ReservationView::id, ReservationView::customerName)
+                .containsExactly(tuple(1L, "John Smith"), tuple(2L, "John Smith"));
+        assertThat(readModel.findUpcomingByCourt(1L))
+                .singleElement()
+                .extracting(ReservationView::phoneNumber)
+                .isEqualTo("+420111222333");
+        assertThat(readModel.size()).isEqualTo(2);
+    }
+
+    @Test
+    void onCustomerChanged_samePhoneNumber_updatesName() {
+        readModel.put(view(1L, 1L, PHONE, tomorrow, "John"));
+
+        readModel.onCustomerChanged(new CustomerChangedEvent(PHONE, PHONE, "John Smith"));
+
+        assertThat(readModel.findUpcomingByPhone(PHONE))
+                .singleElement()
+                .extracting(ReservationView::customerName)
+                .isEqualTo("John Smith");
+    }
+
+    private static ReservationView view(Long id, Long courtId, String phone, OffsetDateTime start, String name) {
+        return new ReservationView(
+                id,
+                courtId,
+                courtId.intValue(),
+                phone,
+                name,
+                GameType.SINGLES,
+                start,
+                start.plusHours(1),
+                BigDecimal.TEN,
+                start.minusDays(1));
+    }
+}
@@ -58,6 +58,23 @@ public class CourtRepositoryImplTest {
         assertTrue(result.stream().allMatch(CourtEntity::isActive));
     }
 
+    @Test
+    void findByCourtNumbers_existingAndMissingNumbers_returnsExistingCourts() {
+        testCourt.setCourtNumber(901);
+        courtRepositoryImpl.save(testCourt);
+
+        List<CourtEntity> result = courtRepositoryImpl.findByCourtNumbers(List.of(901, 902));
+
+        assertEquals(1, result.size());
+        assertEquals(testCourt.getId(), result.get(0).getId());
+        assertEquals("Clay", result.get(0).getCourtSurface().getSurfaceName());
+    }
+
+    @Test
+    void findByCourtNumbers_emptyCollection_returnsEmptyList() {
+        assertTrue(courtRepositoryImpl.findByCourtNumbers(List.of()).isEmpty());
+    }
+
     @Test
     void save_withNull_throwsException() {
         assertThrows(InvalidDataAccessApiUsageException.class, () -> {
@@ -134,6 +151,18 @@ public class CourtRepositoryImplTest {
         assertTrue(found.stream().allMatch(c -> c.getCourtSurface().equals(testSurface)));
     }
 
+    @Test
+    void findByCourtSurface_deletedCourt_isFilteredOut() {
+        CourtEntity saved = courtRepositoryImpl.save(testCourt);
+        courtRepositoryImpl.deleteById(saved.getId());
+
+        List<CourtEntity> found = courtRepositoryImpl.findByCourtSurface(testSurface);
+
+        assertTrue(found.stream().noneMatch(c -> c.getId().equals(saved.getId())));
+        assertFalse(courtRepositoryImpl.findById(saved.getId()).isPresent());
+        assertFalse(courtRepositoryImpl.findByCourtNumber(1).isPresent());
+    }
+
     @Test
     void findByCourtSurface_nullSurface_returnsEmptyList() {
         List<CourtEntity> found = courtRepositoryImpl.findByCourtSurface(null);
@@ -169,6 +198,32 @@ public class CourtRepositoryImplTest {
         assertTrue(all.stream().allMatch(CourtEntity::isActive), "All returned entities should be active");
     }
 
+    @Test
+    void findAllAfter_pagesThroughActiveEntitiesInIdOrder() {
+        for (int number = 20; number < 25; number++) {
+            CourtEntity court = new CourtEntity();
+            court.setCourtNumber(number);
+            court.setCourtSurface(testSurface);
+            courtRepositoryImpl.save(court);
+        }
+        courtRepositoryImpl.findByCourtNumber(22).ifPresent(courtRepositoryImpl::delete);
+
+        List<CourtEntity> firstPage = courtRepositoryImpl.findAllAfter(null, 2);
+        List<CourtEntity> secondPage = courtRepositoryImpl.findAllAfter(firstPage.get(1).getId(), 10);
+
+        assertEquals(2, firstPage.size());
+        assertTrue(firstPage.get(0).getId() < firstPage.get(1).getId());
+        assertTrue(secondPage.stream().allMatch(c -> c.getId() > firstPage.get(1).getId()));
+        assertTrue(secondPage.stream().allMatch(CourtEntity::isActive));
+        assertEquals(
+                courtRepositoryImpl.count(), firstPage.size() + secondPage.size(), "Pages should cover all courts");
+    }
+
+    @Test
+    void findAllAfter_nonPositiveLimit_throwsException() {
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> courtRepositoryImpl.findAllAfter(null, 0));
+    }
+
     @Test
     void deleteById_existingId_softDeletesEntity() {
         CourtEntity saved = courtRepositoryImpl.save(testCourt);
@@ -184,6 +239,36 @@ public class CourtRepositoryImplTest {
         assertFalse(foundInActiveList, "Soft deleted entity should not appear in findAll results");
     }
 
+    @Test
+    void deleteById_managedEntity_marksInstanceInactive() {
+        CourtEntity saved = courtRepositoryImpl.save(testCourt);
+
+        assertTrue(courtRepositoryImpl.deleteById(saved.getId()));
+
+        assertFalse(saved.isActive(), "Managed instance should reflect the bulk soft delete");
+        assertFalse(courtRepositoryImpl.deleteById(saved.getId()), "Deleted entity should not be deleted again");
+    }
+
+    @Test
+    void deleteAllById_multipleIds_softDeletesOnlyActiveEntities() {
+        CourtEntity first = courtRepositoryImpl.save(testCourt);
+        CourtEntity second = new CourtEntity();
+        second.setCourtNumber(2);
+        second.setCourtSurface(testSurface);
+        courtRepositoryImpl.save(second);
+        courtRepositoryImpl.deleteById(second.getId());
+
+        int deleted = courtRepositoryImpl.deleteAllById(List.of(first.getId(), second.getId(), -1L));
+
+        assertEquals(1, deleted);
+        assertFalse(courtRepositoryImpl.existsById(first.getId()));
+    }
+
+    @Test
+    void deleteAllById_nullIds_throwsException() {
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> courtRepositoryImpl.deleteAllById(null));
+    }
+
     @Test
     void deleteById_nullId_throwsException() {
         assertThrows(InvalidDataAccessApiUsageException.class, () -> {
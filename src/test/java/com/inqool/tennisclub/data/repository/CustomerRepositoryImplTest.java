@@ -45,6 +45,16 @@ public class CustomerRepositoryImplTest {
         assertTrue(result.stream().allMatch(CustomerEntity::isActive));
     }
 
+    @Test
+    void findByPhoneNumbers_existingAndMissingNumbers_returnsExistingCustomers() {
+        CustomerEntity saved = customerRepositoryImpl.save(testCustomer);
+
+        List<CustomerEntity> result = customerRepositoryImpl.findByPhoneNumbers(List.of("123456789", "987654321"));
+
+        assertEquals(1, result.size());
+        assertEquals(saved.getId(), result.get(0).getId());
+    }
+
     @Test
     void save_withNull_throwsException() {
         assertThrows(InvalidDataAccessApiUsageException.class, () -> {
@@ -151,6 +161,76 @@ public class CustomerRepositoryImplTest {
         assertTrue(all.stream().allMatch(CustomerEntity::isActive), "All returned entities should be active");
     }
 
+    @Test
+    void insertIfAbsent_newPhoneNumber_insertsCustomer() {
+        CustomerEntity inserted = customerRepositoryImpl.insertIfAbsent(testCustomer);
+
+        assertNotNull(inserted.getId());
+        Optional<CustomerEntity> found = customerRepositoryImpl.findByPhoneNumber("123456789");
+        assertTrue(found.isPresent());
+        assertEquals(inserted.getId(), found.get().getId());
+        assertEquals("John Doe", found.get().getName());
+    }
+
+    @Test
+    void insertIfAbsent_existingPhoneNumber_returnsExistingCustomer() {
+        CustomerEntity saved = customerRepositoryImpl.save(testCustomer);
+        CustomerEntity duplicate = new CustomerEntity();
+        duplicate.setName("Jane Doe");
+        duplicate.setPhoneNumber("123456789");
+
+        CustomerEntity result = customerRepositoryImpl.insertIfAbsent(duplicate);
+
+        assertEquals(saved.getId(), result.getId());
+        assertEquals("John Doe", result.getName());
+        assertEquals(
+                1,
+                customerRepositoryImpl.findByPhoneNumbers(List.of("123456789")).size());
+    }
+
+    @Test
+    void insertIfAbsent_softDeletedCustomer_reactivatesCustomer() {
+        CustomerEntity saved = customerRepositoryImpl.save(testCustomer);
+        customerRepositoryImpl.deleteById(saved.getId());
+        CustomerEntity returning = new CustomerEntity();
+        returning.setName("John Doe");
+        returning.setPhoneNumber("123456789");
+
+        CustomerEntity result = customerRepositoryImpl.insertIfAbsent(returning);
+
+        assertEquals(saved.getId(), result.getId());
+        assertTrue(result.isActive());
+        assertTrue(customerRepositoryImpl.existsById(saved.getId()));
+    }
+
+    @Test
+    void insertAllIfAbsent_newAndExistingPhoneNumbers_insertsOnlyNewCustomers() {
+        CustomerEntity saved = customerRepositoryImpl.save(testCustomer);
+        CustomerEntity duplicate = new CustomerEntity();
+        duplicate.setName("Jane Doe");
+        duplicate.setPhoneNumber("123456789");
+        CustomerEntity added = new CustomerEntity();
+        added.setName("Eva Cerna");
+        added.setPhoneNumber("987654321");
+
+        List<CustomerEntity> result = customerRepositoryImpl.insertAllIfAbsent(List.of(duplicate, added));
+
+        assertEquals(2, result.size());
+        assertNotNull(added.getId());
+        assertTrue(result.contains(added));
+        assertTrue(result.stream().anyMatch(c -> c.getId().equals(saved.getId()) && "John Doe".equals(c.getName())));
+        assertEquals(
+                2,
+                customerRepositoryImpl
+                        .findByPhoneNumbers(List.of("123456789", "987654321"))
+                        .size());
+    }
+
+    @Test
+    void insertIfAbsent_nullCustomer_throwsException() {
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> customerRepositoryImpl.insertIfAbsent(null));
+    }
+
     @Test
     void deleteById_existingId_softDeletesEntity() {
         CustomerEntity saved = customerRepositoryImpl.save(testCustomer);
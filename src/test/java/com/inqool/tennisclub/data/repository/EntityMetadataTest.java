@@ -0,0 +1,45 @@
+package com.inqool.tennisclub.data.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.inqool.tennisclub.data.model.CustomerEntity;
+import com.inqool.tennisclub.data.repository.impl.EntityMetadata;
+import org.junit.jupiter.api.Test;
+
+public class EntityMetadataTest {
+
+    private final EntityMetadata<CustomerEntity, Long> metadata = EntityMetadata.of(CustomerEntity.class);
+
+    @Test
+    void getId_returnsIdField() {
+        CustomerEntity customer = new CustomerEntity();
+
+        assertThat(metadata.getId(customer)).isNull();
+
+        customer.setId(7L);
+
+        assertThat(metadata.getId(customer)).isEqualTo(7L);
+    }
+
+    @Test
+    void setActive_updatesActiveField() {
+        CustomerEntity customer = new CustomerEntity();
+        customer.setActive(true);
+
+        metadata.setActive(customer, false);
+
+        assertThat(customer.isActive()).isFalse();
+    }
+
+    @Test
+    void of_classWithoutActiveField_throwsException() {
+        assertThatThrownBy(() -> EntityMetadata.of(NotSoftDeletable.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("'active'");
+    }
+
+    private static class NotSoftDeletable {
+        private Long id;
+    }
+}
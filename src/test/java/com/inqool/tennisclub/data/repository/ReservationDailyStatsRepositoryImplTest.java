@@ -0,0 +1,211 @@
+package com.inqool.tennisclub.data.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.inqool.tennisclub.data.model.*;
+import com.inqool.tennisclub.data.model.enums.GameType;
+import com.inqool.tennisclub.data.repository.impl.CourtRepositoryImpl;
+import com.inqool.tennisclub.data.repository.impl.CourtSurfaceRepositoryImpl;
+import com.inqool.tennisclub.data.repository.impl.CustomerRepositoryImpl;
+import com.inqool.tennisclub.data.repository.impl.ReservationDailyStatsRepositoryImpl;
+import com.inqool.tennisclub.data.repository.impl.ReservationRepositoryImpl;
+import jakarta.transaction.Transactional;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@Transactional
+@Rollback
+@ActiveProfiles("test")
+public class ReservationDailyStatsRepositoryImplTest {
+
+    // Far enough in the future not to meet reservations of other tests
+    private static final LocalDate DAY = LocalDate.of(2099, 1, 10);
+
+    @Autowired
+    private ReservationDailyStatsRepositoryImpl dailyStatsRepositoryImpl;
+
+    @Autowired
+    private ReservationRepositoryImpl reservationRepositoryImpl;
+
+    @Autowired
+    private CourtSurfaceRepositoryImpl courtSurfaceRepositoryImpl;
+
+    @Autowired
+    private CourtRepositoryImpl courtRepositoryImpl;
+
+    @Autowired
+    private CustomerRepositoryImpl customerRepositoryImpl;
+
+    private CourtEntity firstCourt;
+    private CourtEntity secondCourt;
+    private CustomerEntity testCustomer;
+
+    @BeforeEach
+    void setUp() {
+        CourtSurfaceEntity testSurface = new CourtSurfaceEntity();
+        testSurface.setSurfaceName("Stats Clay");
+        testSurface.setCostPerMinute(new BigDecimal("0.50"));
+        courtSurfaceRepositoryImpl.save(testSurface);
+
+        firstCourt = new CourtEntity();
+        firstCourt.setCourtNumber(9601);
+        firstCourt.setCourtSurface(testSurface);
+        courtRepositoryImpl.save(firstCourt);
+
+        secondCourt = new CourtEntity();
+        secondCourt.setCourtNumber(9602);
+        secondCourt.setCourtSurface(testSurface);
+        courtRepositoryImpl.save(secondCourt);
+
+        testCustomer = new CustomerEntity();
+        testCustomer.setName("Stats Customer");
+        testCustomer.setPhoneNumber("+420999000601");
+        customerRepositoryImpl.save(testCustomer);
+    }
+
+    @Test
+    void refreshCourts_sumsActiveReservationsPerCourtAndDay() {
+        reservation(firstCourt, DAY, 10, 60, "30.00");
+        reservation(firstCourt, DAY, 12, 30, "15.00");
+        reservation(secondCourt, DAY, 10, 90, "45.00");
+        ReservationEntity deleted = reservation(secondCourt, DAY, 14, 60, "30.00");
+        reservationRepositoryImpl.deleteById(deleted.getId());
+
+        dailyStatsRepositoryImpl.refreshCourts(List.of(firstCourt.getId(), secondCourt.getId()));
+
+        List<StatsTotals> byCourt = dailyStatsRepositoryImpl.sumByCourt(DAY, DAY.plusDays(1));
+        assertEquals(
+                List.of(
+                        new StatsTotals("9601", 2L, 90L, new BigDecimal("45.00")),
+                        new StatsTotals("9602", 1L, 90L, new BigDecimal("45.00"))),
+                byCourt);
+        assertEquals(
+                List.of(new StatsTotals("Stats Clay", 3L, 180L, new BigDecimal("90.00"))),
+                dailyStatsRepositoryImpl.sumBySurface(DAY, DAY.plusDays(1)));
+        assertEquals(
+                List.of(new StatsTotals(DAY.toString(), 3L, 180L, new BigDecimal("90.00"))),
+                dailyStatsRepositoryImpl.sumByDay(DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    void add_missingAndExistingRow_createsThenAccumulates() {
+        dailyStatsRepositoryImpl.add(delta(firstCourt, DAY, 1, 60, "30.00"));
+        dailyStatsRepositoryImpl.add(delta(firstCourt, DAY, 1, 30, "15.00"));
+
+        assertEquals(
+                List.of(new StatsTotals("9601", 2L, 90L, new BigDecimal("45.00"))),
+                dailyStatsRepositoryImpl.sumByCourt(DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    void add_negativeDeltaToZero_dropsRowFromTotals() {
+        dailyStatsRepositoryImpl.add(delta(firstCourt, DAY, 1, 60, "30.00"));
+        dailyStatsRepositoryImpl.add(delta(secondCourt, DAY, 1, 60, "30.00"));
+
+        dailyStatsRepositoryImpl.add(delta(firstCourt, DAY, -1, -60, "-30.00"));
+
+        assertEquals(
+                List.of(new StatsTotals("9602", 1L, 60L, new BigDecimal("30.00"))),
+                dailyStatsRepositoryImpl.sumByCourt(DAY, DAY.plusDays(1)));
+        assertEquals(1, dailyStatsRepositoryImpl.sumByDay(DAY, DAY.plusDays(1)).size());
+    }
+
+    @Test
+    void add_daysOutsideRange_areNotSummed() {
+        dailyStatsRepositoryImpl.add(delta(firstCourt, DAY, 1, 60, "30.00"));
+        dailyStatsRepositoryImpl.add(delta(firstCourt, DAY.plusDays(1), 1, 60, "30.00"));
+
+        assertEquals(2, dailyStatsRepositoryImpl.sumByDay(DAY, DAY.plusDays(2)).size());
+        assertEquals(1, dailyStatsRepositoryImpl.sumByDay(DAY, DAY.plusDays(1)).size());
+    }
+
+    @Test
+    void refreshCourts_allReservationsOfCourtDeleted_removesRows() {
+        reservation(firstCourt, DAY, 10, 60, "30.00");
+        reservation(firstCourt, DAY.plusDays(3), 10, 60, "30.00");
+        dailyStatsRepositoryImpl.refreshCourts(List.of(firstCourt.getId()));
+        assertEquals(2, dailyStatsRepositoryImpl.sumByDay(DAY, DAY.plusDays(7)).size());
+
+        reservationRepositoryImpl.deleteByCourtIds(List.of(firstCourt.getId()));
+        dailyStatsRepositoryImpl.refreshCourts(List.of(firstCourt.getId()));
+
+        assertTrue(dailyStatsRepositoryImpl.sumByDay(DAY, DAY.plusDays(7)).isEmpty());
+    }
+
+    @Test
+    void deleteCourts_removesOnlyRowsOfGivenCourts() {
+        dailyStatsRepositoryImpl.add(delta(firstCourt, DAY, 1, 60, "30.00"));
+        dailyStatsRepositoryImpl.add(delta(secondCourt, DAY, 1, 90, "45.00"));
+
+        dailyStatsRepositoryImpl.deleteCourts(List.of(firstCourt.getId()));
+
+        assertEquals(
+                List.of(new StatsTotals("9602", 1L, 90L, new BigDecimal("45.00"))),
+                dailyStatsRepositoryImpl.sumByCourt(DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    void findContribution_activeReservation_returnsCourtStartDayAndTotals() {
+        ReservationEntity reservation = reservation(secondCourt, DAY.plusDays(1), 10, 90, "45.00");
+
+        Optional<ReservationDailyStatsEntity> contribution =
+                dailyStatsRepositoryImpl.findContribution(reservation.getId());
+
+        assertEquals(
+                Optional.of(new ReservationDailyStatsEntity(
+                        secondCourt.getId(), DAY.plusDays(1), 1L, 90L, new BigDecimal("45.00"))),
+                contribution);
+    }
+
+    @Test
+    void findContribution_deletedReservation_returnsEmpty() {
+        ReservationEntity reservation = reservation(firstCourt, DAY, 10, 60, "30.00");
+        reservationRepositoryImpl.deleteById(reservation.getId());
+
+        assertTrue(dailyStatsRepositoryImpl.findContribution(reservation.getId()).isEmpty());
+    }
+
+    @Test
+    void countCourtsBySurface_countsActiveCourts() {
+        courtRepositoryImpl.deleteById(secondCourt.getId());
+
+        assertEquals(1L, dailyStatsRepositoryImpl.countCourtsBySurface().get("Stats Clay"));
+    }
+
+    @Test
+    void sumByCourt_nullRange_throwsException() {
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> dailyStatsRepositoryImpl.sumByCourt(null, DAY));
+    }
+
+    private static ReservationDailyStatsEntity delta(
+            CourtEntity court, LocalDate day, long reservations, long minutes, String revenue) {
+        return new ReservationDailyStatsEntity(court.getId(), day, reservations, minutes, new BigDecimal(revenue));
+    }
+
+    private ReservationEntity reservation(CourtEntity court, LocalDate day, int hour, int minutes, String price) {
+        OffsetDateTime start = day.atTime(hour, 0).atZone(ZoneId.systemDefault()).toOffsetDateTime();
+        ReservationEntity reservation = new ReservationEntity();
+        reservation.setCourt(court);
+        reservation.setCustomer(testCustomer);
+        reservation.setGameType(GameType.SINGLES);
+        reservation.setStartTime(start);
+        reservation.setEndTime(start.plusMinutes(minutes));
+        reservation.setCostPerMinute(new BigDecimal("0.50"));
+        reservation.setTotalPrice(new BigDecimal(price));
+        return reservationRepositoryImpl.save(reservation);
+    }
+}
@@ -8,11 +8,20 @@ import com.inqool.tennisclub.data.repository.impl.CourtRepositoryImpl;
 import com.inqool.tennisclub.data.repository.impl.CourtSurfaceRepositoryImpl;
 import com.inqool.tennisclub.data.repository.impl.CustomerRepositoryImpl;
 import com.inqool.tennisclub.data.repository.impl.ReservationRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +50,9 @@ public class ReservationRepositoryImplTest {
     @Autowired
     private CustomerRepositoryImpl customerRepositoryImpl;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private ReservationEntity testReservation;
     private CourtEntity testCourt;
     private CustomerEntity testCustomer;
@@ -69,9 +81,13 @@ public class ReservationRepositoryImplTest {
         testReservation.setCourt(testCourt);
         testReservation.setGameType(GameType.DOUBLES);
         testReservation.setCustomer(testCustomer);
-        testReservation.setStartTime(OffsetDateTime.now().plusHours(1));
-        testReservation.setEndTime(OffsetDateTime.now().plusHours(2));
+        // Whole minutes, so the times compare equal after a round trip through the TIMESTAMP columns
+        OffsetDateTime start = OffsetDateTime.now().plusHours(1).truncatedTo(ChronoUnit.MINUTES);
+        testReservation.setStartTime(start);
+        testReservation.setEndTime(start.plusHours(1));
         testReservation.setCreatedAt(OffsetDateTime.now());
+        testReservation.setCostPerMinute(new BigDecimal("10.50"));
+        testReservation.setTotalPrice(new BigDecimal("945.00"));
         testReservation.setActive(true);
     }
 
@@ -102,6 +118,22 @@ public class ReservationRepositoryImplTest {
         assertTrue(saved.isActive());
     }
 
+    @Test
+    void save_newEntities_assignsSequenceIdsWithoutInsert() {
+        long rowsBefore = countRows();
+        ReservationEntity first = reservationRepositoryImpl.save(testReservation);
+        ReservationEntity second = reservationAt(OffsetDateTime.now().plusDays(10));
+
+        assertNotNull(first.getId());
+        assertTrue(second.getId() > first.getId());
+        // Both inserts are still pending, so they can be sent in one JDBC batch
+        assertEquals(rowsBefore, countRows());
+
+        reservationRepositoryImpl.flush();
+
+        assertEquals(rowsBefore + 2, countRows());
+    }
+
     @Test
     void findById_existingId_returnsEntity() {
         ReservationEntity saved = reservationRepositoryImpl.save(testReservation);
@@ -257,6 +289,24 @@ public class ReservationRepositoryImplTest {
         assertTrue(available);
     }
 
+    @Test
+    void isCourtAvailable_repeatedCalls_doNotMissQueryPlanCache() {
+        Statistics statistics =
+                entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        OffsetDateTime startTime = OffsetDateTime.now().plusDays(3);
+        reservationRepositoryImpl.isCourtAvailable(testCourt.getId(), startTime, startTime.plusHours(1));
+        reservationRepositoryImpl.isCourtAvailable(testCourt.getId(), startTime, startTime.plusHours(1), 1L);
+        long misses = statistics.getQueryPlanCacheMissCount();
+
+        for (int i = 1; i <= 10; i++) {
+            OffsetDateTime start = startTime.plusHours(i);
+            reservationRepositoryImpl.isCourtAvailable(testCourt.getId(), start, start.plusHours(1));
+            reservationRepositoryImpl.isCourtAvailable(testCourt.getId(), start, start.plusHours(1), (long) i);
+        }
+
+        assertEquals(misses, statistics.getQueryPlanCacheMissCount());
+    }
+
     @Test
     void isCourtAvailable_nullCourtId_throwsException() {
         OffsetDateTime startTime = OffsetDateTime.now();
@@ -295,6 +345,175 @@ public class ReservationRepositoryImplTest {
         });
     }
 
+    @Test
+    void findActiveSlotsEndingAfter_futureReservation_returnsSlot() {
+        ReservationEntity saved = reservationRepositoryImpl.save(testReservation);
+
+        List<ReservationSlot> slots = reservationRepositoryImpl.findActiveSlotsEndingAfter(OffsetDateTime.now());
+
+        assertTrue(slots.stream()
+                .anyMatch(slot -> slot.reservationId().equals(saved.getId())
+                        && slot.courtId().equals(testCourt.getId())));
+    }
+
+    @Test
+    void findActiveSlotsEndingAfter_endedReservation_returnsEmptyList() {
+        reservationRepositoryImpl.save(testReservation);
+
+        List<ReservationSlot> slots =
+                reservationRepositoryImpl.findActiveSlotsEndingAfter(testReservation.getEndTime());
+
+        assertTrue(slots.isEmpty());
+    }
+
+    @Test
+    void findActiveViewsEndingAfter_futureReservation_returnsViewWithDetails() {
+        ReservationEntity saved = reservationRepositoryImpl.save(testReservation);
+
+        List<ReservationView> views = reservationRepositoryImpl.findActiveViewsEndingAfter(OffsetDateTime.now());
+
+        ReservationView view = views.stream()
+                .filter(candidate -> candidate.id().equals(saved.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(testCourt.getCourtNumber(), view.courtNumber());
+        assertEquals(testReservation.getCustomer().getPhoneNumber(), view.phoneNumber());
+        assertEquals(testReservation.getCustomer().getName(), view.customerName());
+    }
+
+    @Test
+    void findActiveViewsEndingAfter_deletedReservation_returnsNoView() {
+        ReservationEntity saved = reservationRepositoryImpl.save(testReservation);
+        reservationRepositoryImpl.delete(saved);
+
+        List<ReservationView> views = reservationRepositoryImpl.findActiveViewsEndingAfter(OffsetDateTime.now());
+
+        assertTrue(views.stream().noneMatch(view -> view.id().equals(saved.getId())));
+    }
+
+    @Test
+    void findActiveViewsEndingAfter_nullTime_throwsException() {
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> {
+            reservationRepositoryImpl.findActiveViewsEndingAfter(null);
+        });
+    }
+
+    @Test
+    void findActiveSlotsOverlapping_returnsActiveOverlappingSlots() {
+        OffsetDateTime from = OffsetDateTime.now().plusDays(10).truncatedTo(ChronoUnit.MINUTES);
+        ReservationEntity overlapping = reservationAt(from.minusMinutes(15));
+        ReservationEntity inside = reservationAt(from.plusMinutes(30));
+        reservationAt(from.minusMinutes(30));
+        reservationAt(from.plusHours(1));
+        ReservationEntity deleted = reservationAt(from);
+        reservationRepositoryImpl.delete(deleted);
+
+        List<ReservationSlot> slots = reservationRepositoryImpl.findActiveSlotsOverlapping(
+                List.of(testCourt.getId()), from, from.plusHours(1));
+
+        assertEquals(
+                Set.of(overlapping.getId(), inside.getId()),
+                slots.stream().map(ReservationSlot::reservationId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void findActiveSlotsOverlapping_nullRange_throwsException() {
+        assertThrows(
+                InvalidDataAccessApiUsageException.class,
+                () -> reservationRepositoryImpl.findActiveSlotsOverlapping(List.of(1L), null, OffsetDateTime.now()));
+    }
+
+    @Test
+    void deleteByCourtIds_softDeletesActiveReservationsOfCourt() {
+        OffsetDateTime from = OffsetDateTime.now().plusDays(10);
+        ReservationEntity first = reservationAt(from);
+        ReservationEntity second = reservationAt(from.plusHours(1));
+        ReservationEntity deleted = reservationAt(from.plusHours(2));
+        reservationRepositoryImpl.delete(deleted);
+
+        List<Long> ids = reservationRepositoryImpl.deleteByCourtIds(List.of(testCourt.getId()));
+
+        assertEquals(Set.of(first.getId(), second.getId()), Set.copyOf(ids));
+        assertFalse(first.isActive(), "Managed instance should reflect the bulk soft delete");
+        assertTrue(reservationRepositoryImpl
+                .findByCourtNumberOrderByCreatedAt(testCourt.getCourtNumber())
+                .isEmpty());
+    }
+
+    @Test
+    void deleteByCourtIds_moreReservationsThanOneChunk_softDeletesAll() {
+        OffsetDateTime from = OffsetDateTime.now().plusDays(10);
+        for (int i = 0; i < 1001; i++) {
+            reservationAt(from.plusMinutes(30L * i));
+        }
+
+        List<Long> ids = reservationRepositoryImpl.deleteByCourtIds(List.of(testCourt.getId()));
+
+        assertEquals(1001, ids.size());
+        assertTrue(reservationRepositoryImpl
+                .findByCourtNumberOrderByCreatedAt(testCourt.getCourtNumber())
+                .isEmpty());
+    }
+
+    @Test
+    void forEachStartingBetween_returnsActiveReservationsInRangeOrderedByStart() {
+        OffsetDateTime from = OffsetDateTime.now().plusDays(10).truncatedTo(ChronoUnit.MINUTES);
+        ReservationEntity later = reservationAt(from.plusHours(2));
+        ReservationEntity earlier = reservationAt(from);
+        reservationAt(from.minusHours(1));
+        reservationAt(from.plusDays(1));
+        ReservationEntity deleted = reservationAt(from.plusHours(4));
+        reservationRepositoryImpl.delete(deleted);
+
+        List<Long> exported = new ArrayList<>();
+        reservationRepositoryImpl.forEachStartingBetween(
+                from, from.plusDays(1), reservation -> exported.add(reservation.getId()));
+
+        assertEquals(List.of(earlier.getId(), later.getId()), exported);
+    }
+
+    @Test
+    void forEachStartingBetween_moreRowsThanBatch_loadsDetailsAfterClear() {
+        OffsetDateTime from = OffsetDateTime.now().plusDays(10).truncatedTo(ChronoUnit.MINUTES);
+        for (int i = 0; i < 1200; i++) {
+            reservationAt(from.plusMinutes(i));
+        }
+
+        List<String> phoneNumbers = new ArrayList<>();
+        reservationRepositoryImpl.forEachStartingBetween(
+                from, from.plusDays(1), reservation -> phoneNumbers.add(reservation.getCustomer().getPhoneNumber()));
+
+        assertEquals(1200, phoneNumbers.size());
+        assertTrue(phoneNumbers.stream().allMatch(testCustomer.getPhoneNumber()::equals));
+    }
+
+    @Test
+    void forEachStartingBetween_nullRange_throwsException() {
+        assertThrows(
+                InvalidDataAccessApiUsageException.class,
+                () -> reservationRepositoryImpl.forEachStartingBetween(null, OffsetDateTime.now(), reservation -> {}));
+    }
+
+    private long countRows() {
+        return ((Number) entityManager
+                        .createNativeQuery("SELECT COUNT(*) FROM reservation")
+                        .setFlushMode(FlushModeType.COMMIT)
+                        .getSingleResult())
+                .longValue();
+    }
+
+    private ReservationEntity reservationAt(OffsetDateTime startTime) {
+        ReservationEntity reservation = new ReservationEntity();
+        reservation.setCourt(testCourt);
+        reservation.setGameType(GameType.SINGLES);
+        reservation.setCustomer(testCustomer);
+        reservation.setStartTime(startTime);
+        reservation.setEndTime(startTime.plusMinutes(30));
+        reservation.setCostPerMinute(new BigDecimal("10.50"));
+        reservation.setTotalPrice(new BigDecimal("315.00"));
+        return reservationRepositoryImpl.save(reservation);
+    }
+
     @Test
     void findAll_withMultipleEntities_returnsAllActiveEntities() {
         ReservationEntity reservation1 = new ReservationEntity();
@@ -304,6 +523,8 @@ public class ReservationRepositoryImplTest {
         reservation1.setStartTime(OffsetDateTime.now().plusHours(3));
         reservation1.setEndTime(OffsetDateTime.now().plusHours(4));
         reservation1.setCreatedAt(OffsetDateTime.now());
+        reservation1.setCostPerMinute(new BigDecimal("10.50"));
+        reservation1.setTotalPrice(new BigDecimal("945.00"));
         reservation1.setActive(true);
 
         ReservationEntity reservation2 = new ReservationEntity();
@@ -313,6 +534,8 @@ public class ReservationRepositoryImplTest {
         reservation2.setStartTime(OffsetDateTime.now().plusHours(5));
         reservation2.setEndTime(OffsetDateTime.now().plusHours(6));
         reservation2.setCreatedAt(OffsetDateTime.now());
+        reservation2.setCostPerMinute(new BigDecimal("10.50"));
+        reservation2.setTotalPrice(new BigDecimal("630.00"));
         reservation2.setActive(true);
 
         reservationRepositoryImpl.save(reservation1);
@@ -12,6 +12,7 @@ import com.inqool.tennisclub.exceptions.EntityNotFoundException;
 import com.inqool.tennisclub.mappers.CourtMapper;
 import com.inqool.tennisclub.service.CourtService;
 import com.inqool.tennisclub.service.CourtSurfaceService;
+import com.inqool.tennisclub.service.ReservationService;
 import java.math.BigDecimal;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +34,9 @@ public class CourtFacadeTest {
     @Mock
     private CourtSurfaceService courtSurfaceService;
 
+    @Mock
+    private ReservationService reservationService;
+
     @InjectMocks
     private CourtFacade courtFacade;
 
@@ -213,18 +217,34 @@ public class CourtFacadeTest {
         Long id = 1L;
         doNothing().when(courtService).deleteById(id);
 
-        courtFacade.deleteById(id);
+        courtFacade.deleteById(id, false);
 
         verify(courtService, times(1)).deleteById(id);
+        verifyNoInteractions(reservationService);
     }
 
     @Test
-    void deleteById_nonExistingCourt_callsServiceDelete() {
-        Long id = 99L;
+    void deleteById_cascade_deletesCourtReservations() {
+        Long id = 1L;
         doNothing().when(courtService).deleteById(id);
+        when(reservationService.deleteByCourtId(id)).thenReturn(3);
+
+        courtFacade.deleteById(id, true);
+
+        verify(courtService, times(1)).deleteById(id);
+        verify(reservationService, times(1)).deleteByCourtId(id);
+    }
+
+    @Test
+    void deleteById_nonExistingCourt_doesNotCascade() {
+        Long id = 99L;
+        doThrow(new EntityNotFoundException("Court with id " + id + " not found"))
+                .when(courtService)
+                .deleteById(id);
 
-        courtFacade.deleteById(id);
+        assertThrows(EntityNotFoundException.class, () -> courtFacade.deleteById(id, true));
 
         verify(courtService, times(1)).deleteById(id);
+        verifyNoInteractions(reservationService);
     }
 }
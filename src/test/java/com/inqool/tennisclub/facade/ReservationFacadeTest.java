@@ -4,18 +4,28 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
+import com.inqool.tennisclub.api.CreateReservationBatchDto;
 import com.inqool.tennisclub.api.CreateReservationDto;
+import com.inqool.tennisclub.api.CursorPageDto;
+import com.inqool.tennisclub.api.ReservationBatchResultDto;
 import com.inqool.tennisclub.api.ReservationDto;
 import com.inqool.tennisclub.data.model.*;
+import com.inqool.tennisclub.data.model.enums.BatchMode;
 import com.inqool.tennisclub.data.model.enums.GameType;
 import com.inqool.tennisclub.exceptions.EntityNotFoundException;
 import com.inqool.tennisclub.mappers.ReservationMapper;
 import com.inqool.tennisclub.service.CourtService;
+import com.inqool.tennisclub.service.CursorPage;
 import com.inqool.tennisclub.service.CustomerService;
 import com.inqool.tennisclub.service.ReservationService;
+import com.inqool.tennisclub.service.ScheduleService;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,6 +45,9 @@ public class ReservationFacadeTest {
     @Mock
     private CourtService courtService;
 
+    @Mock
+    private ScheduleService scheduleService;
+
     @Mock
     private ReservationMapper reservationMapper;
 
@@ -112,6 +125,32 @@ public class ReservationFacadeTest {
         verify(reservationMapper, times(1)).toDto(testEntity, reservationService);
     }
 
+    @Test
+    void createBatch_resolvesCourtsAndCustomersOnce_returnsResult() {
+        CreateReservationBatchDto batch = new CreateReservationBatchDto();
+        batch.setReservations(List.of(createDto, createDto));
+        batch.setMode(BatchMode.BEST_EFFORT);
+        ReservationEntity rejectedEntity = new ReservationEntity();
+        SortedMap<Integer, String> rejected = new TreeMap<>(Map.of(1, "Overlaps reservation 0 of the batch"));
+
+        when(courtService.findByCourtNumbers(Set.of(1))).thenReturn(Map.of(1, testEntity.getCourt()));
+        when(customerService.findOrCreateAll(Map.of("+420123456789", "Jan Novák")))
+                .thenReturn(Map.of("+420123456789", testEntity.getCustomer()));
+        when(reservationMapper.toReservationEntity(createDto)).thenReturn(testEntity, rejectedEntity);
+        when(reservationService.createBatch(List.of(testEntity, rejectedEntity), BatchMode.BEST_EFFORT))
+                .thenReturn(new ReservationService.BatchResult(List.of(testEntity), rejected));
+        when(reservationMapper.toDtoList(List.of(testEntity), reservationService))
+                .thenReturn(List.of(testDto));
+
+        ReservationBatchResultDto result = reservationFacade.createBatch(batch);
+
+        assertThat(result.getCreated()).containsExactly(testDto);
+        assertThat(result.getRejected()).isEqualTo(rejected);
+        assertThat(rejectedEntity.getCourt()).isEqualTo(testEntity.getCourt());
+        verify(courtService, times(1)).findByCourtNumbers(any());
+        verify(customerService, times(1)).findOrCreateAll(any());
+    }
+
     @Test
     void findById_existingId_returnsReservation() {
         Long id = 1L;
@@ -145,7 +184,7 @@ public class ReservationFacadeTest {
         when(reservationService.findByCourtNumber(courtNumber)).thenReturn(entities);
         when(reservationMapper.toDtoList(entities, reservationService)).thenReturn(dtos);
 
-        List<ReservationDto> result = reservationFacade.findByCourt(courtNumber);
+        List<ReservationDto> result = reservationFacade.findByCourt(courtNumber, false);
 
         assertThat(result).hasSize(1);
         assertThat(result).isEqualTo(dtos);
@@ -162,7 +201,7 @@ public class ReservationFacadeTest {
         when(reservationService.findByCourtNumber(courtNumber)).thenReturn(entities);
         when(reservationMapper.toDtoList(entities, reservationService)).thenReturn(dtos);
 
-        List<ReservationDto> result = reservationFacade.findByCourt(courtNumber);
+        List<ReservationDto> result = reservationFacade.findByCourt(courtNumber, false);
 
         assertThat(result).isEmpty();
         verify(reservationService, times(1)).findByCourtNumber(courtNumber);
@@ -170,21 +209,31 @@ public class ReservationFacadeTest {
     }
 
     @Test
-    void findByPhone_existingPhoneWithFutureOnly_returnsReservationList() {
+    void findByCourt_upcomingOnly_readsScheduleReadModel() {
+        List<ReservationView> views = List.of(ReservationView.of(testEntity));
+        List<ReservationDto> dtos = List.of(testDto);
+
+        when(scheduleService.findUpcomingByCourtNumber(1)).thenReturn(views);
+        when(reservationMapper.toDtoList(views)).thenReturn(dtos);
+
+        assertThat(reservationFacade.findByCourt(1, true)).isEqualTo(dtos);
+        verify(reservationService, never()).findByCourtNumber(any());
+    }
+
+    @Test
+    void findByPhone_existingPhoneWithFutureOnly_readsScheduleReadModel() {
         String phone = "+420123456789";
-        boolean futureOnly = true;
-        List<ReservationEntity> entities = List.of(testEntity);
+        List<ReservationView> views = List.of(ReservationView.of(testEntity));
         List<ReservationDto> dtos = List.of(testDto);
 
-        when(reservationService.findByPhoneNumber(phone, futureOnly)).thenReturn(entities);
-        when(reservationMapper.toDtoList(entities, reservationService)).thenReturn(dtos);
+        when(scheduleService.findFutureByPhoneNumber(phone)).thenReturn(views);
+        when(reservationMapper.toDtoList(views)).thenReturn(dtos);
 
-        List<ReservationDto> result = reservationFacade.findByPhone(phone, futureOnly);
+        List<ReservationDto> result = reservationFacade.findByPhone(phone, true);
 
         assertThat(result).hasSize(1);
         assertThat(result).isEqualTo(dtos);
-        verify(reservationService, times(1)).findByPhoneNumber(phone, futureOnly);
-        verify(reservationMapper, times(1)).toDtoList(entities, reservationService);
+        verify(reservationService, never()).findByPhoneNumber(any(), anyBoolean());
     }
 
     @Test
@@ -208,7 +257,7 @@ public class ReservationFacadeTest {
     @Test
     void findByPhone_nonExistingPhone_returnsEmptyList() {
         String phone = "+420999666999";
-        boolean futureOnly = true;
+        boolean futureOnly = false;
         List<ReservationEntity> entities = List.of();
         List<ReservationDto> dtos = List.of();
 
@@ -351,6 +400,20 @@ public class ReservationFacadeTest {
         verify(reservationMapper, times(1)).toDtoList(entities, reservationService);
     }
 
+    @Test
+    void findPage_returnsMappedPageWithCursor() {
+        List<ReservationEntity> entities = List.of(testEntity);
+        List<ReservationDto> dtos = List.of(testDto);
+
+        when(reservationService.findPage(null, 1)).thenReturn(new CursorPage<>(entities, 1L));
+        when(reservationMapper.toDtoList(entities, reservationService)).thenReturn(dtos);
+
+        CursorPageDto<ReservationDto> result = reservationFacade.findPage(null, 1);
+
+        assertThat(result.getItems()).isEqualTo(dtos);
+        assertThat(result.getNext()).isEqualTo(1L);
+    }
+
     @Test
     void deleteById_existingReservation_deletesReservation() {
         Long id = 1L;
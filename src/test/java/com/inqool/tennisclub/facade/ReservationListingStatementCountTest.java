@@ -0,0 +1,139 @@
+package com.inqool.tennisclub.facade;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.inqool.tennisclub.api.ReservationDto;
+import com.inqool.tennisclub.data.model.*;
+import com.inqool.tennisclub.data.model.enums.GameType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Listing reservations must not lazy load customer, court or surface per row
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase
+@Transactional
+@Rollback
+@ActiveProfiles("test")
+public class ReservationListingStatementCountTest {
+
+    private static final int RESERVATIONS = 10_000;
+    private static final int COURTS = 20;
+    private static final int CUSTOMERS = 500;
+    private static final long MAX_STATEMENTS = 2;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReservationFacade reservationFacade;
+
+    private Statistics statistics;
+
+    private String firstPhoneNumber;
+
+    @BeforeEach
+    void setUp() {
+        List<CourtSurfaceEntity> surfaces = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            CourtSurfaceEntity surface = new CourtSurfaceEntity();
+            surface.setSurfaceName("Surface " + i);
+            surface.setCostPerMinute(new BigDecimal("0.50"));
+            entityManager.persist(surface);
+            surfaces.add(surface);
+        }
+
+        List<CourtEntity> courts = new ArrayList<>();
+        for (int i = 1; i <= COURTS; i++) {
+            CourtEntity court = new CourtEntity();
+            court.setCourtNumber(1000 + i);
+            court.setCourtSurface(surfaces.get(i % surfaces.size()));
+            entityManager.persist(court);
+            courts.add(court);
+        }
+
+        List<CustomerEntity> customers = new ArrayList<>();
+        for (int i = 1; i <= CUSTOMERS; i++) {
+            CustomerEntity customer = new CustomerEntity();
+            customer.setPhoneNumber(String.format("+4209%08d", i));
+            customer.setName("Customer " + i);
+            entityManager.persist(customer);
+            customers.add(customer);
+        }
+        firstPhoneNumber = customers.get(0).getPhoneNumber();
+
+        OffsetDateTime origin = OffsetDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        for (int i = 0; i < RESERVATIONS; i++) {
+            OffsetDateTime start = origin.plusHours(i / COURTS);
+            ReservationEntity reservation = new ReservationEntity();
+            reservation.setCourt(courts.get(i % COURTS));
+            reservation.setCustomer(customers.get(i % CUSTOMERS));
+            reservation.setGameType(i % 2 == 0 ? GameType.SINGLES : GameType.DOUBLES);
+            reservation.setStartTime(start);
+            reservation.setEndTime(start.plusHours(1));
+            reservation.setCostPerMinute(new BigDecimal("0.50"));
+            reservation.setTotalPrice(new BigDecimal(i % 2 == 0 ? "30.00" : "45.00"));
+            entityManager.persist(reservation);
+            if (i % 1000 == 0) {
+                entityManager.flush();
+            }
+        }
+
+        // Start listing from an empty persistence context, as a fresh request would
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAll_tenThousandReservations_boundedStatementCount() {
+        List<ReservationDto> reservations = reservationFacade.findAll();
+
+        assertEquals(RESERVATIONS, reservations.size());
+        assertNotNull(reservations.get(0).getTotalPrice());
+        assertNotNull(reservations.get(0).getPhoneNumber());
+        assertTrue(
+                statistics.getPrepareStatementCount() <= MAX_STATEMENTS,
+                "Expected at most " + MAX_STATEMENTS + " statements, got " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByCourt_boundedStatementCount() {
+        List<ReservationDto> reservations = reservationFacade.findByCourt(1001, false);
+
+        assertEquals(RESERVATIONS / COURTS, reservations.size());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS);
+    }
+
+    @Test
+    void findByPhone_boundedStatementCount() {
+        // Future reservations are served from the schedule read model
+        assertEquals(
+                RESERVATIONS / CUSTOMERS,
+                reservationFacade.findByPhone(firstPhoneNumber, false).size());
+
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS);
+    }
+}
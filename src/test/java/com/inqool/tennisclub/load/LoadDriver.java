@@ -0,0 +1,279 @@
+package com.inqool.tennisclub.load;
+
+import com.inqool.tennisclub.config.LoadDataGenerator;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop load driver replaying a mixed booking workload against a running application.
+ * <p>
+ * Every thread sends one request at a time, the operation is picked at random by its weight:
+ * <ul>
+ *     <li>{@code create} - POST /api/reservation of a random court and future slot</li>
+ *     <li>{@code read} - GET /api/reservation/phone/{number}?futureOnly=true of a random customer</li>
+ *     <li>{@code search} - GET /api/availability of a three hour window on a random day</li>
+ * </ul>
+ * Customers and courts are addressed as {@link LoadDataGenerator} creates them. Requests of the
+ * warm-up are not recorded, throughput and latency percentiles of each operation are printed at
+ * the end. A create rejected with 4xx (the slot is taken) counts as rejected, not as an error.
+ * <p>
+ * Start the application with the {@code load-data} profile, then run:
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.inqool.tennisclub.load.LoadDriver -Dload.threads=32 -Dload.duration=120
+ * </pre>
+ * Settings (system properties): {@code load.baseUrl}, {@code load.threads}, {@code load.warmup} and
+ * {@code load.duration} in seconds, {@code load.courts}, {@code load.customers}, {@code load.daysAhead}
+ * and the operation weights {@code load.create}, {@code load.read}, {@code load.search}.
+ */
+public class LoadDriver {
+
+    enum Operation {
+        CREATE,
+        READ,
+        SEARCH
+    }
+
+    private final HttpClient client =
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private final String baseUrl;
+    private final int threads = Integer.getInteger("load.threads", 16);
+    private final int warmupSeconds = Integer.getInteger("load.warmup", 10);
+    private final int durationSeconds = Integer.getInteger("load.duration", 60);
+    private final int courts = Integer.getInteger("load.courts", 500);
+    private final int customers = Integer.getInteger("load.customers", 2_000_000);
+    private final int daysAhead = Integer.getInteger("load.daysAhead", 30);
+    private final int[] weights = {
+        Integer.getInteger("load.create", 10),
+        Integer.getInteger("load.read", 60),
+        Integer.getInteger("load.search", 30)
+    };
+
+    public LoadDriver(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver(System.getProperty("load.baseUrl", "http://localhost:8080")).run();
+    }
+
+    public void run() throws Exception {
+        System.out.printf(
+                "Driving %s with %d threads, %d s warm-up, %d s measurement, weights create/read/search %s%n",
+                baseUrl, threads, warmupSeconds, durationSeconds, Arrays.toString(weights));
+
+        long measureFrom = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long measureUntil = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+
+        // Clients block on the HTTP call, virtual threads keep thousands of them cheap
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        List<Future<Recorder>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> drive(measureFrom, measureUntil)));
+        }
+        Recorder total = new Recorder();
+        for (Future<Recorder> future : futures) {
+            total.merge(future.get());
+        }
+        executor.shutdown();
+
+        total.print(durationSeconds);
+    }
+
+    private Recorder drive(long measureFrom, long measureUntil) {
+        Recorder recorder = new Recorder();
+        long now;
+        while ((now = System.nanoTime()) < measureUntil) {
+            Operation operation = pickOperation();
+            Outcome outcome;
+            try {
+                outcome = execute(operation);
+            } catch (IOException e) {
+                outcome = Outcome.ERROR;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long end = System.nanoTime();
+            if (now >= measureFrom) {
+                recorder.record(operation, outcome, end - now);
+            }
+        }
+        return recorder;
+    }
+
+    private Operation pickOperation() {
+        int total = weights[0] + weights[1] + weights[2];
+        int pick = ThreadLocalRandom.current().nextInt(total);
+        for (Operation operation : Operation.values()) {
+            pick -= weights[operation.ordinal()];
+            if (pick < 0) {
+                return operation;
+            }
+        }
+        return Operation.READ;
+    }
+
+    private Outcome execute(Operation operation) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int customer = 1 + random.nextInt(customers);
+        OffsetDateTime day =
+                OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS).plusDays(1 + random.nextInt(daysAhead));
+
+        HttpRequest request =
+                switch (operation) {
+                    case CREATE -> {
+                        OffsetDateTime start =
+                                day.plusHours(7 + random.nextInt(12)).plusMinutes(30L * random.nextInt(2));
+                        String body = String.format(
+                                "{\"phoneNumber\":\"%s\",\"customerName\":\"Customer %d\",\"gameType\":\"%s\","
+                                        + "\"courtNumber\":%d,\"startTime\":\"%s\",\"endTime\":\"%s\"}",
+                                LoadDataGenerator.phoneNumber(customer),
+                                customer,
+                                random.nextBoolean() ? "SINGLES" : "DOUBLES",
+                                1 + random.nextInt(courts),
+                                start,
+                                start.plusMinutes(random.nextBoolean() ? 60 : 90));
+                        yield HttpRequest.newBuilder(URI.create(baseUrl + "/api/reservation"))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(body))
+                                .build();
+                    }
+                    case READ -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/reservation/phone/"
+                                    + LoadDataGenerator.phoneNumber(customer) + "?futureOnly=true"))
+                            .GET()
+                            .build();
+                    case SEARCH -> {
+                        OffsetDateTime from = day.plusHours(7 + random.nextInt(11));
+                        yield HttpRequest.newBuilder(URI.create(baseUrl + "/api/availability?from=" + from + "&to="
+                                        + from.plusHours(3) + "&minMinutes=60"))
+                                .GET()
+                                .build();
+                    }
+                };
+
+        int status =
+                client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status < 300) {
+            return Outcome.OK;
+        }
+        return operation == Operation.CREATE && status < 500 ? Outcome.REJECTED : Outcome.ERROR;
+    }
+
+    enum Outcome {
+        OK,
+        REJECTED,
+        ERROR
+    }
+
+    /**
+     * Latencies and outcome counts of one thread, merged at the end
+     */
+    static class Recorder {
+
+        private final Map<Operation, long[]> latencies = new EnumMap<>(Operation.class);
+        private final Map<Operation, Integer> sizes = new EnumMap<>(Operation.class);
+        private final Map<Operation, long[]> outcomes = new EnumMap<>(Operation.class);
+
+        Recorder() {
+            for (Operation operation : Operation.values()) {
+                latencies.put(operation, new long[1024]);
+                sizes.put(operation, 0);
+                outcomes.put(operation, new long[Outcome.values().length]);
+            }
+        }
+
+        void record(Operation operation, Outcome outcome, long nanos) {
+            addLatency(operation, nanos);
+            outcomes.get(operation)[outcome.ordinal()]++;
+        }
+
+        private void addLatency(Operation operation, long nanos) {
+            int size = sizes.get(operation);
+            long[] values = latencies.get(operation);
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                latencies.put(operation, values);
+            }
+            values[size] = nanos;
+            sizes.put(operation, size + 1);
+        }
+
+        void merge(Recorder other) {
+            for (Operation operation : Operation.values()) {
+                long[] values = other.latencies.get(operation);
+                for (int i = 0; i < other.sizes.get(operation); i++) {
+                    addLatency(operation, values[i]);
+                }
+                long[] counts = outcomes.get(operation);
+                for (Outcome outcome : Outcome.values()) {
+                    counts[outcome.ordinal()] += other.outcomes.get(operation)[outcome.ordinal()];
+                }
+            }
+        }
+
+        void print(int durationSeconds) {
+            System.out.printf(
+                    "%-8s %10s %10s %10s %10s %10s %10s %10s %10s %10s%n",
+                    "op",
+                    "requests",
+                    "rejected",
+                    "errors",
+                    "req/s",
+                    "p50 ms",
+                    "p90 ms",
+                    "p99 ms",
+                    "p99.9 ms",
+                    "max ms");
+            long requests = 0;
+            for (Operation operation : Operation.values()) {
+                int size = sizes.get(operation);
+                long[] values = Arrays.copyOf(latencies.get(operation), size);
+                Arrays.sort(values);
+                long[] counts = outcomes.get(operation);
+                requests += size;
+                System.out.printf(
+                        "%-8s %10d %10d %10d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                        operation.name().toLowerCase(),
+                        size,
+                        counts[Outcome.REJECTED.ordinal()],
+                        counts[Outcome.ERROR.ordinal()],
+                        (double) size / durationSeconds,
+                        percentile(values, 50),
+                        percentile(values, 90),
+                        percentile(values, 99),
+                        percentile(values, 99.9),
+                        percentile(values, 100));
+            }
+            System.out.printf("Total %d requests, %.1f req/s%n", requests, (double) requests / durationSeconds);
+        }
+
+        /**
+         * Nearest-rank percentile of sorted latencies, in milliseconds
+         */
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+    }
+}
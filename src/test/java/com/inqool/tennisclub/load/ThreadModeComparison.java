@@ -0,0 +1,56 @@
+package com.inqool.tennisclub.load;
+
+import com.inqool.tennisclub.TennisClubApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Throughput of the application on the Tomcat platform thread pool against virtual threads,
+ * under {@code load.threads} (2000 by default) concurrent {@link LoadDriver} clients.
+ * <p>
+ * The application is started twice on a random port with the {@code load-data} profile on a fresh
+ * in-memory H2 database, once per thread mode, with the same connection pool size
+ * ({@code DB_POOL_SIZE}, 20 by default) and the same generated data. The load driver report of
+ * each mode is printed. Run with:
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.inqool.tennisclub.load.ThreadModeComparison -Dload.duration=60
+ * </pre>
+ * Data volumes default to 50 courts, 100k customers and 1M reservations, override them with
+ * {@code load.courts}, {@code load.customers} and {@code load.reservations}.
+ */
+public class ThreadModeComparison {
+
+    public static void main(String[] args) throws Exception {
+        // Devtools would restart the application in its own class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        System.setProperty("load.threads", System.getProperty("load.threads", "2000"));
+        System.setProperty("load.courts", System.getProperty("load.courts", "50"));
+        System.setProperty("load.customers", System.getProperty("load.customers", "100000"));
+
+        for (boolean virtualThreads : new boolean[] {false, true}) {
+            System.out.printf("%n=== %s threads ===%n", virtualThreads ? "Virtual" : "Platform");
+            try (ConfigurableApplicationContext context = start(virtualThreads)) {
+                String port = context.getEnvironment().getProperty("local.server.port");
+                new LoadDriver("http://localhost:" + port).run();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        return new SpringApplicationBuilder(TennisClubApplication.class)
+                .profiles("dev", "load-data")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:thread_mode_" + virtualThreads + ";MODE=PostgreSQL",
+                        "spring.h2.console.enabled=false",
+                        "app.load-data.courts=" + System.getProperty("load.courts"),
+                        "app.load-data.customers=" + System.getProperty("load.customers"),
+                        "app.load-data.reservations=" + System.getProperty("load.reservations", "1000000"),
+                        "app.sql-tracing.slow-request-threshold=10s",
+                        "app.sql-tracing.statement-threshold=1000",
+                        "logging.level.root=WARN")
+                .run();
+    }
+}
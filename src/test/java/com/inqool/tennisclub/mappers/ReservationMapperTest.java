@@ -1,6 +1,9 @@
 package com.inqool.tennisclub.mappers;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.inqool.tennisclub.api.CreateReservationDto;
@@ -96,6 +99,23 @@ public class ReservationMapperTest {
         assertThat(dto.getCreatedAt()).isEqualTo(entity.getCreatedAt());
     }
 
+    @Test
+    void toDto_pricedEntity_usesStoredPrice() {
+        ReservationEntity entity = new ReservationEntity();
+        entity.setId(3L);
+        entity.setStartTime(OffsetDateTime.now().plusHours(1));
+        entity.setEndTime(OffsetDateTime.now().plusHours(2));
+        entity.setGameType(GameType.SINGLES);
+        entity.setCourt(testCourtEntity);
+        entity.setCustomer(testCustomerEntity);
+        entity.setTotalPrice(new BigDecimal("7.50"));
+
+        ReservationDto dto = mapper.toDto(entity, reservationService);
+
+        assertThat(dto.getTotalPrice()).isEqualTo(new BigDecimal("7.50"));
+        verify(reservationService, never()).calculateTotalPrice(any());
+    }
+
     @Test
     void toDtoList_validEntities_returnsMappedDtoList() {
         ReservationEntity entity = new ReservationEntity();
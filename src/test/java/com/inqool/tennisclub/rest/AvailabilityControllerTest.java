@@ -0,0 +1,70 @@
+package com.inqool.tennisclub.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.inqool.tennisclub.api.CourtAvailabilityDto;
+import com.inqool.tennisclub.api.FreeSlotDto;
+import com.inqool.tennisclub.exceptions.EntityNotFoundException;
+import com.inqool.tennisclub.exceptions.InvalidQueryException;
+import com.inqool.tennisclub.facade.AvailabilityFacade;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+public class AvailabilityControllerTest {
+    @Mock
+    private AvailabilityFacade availabilityFacade;
+
+    @InjectMocks
+    private AvailabilityRestController availabilityRestController;
+
+    @Test
+    void findAvailableCourts_returnsAvailableCourts() {
+        OffsetDateTime from = OffsetDateTime.now().plusDays(1);
+        OffsetDateTime to = from.plusHours(4);
+        List<CourtAvailabilityDto> expectedList =
+                List.of(new CourtAvailabilityDto(1L, 1, 1L, List.of(new FreeSlotDto(from, to))));
+        when(availabilityFacade.findAvailableCourts(from, to, "Clay", 90)).thenReturn(expectedList);
+
+        ResponseEntity<List<CourtAvailabilityDto>> response =
+                availabilityRestController.findAvailableCourts(from, to, "Clay", 90);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(expectedList);
+        verify(availabilityFacade, times(1)).findAvailableCourts(from, to, "Clay", 90);
+    }
+
+    @Test
+    void findAvailableCourts_unknownSurface_throwsException() {
+        OffsetDateTime from = OffsetDateTime.now().plusDays(1);
+        OffsetDateTime to = from.plusHours(4);
+        when(availabilityFacade.findAvailableCourts(from, to, "Grass", 30))
+                .thenThrow(new EntityNotFoundException("CourtSurface with name Grass not found"));
+
+        assertThrows(
+                EntityNotFoundException.class,
+                () -> availabilityRestController.findAvailableCourts(from, to, "Grass", 30));
+    }
+
+    @Test
+    void findAvailableCourts_invalidWindow_throwsException() {
+        OffsetDateTime from = OffsetDateTime.now().plusDays(1);
+        when(availabilityFacade.findAvailableCourts(from, from.minusHours(1), null, 30))
+                .thenThrow(new InvalidQueryException("From must be before to"));
+
+        assertThrows(
+                InvalidQueryException.class,
+                () -> availabilityRestController.findAvailableCourts(from, from.minusHours(1), null, 30));
+    }
+}
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 
 import com.inqool.tennisclub.api.CourtDto;
 import com.inqool.tennisclub.api.CreateCourtDto;
+import com.inqool.tennisclub.api.CursorPageDto;
 import com.inqool.tennisclub.exceptions.EntityNotFoundException;
 import com.inqool.tennisclub.facade.CourtFacade;
 import java.util.List;
@@ -42,15 +43,16 @@ public class CourtControllerTest {
     }
 
     @Test
-    void findAll_returnsListOfCourts() {
-        List<CourtDto> expectedList = List.of(new CourtDto(1L, 1, 1L), new CourtDto(2L, 2, 1L));
-        when(courtFacade.findAll()).thenReturn(expectedList);
+    void findAll_returnsPageOfCourts() {
+        CursorPageDto<CourtDto> expectedPage =
+                new CursorPageDto<>(List.of(new CourtDto(1L, 1, 1L), new CourtDto(2L, 2, 1L)), 2L);
+        when(courtFacade.findPage(null, 2)).thenReturn(expectedPage);
 
-        ResponseEntity<List<CourtDto>> response = courtRestController.findAll();
+        ResponseEntity<CursorPageDto<CourtDto>> response = courtRestController.findAll(null, 2);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(expectedList);
-        verify(courtFacade, times(1)).findAll();
+        assertThat(response.getBody()).isEqualTo(expectedPage);
+        verify(courtFacade, times(1)).findPage(null, 2);
     }
 
     @Test
@@ -90,11 +92,11 @@ public class CourtControllerTest {
     @Test
     void delete_existingId_deletesCourt() {
         Long id = 1L;
-        doNothing().when(courtFacade).deleteById(id);
+        doNothing().when(courtFacade).deleteById(id, true);
 
-        ResponseEntity<Void> response = courtRestController.delete(id);
+        ResponseEntity<Void> response = courtRestController.delete(id, true);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
-        verify(courtFacade, times(1)).deleteById(id);
+        verify(courtFacade, times(1)).deleteById(id, true);
     }
 }
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 
 import com.inqool.tennisclub.api.CourtSurfaceDto;
 import com.inqool.tennisclub.api.CreateCourtSurfaceDto;
+import com.inqool.tennisclub.api.CursorPageDto;
 import com.inqool.tennisclub.exceptions.EntityNotFoundException;
 import com.inqool.tennisclub.facade.CourtSurfaceFacade;
 import java.math.BigDecimal;
@@ -43,16 +44,16 @@ public class CourtSurfaceControllerTest {
     }
 
     @Test
-    void findAll_returnsListOfCourtSurfaces() {
-        List<CourtSurfaceDto> expectedList =
-                List.of(new CourtSurfaceDto(1L, "Clay", "Dark clay", BigDecimal.valueOf(0.1)));
-        when(courtSurfaceFacade.findAll()).thenReturn(expectedList);
+    void findAll_returnsPageOfCourtSurfaces() {
+        CursorPageDto<CourtSurfaceDto> expectedPage = new CursorPageDto<>(
+                List.of(new CourtSurfaceDto(1L, "Clay", "Dark clay", BigDecimal.valueOf(0.1))), null);
+        when(courtSurfaceFacade.findPage(null, 50)).thenReturn(expectedPage);
 
-        ResponseEntity<List<CourtSurfaceDto>> response = courtSurfaceRestController.findAll();
+        ResponseEntity<CursorPageDto<CourtSurfaceDto>> response = courtSurfaceRestController.findAll(null, 50);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(expectedList);
-        verify(courtSurfaceFacade, times(1)).findAll();
+        assertThat(response.getBody()).isEqualTo(expectedPage);
+        verify(courtSurfaceFacade, times(1)).findPage(null, 50);
     }
 
     @Test
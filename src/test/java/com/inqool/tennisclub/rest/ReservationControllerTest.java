@@ -2,32 +2,51 @@ package com.inqool.tennisclub.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inqool.tennisclub.api.CreateReservationBatchDto;
 import com.inqool.tennisclub.api.CreateReservationDto;
+import com.inqool.tennisclub.api.CursorPageDto;
+import com.inqool.tennisclub.api.ReservationBatchResultDto;
 import com.inqool.tennisclub.api.ReservationDto;
+import com.inqool.tennisclub.data.model.enums.BatchMode;
 import com.inqool.tennisclub.data.model.enums.GameType;
 import com.inqool.tennisclub.exceptions.EntityNotFoundException;
+import com.inqool.tennisclub.exceptions.InvalidQueryException;
 import com.inqool.tennisclub.facade.ReservationFacade;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @ExtendWith(MockitoExtension.class)
 public class ReservationControllerTest {
     @Mock
     private ReservationFacade reservationFacade;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private ReservationRestController reservationRestController;
 
@@ -65,7 +84,33 @@ public class ReservationControllerTest {
     }
 
     @Test
-    void findAll_returnsListOfReservations() {
+    void createBatch_nothingRejected_returnsCreated() {
+        CreateReservationBatchDto batch = new CreateReservationBatchDto();
+        ReservationBatchResultDto expected = new ReservationBatchResultDto(List.of(), Map.of());
+        when(reservationFacade.createBatch(batch)).thenReturn(expected);
+
+        ResponseEntity<ReservationBatchResultDto> response = reservationRestController.createBatch(batch);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isEqualTo(expected);
+    }
+
+    @Test
+    void createBatch_someRejected_returnsOk() {
+        CreateReservationBatchDto batch = new CreateReservationBatchDto();
+        batch.setMode(BatchMode.BEST_EFFORT);
+        ReservationBatchResultDto expected =
+                new ReservationBatchResultDto(List.of(), Map.of(0, "Court already reserved for this time period"));
+        when(reservationFacade.createBatch(batch)).thenReturn(expected);
+
+        ResponseEntity<ReservationBatchResultDto> response = reservationRestController.createBatch(batch);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(expected);
+    }
+
+    @Test
+    void findAll_returnsPageOfReservations() {
         List<ReservationDto> expectedList = List.of(ReservationDto.builder()
                 .id(1L)
                 .courtId(1L)
@@ -78,13 +123,14 @@ public class ReservationControllerTest {
                 .totalPrice(BigDecimal.valueOf(120.0))
                 .createdAt(OffsetDateTime.now())
                 .build());
-        when(reservationFacade.findAll()).thenReturn(expectedList);
+        CursorPageDto<ReservationDto> expectedPage = new CursorPageDto<>(expectedList, 1L);
+        when(reservationFacade.findPage(0L, 1)).thenReturn(expectedPage);
 
-        ResponseEntity<List<ReservationDto>> response = reservationRestController.findAll();
+        ResponseEntity<CursorPageDto<ReservationDto>> response = reservationRestController.findAll(0L, 1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(expectedList);
-        verify(reservationFacade, times(1)).findAll();
+        assertThat(response.getBody()).isEqualTo(expectedPage);
+        verify(reservationFacade, times(1)).findPage(0L, 1);
     }
 
     @Test
@@ -134,13 +180,13 @@ public class ReservationControllerTest {
                 .totalPrice(BigDecimal.valueOf(120.0))
                 .createdAt(OffsetDateTime.now())
                 .build());
-        when(reservationFacade.findByCourt(courtNumber)).thenReturn(expectedList);
+        when(reservationFacade.findByCourt(courtNumber, false)).thenReturn(expectedList);
 
-        ResponseEntity<List<ReservationDto>> response = reservationRestController.findByCourt(courtNumber);
+        ResponseEntity<List<ReservationDto>> response = reservationRestController.findByCourt(courtNumber, false);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(expectedList);
-        verify(reservationFacade, times(1)).findByCourt(courtNumber);
+        verify(reservationFacade, times(1)).findByCourt(courtNumber, false);
     }
 
     @Test
@@ -237,4 +283,37 @@ public class ReservationControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
         verify(reservationFacade, times(1)).deleteById(id);
     }
+
+    @Test
+    void export_writesOneReservationPerLine() throws Exception {
+        OffsetDateTime from = OffsetDateTime.now();
+        OffsetDateTime to = from.plusDays(1);
+        doAnswer(invocation -> {
+                    Consumer<ReservationDto> consumer = invocation.getArgument(2);
+                    consumer.accept(ReservationDto.builder().id(1L).build());
+                    consumer.accept(ReservationDto.builder().id(2L).build());
+                    return null;
+                })
+                .when(reservationFacade)
+                .export(eq(from), eq(to), any());
+
+        ResponseEntity<StreamingResponseBody> response = reservationRestController.export(from, to);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).hasToString("application/x-ndjson");
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[1], ReservationDto.class).getId())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void export_fromAfterTo_throwsException() {
+        OffsetDateTime from = OffsetDateTime.now();
+
+        assertThrows(InvalidQueryException.class, () -> reservationRestController.export(from, from.minusDays(1)));
+        verifyNoInteractions(reservationFacade);
+    }
 }
@@ -0,0 +1,61 @@
+package com.inqool.tennisclub.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.inqool.tennisclub.api.ReservationDto;
+import com.inqool.tennisclub.exceptions.EntityNotFoundException;
+import com.inqool.tennisclub.facade.ScheduleFacade;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+public class ScheduleControllerTest {
+    @Mock
+    private ScheduleFacade scheduleFacade;
+
+    @InjectMocks
+    private ScheduleRestController scheduleRestController;
+
+    @Test
+    void findByCourt_returnsUpcomingReservations() {
+        List<ReservationDto> expectedList =
+                List.of(ReservationDto.builder().id(1L).courtNumber(1).build());
+        when(scheduleFacade.findUpcomingByCourt(1)).thenReturn(expectedList);
+
+        ResponseEntity<List<ReservationDto>> response = scheduleRestController.findByCourt(1);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(expectedList);
+        verify(scheduleFacade, times(1)).findUpcomingByCourt(1);
+    }
+
+    @Test
+    void findByCourt_unknownCourt_throwsException() {
+        when(scheduleFacade.findUpcomingByCourt(99))
+                .thenThrow(new EntityNotFoundException("Court with number 99 not found"));
+
+        assertThrows(EntityNotFoundException.class, () -> scheduleRestController.findByCourt(99));
+    }
+
+    @Test
+    void findByPhone_returnsUpcomingReservations() {
+        List<ReservationDto> expectedList = List.of(
+                ReservationDto.builder().id(1L).phoneNumber("+420123456789").build());
+        when(scheduleFacade.findUpcomingByPhone("+420123456789")).thenReturn(expectedList);
+
+        ResponseEntity<List<ReservationDto>> response = scheduleRestController.findByPhone("+420123456789");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(expectedList);
+    }
+}
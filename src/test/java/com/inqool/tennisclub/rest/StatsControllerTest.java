@@ -0,0 +1,83 @@
+package com.inqool.tennisclub.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.inqool.tennisclub.api.CacheStatsDto;
+import com.inqool.tennisclub.api.QueryPlanCacheStatsDto;
+import com.inqool.tennisclub.api.RevenueStatsDto;
+import com.inqool.tennisclub.api.UtilizationStatsDto;
+import com.inqool.tennisclub.data.model.enums.StatsGrouping;
+import com.inqool.tennisclub.facade.StatsFacade;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+public class StatsControllerTest {
+    @Mock
+    private StatsFacade statsFacade;
+
+    @InjectMocks
+    private StatsRestController statsRestController;
+
+    @Test
+    void getQueryPlanCacheStats_returnsStats() {
+        QueryPlanCacheStatsDto expected = new QueryPlanCacheStatsDto(true, 120L, 4L, 124L);
+        when(statsFacade.getQueryPlanCacheStats()).thenReturn(expected);
+
+        ResponseEntity<QueryPlanCacheStatsDto> response = statsRestController.getQueryPlanCacheStats();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(expected);
+        verify(statsFacade, times(1)).getQueryPlanCacheStats();
+    }
+
+    @Test
+    void getCacheStats_returnsStatsPerCache() {
+        List<CacheStatsDto> expected = List.of(new CacheStatsDto("courts", 12L, 300L, 12L, 0.96, 0L));
+        when(statsFacade.getCacheStats()).thenReturn(expected);
+
+        ResponseEntity<List<CacheStatsDto>> response = statsRestController.getCacheStats();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(expected);
+    }
+
+    @Test
+    void getRevenue_returnsRevenuePerGroup() {
+        LocalDate from = LocalDate.of(2025, 6, 1);
+        LocalDate to = LocalDate.of(2025, 7, 1);
+        List<RevenueStatsDto> expected = List.of(new RevenueStatsDto("Clay", 42L, new BigDecimal("1260.00")));
+        when(statsFacade.getRevenue(from, to, StatsGrouping.SURFACE)).thenReturn(expected);
+
+        ResponseEntity<List<RevenueStatsDto>> response =
+                statsRestController.getRevenue(from, to, StatsGrouping.SURFACE);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(expected);
+    }
+
+    @Test
+    void getUtilization_returnsUtilizationPerGroup() {
+        LocalDate from = LocalDate.of(2025, 6, 1);
+        LocalDate to = LocalDate.of(2025, 6, 2);
+        List<UtilizationStatsDto> expected = List.of(new UtilizationStatsDto("1", 420L, 840L, 50.0));
+        when(statsFacade.getUtilization(from, to, StatsGrouping.COURT)).thenReturn(expected);
+
+        ResponseEntity<List<UtilizationStatsDto>> response =
+                statsRestController.getUtilization(from, to, StatsGrouping.COURT);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,154 @@
+package com.inqool.tennisclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.inqool.tennisclub.data.index.AvailabilityBitmapEngine;
+import com.inqool.tennisclub.data.index.CourtAvailabilityIndex;
+import com.inqool.tennisclub.data.index.FreeSlot;
+import com.inqool.tennisclub.data.model.CourtEntity;
+import com.inqool.tennisclub.data.model.CourtSurfaceEntity;
+import com.inqool.tennisclub.data.model.ReservationSlot;
+import com.inqool.tennisclub.data.repository.ReservationRepository;
+import com.inqool.tennisclub.exceptions.EntityNotFoundException;
+import com.inqool.tennisclub.exceptions.InvalidQueryException;
+import com.inqool.tennisclub.service.AvailabilityService.CourtAvailability;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AvailabilityServiceTest {
+
+    @Mock
+    private CourtService courtService;
+
+    @Mock
+    private CourtSurfaceService courtSurfaceService;
+
+    @Mock
+    private AvailabilityBitmapEngine availabilityEngine;
+
+    @Mock
+    private CourtAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @InjectMocks
+    private AvailabilityService availabilityService;
+
+    private CourtSurfaceEntity claySurface;
+    private CourtEntity firstCourt;
+    private CourtEntity secondCourt;
+    private OffsetDateTime from;
+    private OffsetDateTime to;
+
+    @BeforeEach
+    void setUp() {
+        claySurface = new CourtSurfaceEntity();
+        claySurface.setId(1L);
+        claySurface.setSurfaceName("Clay");
+
+        firstCourt = new CourtEntity();
+        firstCourt.setId(1L);
+        firstCourt.setCourtNumber(1);
+        firstCourt.setCourtSurface(claySurface);
+
+        secondCourt = new CourtEntity();
+        secondCourt.setId(2L);
+        secondCourt.setCourtNumber(2);
+        secondCourt.setCourtSurface(claySurface);
+
+        from = OffsetDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        to = from.plusHours(4);
+        lenient().when(availabilityIndex.isWarm()).thenReturn(true);
+    }
+
+    @Test
+    void findAvailableCourts_returnsOnlyCourtsWithFreeSlots() {
+        FreeSlot freeSlot = new FreeSlot(from, to);
+        when(courtService.findAll()).thenReturn(List.of(firstCourt, secondCourt));
+        when(availabilityEngine.findFreeSlots(1L, from, to, 90)).thenReturn(List.of(freeSlot));
+        when(availabilityEngine.findFreeSlots(2L, from, to, 90)).thenReturn(List.of());
+
+        List<CourtAvailability> result = availabilityService.findAvailableCourts(from, to, null, 90);
+
+        assertThat(result).containsExactly(new CourtAvailability(firstCourt, List.of(freeSlot)));
+        verifyNoInteractions(courtSurfaceService);
+    }
+
+    @Test
+    void findAvailableCourts_withSurface_searchesOnlyCourtsWithSurface() {
+        when(courtSurfaceService.findBySurfaceName("Clay")).thenReturn(claySurface);
+        when(courtService.findBySurface(claySurface)).thenReturn(List.of(secondCourt));
+        when(availabilityEngine.findFreeSlots(2L, from, to, 30)).thenReturn(List.of(new FreeSlot(from, to)));
+
+        List<CourtAvailability> result = availabilityService.findAvailableCourts(from, to, "Clay", 30);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).court()).isEqualTo(secondCourt);
+        verify(courtService, never()).findAll();
+    }
+
+    @Test
+    void findAvailableCourts_coldIndex_searchesReservationsFromDatabase() {
+        ReservationSlot reservation = new ReservationSlot(1L, 1L, from, from.plusHours(1));
+        FreeSlot freeSlot = new FreeSlot(from.plusHours(1), to);
+        when(availabilityIndex.isWarm()).thenReturn(false);
+        when(courtService.findAll()).thenReturn(List.of(firstCourt, secondCourt));
+        when(reservationRepository.findActiveSlotsOverlapping(List.of(1L, 2L), from, to))
+                .thenReturn(List.of(reservation));
+        when(availabilityEngine.findFreeSlots(List.of(reservation), from, to, 90))
+                .thenReturn(List.of(freeSlot));
+        when(availabilityEngine.findFreeSlots(List.of(), from, to, 90)).thenReturn(List.of());
+
+        List<CourtAvailability> result = availabilityService.findAvailableCourts(from, to, null, 90);
+
+        assertThat(result).containsExactly(new CourtAvailability(firstCourt, List.of(freeSlot)));
+        verify(availabilityEngine, never()).findFreeSlots(anyLong(), any(), any(), anyInt());
+    }
+
+    @Test
+    void findAvailableCourts_unknownSurface_throwsException() {
+        when(courtSurfaceService.findBySurfaceName("Grass"))
+                .thenThrow(new EntityNotFoundException("CourtSurface with name Grass not found"));
+
+        assertThatThrownBy(() -> availabilityService.findAvailableCourts(from, to, "Grass", 30))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void findAvailableCourts_windowInPast_returnsEmptyList() {
+        OffsetDateTime yesterday = from.minusDays(2);
+
+        assertThat(availabilityService.findAvailableCourts(yesterday, yesterday.plusHours(4), null, 30))
+                .isEmpty();
+        verifyNoInteractions(courtService, availabilityEngine);
+    }
+
+    @Test
+    void findAvailableCourts_fromAfterTo_throwsException() {
+        assertThatThrownBy(() -> availabilityService.findAvailableCourts(to, from, null, 30))
+                .isInstanceOf(InvalidQueryException.class);
+    }
+
+    @Test
+    void findAvailableCourts_windowTooLong_throwsException() {
+        assertThatThrownBy(() -> availabilityService.findAvailableCourts(from, from.plusDays(32), null, 30))
+                .isInstanceOf(InvalidQueryException.class);
+    }
+
+    @Test
+    void findAvailableCourts_nonPositiveMinutes_throwsException() {
+        assertThatThrownBy(() -> availabilityService.findAvailableCourts(from, to, null, 0))
+                .isInstanceOf(InvalidQueryException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.inqool.tennisclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+public class CacheStatsServiceTest {
+
+    private CaffeineCacheManager cacheManager;
+
+    private CacheStatsService cacheStatsService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager("courts", "courtSurfaces");
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(10).recordStats());
+        cacheStatsService = new CacheStatsService(cacheManager);
+    }
+
+    @Test
+    void caches_returnsHitsAndMissesPerCache() {
+        org.springframework.cache.Cache courts = cacheManager.getCache("courts");
+        courts.get(1L);
+        courts.put(1L, "Court 1");
+        courts.get(1L);
+        courts.get(1L);
+
+        List<CacheHitStats> result = cacheStatsService.caches();
+
+        assertThat(result).extracting(CacheHitStats::name).containsExactly("courtSurfaces", "courts");
+        CacheHitStats courtStats = result.get(1);
+        assertThat(courtStats.size()).isEqualTo(1);
+        assertThat(courtStats.hitCount()).isEqualTo(2);
+        assertThat(courtStats.missCount()).isEqualTo(1);
+        assertThat(courtStats.hitRate()).isCloseTo(2.0 / 3, within(0.001));
+    }
+
+    @Test
+    void caches_unusedCache_hasFullHitRate() {
+        List<CacheHitStats> result = cacheStatsService.caches();
+
+        assertThat(result.get(0).hitCount()).isZero();
+        assertThat(result.get(0).hitRate()).isEqualTo(1.0);
+    }
+}
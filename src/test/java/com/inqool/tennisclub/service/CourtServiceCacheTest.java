@@ -0,0 +1,131 @@
+package com.inqool.tennisclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.inqool.tennisclub.data.model.CourtEntity;
+import com.inqool.tennisclub.data.model.CourtSurfaceEntity;
+import com.inqool.tennisclub.exceptions.EntityNotFoundException;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Court and surface lookups are cached until they change. Not transactional,
+ * as the cache is only populated and evicted once a transaction commits.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+public class CourtServiceCacheTest {
+
+    private static final AtomicInteger COURT_NUMBERS = new AtomicInteger(9400);
+
+    @Autowired
+    private CourtService courtService;
+
+    @Autowired
+    private CourtSurfaceService courtSurfaceService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private CourtSurfaceEntity surface;
+    private CourtEntity court;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        surface = new CourtSurfaceEntity();
+        surface.setSurfaceName("Cached clay");
+        surface.setCostPerMinute(new BigDecimal("0.50"));
+        surface = courtSurfaceService.create(surface);
+
+        court = new CourtEntity();
+        court.setCourtNumber(COURT_NUMBERS.incrementAndGet());
+        court.setCourtSurface(surface);
+        court = courtService.create(court);
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            courtService.deleteById(court.getId());
+        } catch (EntityNotFoundException alreadyDeleted) {
+            // Deleted by the test
+        }
+        courtSurfaceService.deleteById(surface.getId());
+    }
+
+    @Test
+    void findByCourtNumber_repeatedLookup_servedFromCache() {
+        CourtEntity first = courtService.findByCourtNumber(court.getCourtNumber());
+        long statements = statistics.getPrepareStatementCount();
+
+        CourtEntity second = courtService.findByCourtNumber(court.getCourtNumber());
+
+        assertThat(second).isSameAs(first);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+    }
+
+    @Test
+    void findById_cachedCourt_hasSurfaceLoaded() {
+        CourtEntity found = courtService.findById(court.getId());
+
+        assertThat(found.getCourtSurface().getCostPerMinute()).isEqualByComparingTo("0.50");
+    }
+
+    @Test
+    void update_evictsCachedCourt() {
+        int oldNumber = court.getCourtNumber();
+        courtService.findById(court.getId());
+        courtService.findByCourtNumber(oldNumber);
+
+        int newNumber = COURT_NUMBERS.incrementAndGet();
+        courtService.update(new CourtEntity(court.getId(), newNumber, null, surface, true));
+
+        assertThat(courtService.findById(court.getId()).getCourtNumber()).isEqualTo(newNumber);
+        assertThat(courtService.findByCourtNumber(newNumber).getId()).isEqualTo(court.getId());
+        assertThatThrownBy(() -> courtService.findByCourtNumber(oldNumber))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void deleteById_evictsCachedCourt() {
+        courtService.findById(court.getId());
+        courtService.findByCourtNumber(court.getCourtNumber());
+
+        courtService.deleteById(court.getId());
+
+        assertThatThrownBy(() -> courtService.findById(court.getId())).isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> courtService.findByCourtNumber(court.getCourtNumber()))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void courtSurfaceUpdate_evictsCachedCourtsAndSurface() {
+        courtSurfaceService.findById(surface.getId());
+        courtService.findByCourtNumber(court.getCourtNumber());
+
+        courtSurfaceService.update(
+                new CourtSurfaceEntity(surface.getId(), "Cached clay", null, new BigDecimal("0.75"), null, true));
+
+        assertThat(courtSurfaceService.findById(surface.getId()).getCostPerMinute())
+                .isEqualByComparingTo("0.75");
+        assertThat(courtService.findByCourtNumber(court.getCourtNumber())
+                        .getCourtSurface()
+                        .getCostPerMinute())
+                .isEqualByComparingTo("0.75");
+    }
+}
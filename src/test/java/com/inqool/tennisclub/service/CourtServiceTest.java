@@ -170,6 +170,39 @@ public class CourtServiceTest {
         verify(courtRepository, times(1)).findAll();
     }
 
+    @Test
+    void findPage_moreRowsThanSize_returnsNextCursor() {
+        when(courtRepository.findAllAfter(null, 2)).thenReturn(List.of(testCourt, secondCourt));
+
+        CursorPage<CourtEntity> result = courtService.findPage(null, 1);
+
+        assertThat(result.items()).containsExactly(testCourt);
+        assertThat(result.next()).isEqualTo(1L);
+    }
+
+    @Test
+    void findPage_lastPage_returnsNoCursor() {
+        when(courtRepository.findAllAfter(1L, 3)).thenReturn(List.of(secondCourt));
+
+        CursorPage<CourtEntity> result = courtService.findPage(1L, 2);
+
+        assertThat(result.items()).containsExactly(secondCourt);
+        assertThat(result.next()).isNull();
+    }
+
+    @Test
+    void findPage_sizeAboveMax_isCapped() {
+        when(courtRepository.findAllAfter(null, CursorPage.MAX_SIZE + 1)).thenReturn(List.of());
+
+        assertThat(courtService.findPage(null, 10_000).items()).isEmpty();
+    }
+
+    @Test
+    void findPage_nonPositiveSize_throwsException() {
+        assertThatThrownBy(() -> courtService.findPage(null, 0)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(courtRepository);
+    }
+
     @Test
     void update_existingEntity_returnsUpdatedEntity() {
         CourtEntity courtToUpdate = new CourtEntity();
@@ -209,25 +242,22 @@ public class CourtServiceTest {
     @Test
     void deleteById_existingId_deletesEntity() {
         Long id = 1L;
-        when(courtRepository.existsById(id)).thenReturn(true);
-        doNothing().when(courtRepository).deleteById(id);
+        when(courtRepository.deleteById(id)).thenReturn(true);
 
         courtService.deleteById(id);
 
-        verify(courtRepository, times(1)).existsById(id);
         verify(courtRepository, times(1)).deleteById(id);
     }
 
     @Test
     void deleteById_nonExistingId_throwsEntityNotFoundException() {
         Long id = 99L;
-        when(courtRepository.existsById(id)).thenReturn(false);
+        when(courtRepository.deleteById(id)).thenReturn(false);
 
         assertThatThrownBy(() -> courtService.deleteById(id))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("Court with id " + id + " not found");
 
-        verify(courtRepository, times(1)).existsById(id);
-        verify(courtRepository, never()).deleteById(any());
+        verify(courtRepository, never()).existsById(any());
     }
 }
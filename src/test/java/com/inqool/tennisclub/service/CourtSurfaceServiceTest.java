@@ -156,26 +156,23 @@ public class CourtSurfaceServiceTest {
     @Test
     void deleteById_existingId_deletesEntity() {
         Long id = 1L;
-        when(courtSurfaceRepository.existsById(id)).thenReturn(true);
-        doNothing().when(courtSurfaceRepository).deleteById(id);
+        when(courtSurfaceRepository.deleteById(id)).thenReturn(true);
 
         courtSurfaceService.deleteById(id);
 
-        verify(courtSurfaceRepository, times(1)).existsById(id);
         verify(courtSurfaceRepository, times(1)).deleteById(id);
     }
 
     @Test
     void deleteById_nonExistingId_throwsEntityNotFoundException() {
         Long id = 99L;
-        when(courtSurfaceRepository.existsById(id)).thenReturn(false);
+        when(courtSurfaceRepository.deleteById(id)).thenReturn(false);
 
         assertThatThrownBy(() -> courtSurfaceService.deleteById(id))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("CourtSurface with id " + id + " not found");
 
-        verify(courtSurfaceRepository, times(1)).existsById(id);
-        verify(courtSurfaceRepository, never()).deleteById(any());
+        verify(courtSurfaceRepository, never()).existsById(any());
     }
 
     @Test
@@ -7,14 +7,19 @@ import static org.mockito.Mockito.*;
 import com.inqool.tennisclub.data.model.CustomerEntity;
 import com.inqool.tennisclub.data.repository.CustomerRepository;
 import com.inqool.tennisclub.exceptions.EntityNotFoundException;
+import com.inqool.tennisclub.service.event.CustomerChangedEvent;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 public class CustomerServiceTest {
@@ -22,7 +27,9 @@ public class CustomerServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private CustomerService customerService;
 
     private CustomerEntity testEntity;
@@ -30,6 +37,8 @@ public class CustomerServiceTest {
 
     @BeforeEach
     void setUp() {
+        customerService = new CustomerService(customerRepository, new ConcurrentMapCacheManager(), eventPublisher);
+
         testEntity = new CustomerEntity();
         testEntity.setId(1L);
         testEntity.setPhoneNumber("+420777123456");
@@ -70,16 +79,48 @@ public class CustomerServiceTest {
         entityToCreate.setPhoneNumber("+420777123456");
         entityToCreate.setName("Different Name");
 
-        when(customerRepository.findByPhoneNumber("+420777123456")).thenReturn(Optional.of(testEntity));
+        when(customerRepository.insertIfAbsent(entityToCreate)).thenReturn(testEntity);
 
         CustomerEntity result = customerService.createIfNotExist(entityToCreate);
 
         assertThat(result).isEqualTo(testEntity);
         assertThat(result.getName()).isEqualTo("Jan Novák");
-        verify(customerRepository, times(1)).findByPhoneNumber("+420777123456");
+        verify(customerRepository, times(1)).insertIfAbsent(entityToCreate);
         verify(customerRepository, never()).save(any());
     }
 
+    @Test
+    void createIfNotExist_returningCustomer_servedFromCache() {
+        CustomerEntity entityToCreate = new CustomerEntity();
+        entityToCreate.setPhoneNumber("+420777123456");
+        entityToCreate.setName("Jan Novák");
+        when(customerRepository.insertIfAbsent(entityToCreate)).thenReturn(testEntity);
+        customerService.createIfNotExist(entityToCreate);
+
+        CustomerEntity returning = new CustomerEntity();
+        returning.setPhoneNumber("+420777123456");
+        returning.setName("Jan Novák");
+        CustomerEntity result = customerService.createIfNotExist(returning);
+
+        assertThat(result).isSameAs(testEntity);
+        verify(customerRepository, times(1)).insertIfAbsent(any());
+        verifyNoMoreInteractions(customerRepository);
+    }
+
+    @Test
+    void createIfNotExist_afterDelete_upsertsAgain() {
+        CustomerEntity entityToCreate = new CustomerEntity();
+        entityToCreate.setPhoneNumber("+420777123456");
+        when(customerRepository.insertIfAbsent(any(CustomerEntity.class))).thenReturn(testEntity);
+        when(customerRepository.deleteById(1L)).thenReturn(true);
+        customerService.createIfNotExist(entityToCreate);
+
+        customerService.deleteById(1L);
+        customerService.createIfNotExist(entityToCreate);
+
+        verify(customerRepository, times(2)).insertIfAbsent(any(CustomerEntity.class));
+    }
+
     @Test
     void createIfNotExist_nonExistingCustomer_createsNewEntity() {
         CustomerEntity entityToCreate = new CustomerEntity();
@@ -92,15 +133,31 @@ public class CustomerServiceTest {
         savedEntity.setName("New Customer");
         savedEntity.setActive(true);
 
-        when(customerRepository.findByPhoneNumber("+420775333444")).thenReturn(Optional.empty());
-        when(customerRepository.save(entityToCreate)).thenReturn(savedEntity);
+        when(customerRepository.insertIfAbsent(entityToCreate)).thenReturn(savedEntity);
 
         CustomerEntity result = customerService.createIfNotExist(entityToCreate);
 
         assertThat(result).isEqualTo(savedEntity);
         assertThat(result.getId()).isEqualTo(4L);
-        verify(customerRepository, times(1)).findByPhoneNumber("+420775333444");
-        verify(customerRepository, times(1)).save(entityToCreate);
+        verify(customerRepository, times(1)).insertIfAbsent(entityToCreate);
+        verify(customerRepository, never()).findByPhoneNumber(any());
+    }
+
+    @Test
+    void findOrCreateAll_mixedCustomers_createsOnlyMissing() {
+        Map<String, String> namesByPhoneNumber = new HashMap<>();
+        namesByPhoneNumber.put("+420777123456", "Jan Novák");
+        namesByPhoneNumber.put("+420775333444", "Eva Černá");
+        when(customerRepository.findByPhoneNumbers(namesByPhoneNumber.keySet())).thenReturn(List.of(testEntity));
+        when(customerRepository.insertAllIfAbsent(anyCollection()))
+                .thenAnswer(invocation -> List.copyOf(invocation.<Collection<CustomerEntity>>getArgument(0)));
+
+        Map<String, CustomerEntity> result = customerService.findOrCreateAll(namesByPhoneNumber);
+
+        assertThat(result).hasSize(2).containsEntry("+420777123456", testEntity);
+        assertThat(result.get("+420775333444").getName()).isEqualTo("Eva Černá");
+        verify(customerRepository, times(1)).insertAllIfAbsent(argThat(customers -> customers.size() == 1));
+        verify(customerRepository, never()).insertIfAbsent(any());
     }
 
     @Test
@@ -199,6 +256,26 @@ public class CustomerServiceTest {
         verify(customerRepository, times(1)).save(entityToUpdate);
     }
 
+    @Test
+    void update_changedPhoneNumber_publishesPreviousAndNewPhoneNumber() {
+        CustomerEntity entityToUpdate = new CustomerEntity();
+        entityToUpdate.setId(1L);
+        entityToUpdate.setPhoneNumber("+420777999888");
+        entityToUpdate.setName("Jan Novák");
+
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testEntity));
+        when(customerRepository.save(entityToUpdate)).thenAnswer(invocation -> {
+            // Merging into the managed customer overwrites its phone number
+            testEntity.setPhoneNumber(entityToUpdate.getPhoneNumber());
+            return testEntity;
+        });
+
+        customerService.update(entityToUpdate);
+
+        verify(eventPublisher, times(1))
+                .publishEvent(new CustomerChangedEvent("+420777123456", "+420777999888", "Jan Novák"));
+    }
+
     @Test
     void update_nonExistingEntity_throwsEntityNotFoundException() {
         CustomerEntity entityToUpdate = new CustomerEntity();
@@ -219,12 +296,11 @@ public class CustomerServiceTest {
     void deleteById_existingId_deletesEntity() {
         Long id = 1L;
 
-        when(customerRepository.findById(id)).thenReturn(Optional.of(testEntity));
-        doNothing().when(customerRepository).deleteById(id);
+        when(customerRepository.deleteById(id)).thenReturn(true);
 
         customerService.deleteById(id);
 
-        verify(customerRepository, times(1)).findById(id);
+        verify(customerRepository, never()).findById(any());
         verify(customerRepository, times(1)).deleteById(id);
     }
 
@@ -232,14 +308,11 @@ public class CustomerServiceTest {
     void deleteById_nonExistingId_throwsEntityNotFoundException() {
         Long id = 99L;
 
-        when(customerRepository.findById(id)).thenReturn(Optional.empty());
+        when(customerRepository.deleteById(id)).thenReturn(false);
 
         assertThatThrownBy(() -> customerService.deleteById(id))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("Customer with id " + id + " not found");
-
-        verify(customerRepository, times(1)).findById(id);
-        verify(customerRepository, never()).deleteById(any());
     }
 
     @Test
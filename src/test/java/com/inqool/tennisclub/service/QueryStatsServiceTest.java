@@ -0,0 +1,57 @@
+package com.inqool.tennisclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class QueryStatsServiceTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    private QueryStatsService queryStatsService;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        queryStatsService = new QueryStatsService(entityManagerFactory);
+    }
+
+    @Test
+    void queryPlanCache_returnsHibernateCounters() {
+        when(statistics.isStatisticsEnabled()).thenReturn(true);
+        when(statistics.getQueryPlanCacheHitCount()).thenReturn(120L);
+        when(statistics.getQueryPlanCacheMissCount()).thenReturn(4L);
+        when(statistics.getQueryExecutionCount()).thenReturn(124L);
+
+        QueryPlanCacheStats result = queryStatsService.queryPlanCache();
+
+        assertThat(result).isEqualTo(new QueryPlanCacheStats(true, 120L, 4L, 124L));
+    }
+
+    @Test
+    void queryPlanCache_statisticsDisabled_returnsDisabled() {
+        when(statistics.isStatisticsEnabled()).thenReturn(false);
+
+        QueryPlanCacheStats result = queryStatsService.queryPlanCache();
+
+        assertThat(result.enabled()).isFalse();
+        assertThat(result.missCount()).isZero();
+    }
+}
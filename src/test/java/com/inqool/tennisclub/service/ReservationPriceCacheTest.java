@@ -0,0 +1,120 @@
+package com.inqool.tennisclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.inqool.tennisclub.data.model.CourtEntity;
+import com.inqool.tennisclub.data.model.CourtSurfaceEntity;
+import com.inqool.tennisclub.data.model.CustomerEntity;
+import com.inqool.tennisclub.data.model.ReservationEntity;
+import com.inqool.tennisclub.data.model.enums.GameType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Consumer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Price calculation navigates reservation -> court -> surface lazily, once courts and surfaces
+ * are in the second-level cache this must not run any SQL. Not transactional, entities reach
+ * the second-level cache when their transaction commits.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+public class ReservationPriceCacheTest {
+
+    private static final int CALCULATIONS = 5;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    private Statistics statistics;
+    private CourtSurfaceEntity surface;
+    private CourtEntity court;
+    private CustomerEntity customer;
+    private ReservationEntity reservation;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        OffsetDateTime start = OffsetDateTime.now().plusYears(5).truncatedTo(ChronoUnit.HOURS);
+
+        inTransaction(entityManager -> {
+            surface = new CourtSurfaceEntity();
+            surface.setSurfaceName("Second-level cached clay");
+            surface.setCostPerMinute(new BigDecimal("0.50"));
+            entityManager.persist(surface);
+
+            court = new CourtEntity();
+            court.setCourtNumber(9501);
+            court.setCourtSurface(surface);
+            entityManager.persist(court);
+
+            customer = new CustomerEntity();
+            customer.setPhoneNumber("+420999000501");
+            customer.setName("Cache Test");
+            entityManager.persist(customer);
+
+            reservation = new ReservationEntity();
+            reservation.setCourt(court);
+            reservation.setCustomer(customer);
+            reservation.setGameType(GameType.SINGLES);
+            reservation.setStartTime(start);
+            reservation.setEndTime(start.plusHours(1));
+            reservation.setCostPerMinute(new BigDecimal("0.50"));
+            reservation.setTotalPrice(new BigDecimal("30.00"));
+            entityManager.persist(reservation);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        inTransaction(entityManager -> {
+            entityManager.remove(entityManager.find(ReservationEntity.class, reservation.getId()));
+            entityManager.remove(entityManager.find(CustomerEntity.class, customer.getId()));
+            entityManager.remove(entityManager.find(CourtEntity.class, court.getId()));
+            entityManager.remove(entityManager.find(CourtSurfaceEntity.class, surface.getId()));
+        });
+    }
+
+    @Test
+    void calculateTotalPrice_repeatedCalculations_runNoSql() {
+        for (int i = 0; i < CALCULATIONS; i++) {
+            inTransaction(entityManager -> {
+                ReservationEntity loaded = entityManager.find(ReservationEntity.class, reservation.getId());
+                long statements = statistics.getPrepareStatementCount();
+                long cacheHits = statistics.getSecondLevelCacheHitCount();
+
+                BigDecimal price = reservationService.calculateTotalPrice(loaded);
+
+                assertThat(price).isEqualByComparingTo("30.00");
+                assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+                assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(cacheHits);
+            });
+        }
+    }
+
+    private void inTransaction(Consumer<EntityManager> work) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            work.accept(entityManager);
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
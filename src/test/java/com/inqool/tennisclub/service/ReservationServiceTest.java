@@ -4,13 +4,22 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
+import com.inqool.tennisclub.data.index.CourtAvailabilityIndex;
 import com.inqool.tennisclub.data.model.*;
+import com.inqool.tennisclub.data.model.enums.BatchMode;
 import com.inqool.tennisclub.data.model.enums.GameType;
 import com.inqool.tennisclub.data.repository.ReservationRepository;
 import com.inqool.tennisclub.exceptions.EntityNotFoundException;
 import com.inqool.tennisclub.exceptions.ReservationAlreadyExist;
+import com.inqool.tennisclub.exceptions.ReservationBatchRejected;
+import com.inqool.tennisclub.service.event.ReservationChangedEvent;
+import com.inqool.tennisclub.service.lock.StripedCourtLocks;
+import com.inqool.tennisclub.service.pricing.PricingEngine;
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,7 +27,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 @ExtendWith(MockitoExtension.class)
 public class ReservationServiceTest {
@@ -26,6 +38,21 @@ public class ReservationServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private CourtAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private StripedCourtLocks courtLocks;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private PricingEngine pricingEngine = new PricingEngine();
+
+    @Mock
+    private ReservationStatsService statsService;
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -140,6 +167,119 @@ public class ReservationServiceTest {
         verify(reservationRepository, never()).save(any());
     }
 
+    @Test
+    void create_warmIndexCourtAvailable_skipsDatabaseCheck() {
+        ReservationEntity newReservation = new ReservationEntity();
+        newReservation.setGameType(GameType.SINGLES);
+        newReservation.setStartTime(OffsetDateTime.now().plusHours(5));
+        newReservation.setEndTime(OffsetDateTime.now().plusHours(6));
+        newReservation.setCustomer(testCustomer);
+        newReservation.setCourt(testCourt);
+
+        when(availabilityIndex.isWarm()).thenReturn(true);
+        when(availabilityIndex.isAvailable(
+                        testCourt.getId(), newReservation.getStartTime(), newReservation.getEndTime()))
+                .thenReturn(true);
+        when(reservationRepository.save(newReservation)).thenReturn(testReservation);
+
+        ReservationEntity result = reservationService.create(newReservation);
+
+        assertThat(result).isEqualTo(testReservation);
+        verify(reservationRepository, never()).isCourtAvailable(any(), any(), any());
+        verify(eventPublisher, times(1)).publishEvent(ReservationChangedEvent.saved(testReservation));
+    }
+
+    @Test
+    void create_warmIndexCourtNotAvailable_throwsReservationAlreadyExist() {
+        ReservationEntity newReservation = new ReservationEntity();
+        newReservation.setGameType(GameType.SINGLES);
+        newReservation.setStartTime(OffsetDateTime.now().plusHours(1));
+        newReservation.setEndTime(OffsetDateTime.now().plusHours(2));
+        newReservation.setCustomer(testCustomer);
+        newReservation.setCourt(testCourt);
+
+        when(availabilityIndex.isWarm()).thenReturn(true);
+        when(availabilityIndex.isAvailable(
+                        testCourt.getId(), newReservation.getStartTime(), newReservation.getEndTime()))
+                .thenReturn(false);
+
+        assertThatThrownBy(() -> reservationService.create(newReservation))
+                .isInstanceOf(ReservationAlreadyExist.class)
+                .hasMessage("Reservation for this court at this time already exists");
+
+        verify(reservationRepository, never()).isCourtAvailable(any(), any(), any());
+        verify(reservationRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void create_validReservation_locksCourtBeforeCheck() {
+        ReservationEntity newReservation = new ReservationEntity();
+        newReservation.setGameType(GameType.SINGLES);
+        newReservation.setStartTime(OffsetDateTime.now().plusHours(5));
+        newReservation.setEndTime(OffsetDateTime.now().plusHours(6));
+        newReservation.setCustomer(testCustomer);
+        newReservation.setCourt(testCourt);
+
+        when(reservationRepository.isCourtAvailable(
+                        testCourt.getId(), newReservation.getStartTime(), newReservation.getEndTime()))
+                .thenReturn(true);
+        when(reservationRepository.save(newReservation)).thenReturn(testReservation);
+
+        reservationService.create(newReservation);
+
+        var inOrder = inOrder(courtLocks, reservationRepository);
+        inOrder.verify(courtLocks).lockUntilTransactionEnds(List.of(testCourt.getId()));
+        inOrder.verify(reservationRepository)
+                .isCourtAvailable(testCourt.getId(), newReservation.getStartTime(), newReservation.getEndTime());
+        inOrder.verify(reservationRepository).save(newReservation);
+        inOrder.verify(reservationRepository).flush();
+    }
+
+    @Test
+    void create_databaseOverlapViolation_throwsReservationAlreadyExist() {
+        ReservationEntity newReservation = new ReservationEntity();
+        newReservation.setGameType(GameType.SINGLES);
+        newReservation.setStartTime(OffsetDateTime.now().plusHours(5));
+        newReservation.setEndTime(OffsetDateTime.now().plusHours(6));
+        newReservation.setCustomer(testCustomer);
+        newReservation.setCourt(testCourt);
+
+        when(reservationRepository.isCourtAvailable(
+                        testCourt.getId(), newReservation.getStartTime(), newReservation.getEndTime()))
+                .thenReturn(true);
+        when(reservationRepository.save(newReservation)).thenReturn(testReservation);
+        doThrow(new DataIntegrityViolationException(
+                        "overlap", new SQLException("conflicting key value violates exclusion constraint", "23P01")))
+                .when(reservationRepository)
+                .flush();
+
+        assertThatThrownBy(() -> reservationService.create(newReservation))
+                .isInstanceOf(ReservationAlreadyExist.class)
+                .hasMessage("Reservation for this court at this time already exists");
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void create_otherIntegrityViolation_rethrows() {
+        ReservationEntity newReservation = new ReservationEntity();
+        newReservation.setGameType(GameType.SINGLES);
+        newReservation.setStartTime(OffsetDateTime.now().plusHours(5));
+        newReservation.setEndTime(OffsetDateTime.now().plusHours(6));
+        newReservation.setCustomer(testCustomer);
+        newReservation.setCourt(testCourt);
+
+        when(reservationRepository.isCourtAvailable(
+                        testCourt.getId(), newReservation.getStartTime(), newReservation.getEndTime()))
+                .thenReturn(true);
+        when(reservationRepository.save(newReservation))
+                .thenThrow(new DataIntegrityViolationException("fk", new SQLException("fk violation", "23503")));
+
+        assertThatThrownBy(() -> reservationService.create(newReservation))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
     @Test
     void findById_existingId_returnsReservation() {
         Long id = 1L;
@@ -257,6 +397,12 @@ public class ReservationServiceTest {
         reservationToUpdate.setActive(false);
 
         when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
+        when(reservationRepository.isCourtAvailable(
+                        reservationToUpdate.getCourt().getId(),
+                        reservationToUpdate.getStartTime(),
+                        reservationToUpdate.getEndTime(),
+                        1L))
+                .thenReturn(true);
         when(reservationRepository.save(reservationToUpdate)).thenReturn(reservationToUpdate);
 
         ReservationEntity result = reservationService.update(reservationToUpdate);
@@ -268,6 +414,84 @@ public class ReservationServiceTest {
         verify(reservationRepository, times(1)).save(reservationToUpdate);
     }
 
+    @Test
+    void update_movedToOtherCourt_locksOldAndNewCourt() {
+        CourtEntity otherCourt = new CourtEntity();
+        otherCourt.setId(2L);
+        otherCourt.setCourtNumber(2);
+        otherCourt.setCourtSurface(grassSurface);
+        otherCourt.setActive(true);
+
+        ReservationEntity reservationToUpdate = new ReservationEntity();
+        reservationToUpdate.setId(1L);
+        reservationToUpdate.setGameType(GameType.SINGLES);
+        reservationToUpdate.setStartTime(OffsetDateTime.now().plusHours(2));
+        reservationToUpdate.setEndTime(OffsetDateTime.now().plusHours(3));
+        reservationToUpdate.setCustomer(testCustomer);
+        reservationToUpdate.setCourt(otherCourt);
+        reservationToUpdate.setActive(true);
+
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
+        when(reservationRepository.isCourtAvailable(
+                        reservationToUpdate.getCourt().getId(),
+                        reservationToUpdate.getStartTime(),
+                        reservationToUpdate.getEndTime(),
+                        1L))
+                .thenReturn(true);
+        when(reservationRepository.save(reservationToUpdate)).thenReturn(reservationToUpdate);
+
+        reservationService.update(reservationToUpdate);
+
+        var inOrder = inOrder(courtLocks, statsService);
+        inOrder.verify(courtLocks).lockUntilTransactionEnds(List.of(1L, 2L));
+        inOrder.verify(statsService).apply(any(), any());
+    }
+
+    @Test
+    void update_overlappingOtherReservation_throwsReservationAlreadyExist() {
+        ReservationEntity reservationToUpdate = new ReservationEntity();
+        reservationToUpdate.setId(1L);
+        reservationToUpdate.setGameType(GameType.SINGLES);
+        reservationToUpdate.setStartTime(OffsetDateTime.now().plusHours(2));
+        reservationToUpdate.setEndTime(OffsetDateTime.now().plusHours(3));
+        reservationToUpdate.setCustomer(testCustomer);
+        reservationToUpdate.setCourt(testCourt);
+
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
+        when(reservationRepository.isCourtAvailable(
+                        testCourt.getId(), reservationToUpdate.getStartTime(), reservationToUpdate.getEndTime(), 1L))
+                .thenReturn(false);
+
+        assertThatThrownBy(() -> reservationService.update(reservationToUpdate))
+                .isInstanceOf(ReservationAlreadyExist.class);
+
+        verify(reservationRepository, never()).save(any());
+        verify(statsService, never()).apply(any(), any());
+    }
+
+    @Test
+    void update_warmIndex_checksOverlapInIndexIgnoringOwnSlot() {
+        ReservationEntity reservationToUpdate = new ReservationEntity();
+        reservationToUpdate.setId(1L);
+        reservationToUpdate.setGameType(GameType.SINGLES);
+        reservationToUpdate.setStartTime(OffsetDateTime.now().plusHours(2));
+        reservationToUpdate.setEndTime(OffsetDateTime.now().plusHours(3));
+        reservationToUpdate.setCustomer(testCustomer);
+        reservationToUpdate.setCourt(testCourt);
+
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
+        when(availabilityIndex.isWarm()).thenReturn(true);
+        when(availabilityIndex.isAvailable(
+                        testCourt.getId(), reservationToUpdate.getStartTime(), reservationToUpdate.getEndTime(), 1L))
+                .thenReturn(true);
+        when(reservationRepository.save(reservationToUpdate)).thenReturn(reservationToUpdate);
+
+        reservationService.update(reservationToUpdate);
+
+        verify(reservationRepository, never()).isCourtAvailable(any(), any(), any(), any());
+        verify(reservationRepository, times(1)).save(reservationToUpdate);
+    }
+
     @Test
     void update_nonExistingReservation_throwsEntityNotFoundException() {
         ReservationEntity reservationToUpdate = new ReservationEntity();
@@ -287,26 +511,255 @@ public class ReservationServiceTest {
     @Test
     void deleteById_existingId_deletesReservation() {
         Long id = 1L;
-        when(reservationRepository.findById(id)).thenReturn(Optional.of(testReservation));
-        doNothing().when(reservationRepository).deleteById(id);
+        when(statsService.contributionOf(id)).thenReturn(Optional.of(contribution(1L)));
+        when(reservationRepository.deleteById(id)).thenReturn(true);
 
         reservationService.deleteById(id);
 
-        verify(reservationRepository, times(1)).findById(id);
+        verify(reservationRepository, never()).findById(any());
         verify(reservationRepository, times(1)).deleteById(id);
+        verify(eventPublisher, times(1)).publishEvent(ReservationChangedEvent.deleted(id));
+    }
+
+    @Test
+    void deleteByCourtId_deletesReservationsUnderCourtLock() {
+        when(reservationRepository.deleteByCourtIds(List.of(1L))).thenReturn(List.of(1L, 2L));
+
+        int deleted = reservationService.deleteByCourtId(1L);
+
+        assertThat(deleted).isEqualTo(2);
+        verify(courtLocks, times(1)).lockUntilTransactionEnds(List.of(1L));
+        verify(eventPublisher, times(1)).publishEvent(ReservationChangedEvent.deleted(1L));
+        verify(eventPublisher, times(1)).publishEvent(ReservationChangedEvent.deleted(2L));
+    }
+
+    @Test
+    void createBatch_noOverlaps_savesAllWithOneFlush() {
+        CourtEntity secondCourt = new CourtEntity();
+        secondCourt.setId(2L);
+        secondCourt.setCourtSurface(grassSurface);
+        OffsetDateTime base = OffsetDateTime.now().plusDays(1);
+        List<ReservationEntity> batch = List.of(
+                batchReservation(testCourt, base, base.plusHours(1)),
+                batchReservation(testCourt, base.plusHours(1), base.plusHours(2)),
+                batchReservation(secondCourt, base, base.plusHours(2)));
+        when(reservationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReservationService.BatchResult result = reservationService.createBatch(batch, BatchMode.ALL_OR_NOTHING);
+
+        assertThat(result.created()).containsExactlyElementsOf(batch);
+        assertThat(result.rejected()).isEmpty();
+        verify(courtLocks, times(1)).lockUntilTransactionEnds(argThat(ids -> ids.containsAll(List.of(1L, 2L))));
+        verify(reservationRepository, times(1)).findActiveSlotsOverlapping(any(), eq(base), eq(base.plusHours(2)));
+        verify(reservationRepository, times(3)).save(any());
+        verify(reservationRepository, times(1)).flush();
+        verify(eventPublisher, times(3)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void createBatch_overlapWithinBatch_bestEffort_rejectsLaterStart() {
+        OffsetDateTime base = OffsetDateTime.now().plusDays(1);
+        ReservationEntity later = batchReservation(testCourt, base.plusMinutes(30), base.plusHours(2));
+        ReservationEntity earlier = batchReservation(testCourt, base, base.plusHours(1));
+        when(reservationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReservationService.BatchResult result =
+                reservationService.createBatch(List.of(later, earlier), BatchMode.BEST_EFFORT);
+
+        assertThat(result.created()).containsExactly(earlier);
+        assertThat(result.rejected()).containsOnlyKeys(0);
+        verify(reservationRepository, never()).save(later);
+    }
+
+    @Test
+    void createBatch_overlapWithExisting_bestEffort_rejectsReservation() {
+        OffsetDateTime base = OffsetDateTime.now().plusDays(1);
+        ReservationEntity conflicting = batchReservation(testCourt, base, base.plusHours(1));
+        ReservationEntity free = batchReservation(testCourt, base.plusHours(2), base.plusHours(3));
+        when(reservationRepository.findActiveSlotsOverlapping(any(), any(), any()))
+                .thenReturn(List.of(new ReservationSlot(9L, 1L, base.plusMinutes(45), base.plusHours(2))));
+        when(reservationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReservationService.BatchResult result =
+                reservationService.createBatch(List.of(conflicting, free), BatchMode.BEST_EFFORT);
+
+        assertThat(result.created()).containsExactly(free);
+        assertThat(result.rejected()).containsOnlyKeys(0);
+    }
+
+    @Test
+    void createBatch_overlapOnlyWithRejectedBatchItem_bestEffort_acceptsReservation() {
+        OffsetDateTime base = OffsetDateTime.now().plusDays(1);
+        ReservationEntity conflicting = batchReservation(testCourt, base, base.plusHours(4));
+        ReservationEntity inside = batchReservation(testCourt, base.plusHours(1), base.plusHours(2));
+        when(reservationRepository.findActiveSlotsOverlapping(any(), any(), any()))
+                .thenReturn(List.of(new ReservationSlot(9L, 1L, base.plusHours(3), base.plusHours(4))));
+        when(reservationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReservationService.BatchResult result =
+                reservationService.createBatch(List.of(conflicting, inside), BatchMode.BEST_EFFORT);
+
+        assertThat(result.created()).containsExactly(inside);
+        assertThat(result.rejected()).containsOnlyKeys(0);
+    }
+
+    @Test
+    void createBatch_warmIndex_checksExistingSlotsInMemory() {
+        OffsetDateTime base = OffsetDateTime.now().plusDays(1);
+        ReservationEntity conflicting = batchReservation(testCourt, base, base.plusHours(1));
+        when(availabilityIndex.isWarm()).thenReturn(true);
+        doAnswer(invocation -> {
+                    CourtAvailabilityIndex.SlotConsumer consumer = invocation.getArgument(3);
+                    consumer.accept(
+                            base.toInstant().toEpochMilli(),
+                            base.plusHours(1).toInstant().toEpochMilli());
+                    return null;
+                })
+                .when(availabilityIndex)
+                .forEachSlot(eq(1L), anyLong(), anyLong(), any());
+
+        ReservationService.BatchResult result =
+                reservationService.createBatch(List.of(conflicting), BatchMode.BEST_EFFORT);
+
+        assertThat(result.created()).isEmpty();
+        assertThat(result.rejected()).containsOnlyKeys(0);
+        verify(reservationRepository, never()).findActiveSlotsOverlapping(any(), any(), any());
+    }
+
+    @Test
+    void createBatch_allOrNothingWithRejection_throwsAndSavesNothing() {
+        OffsetDateTime base = OffsetDateTime.now().plusDays(1);
+        List<ReservationEntity> batch = List.of(
+                batchReservation(testCourt, base, base.plusHours(1)),
+                batchReservation(testCourt, base, base.plusHours(1)));
+
+        assertThatThrownBy(() -> reservationService.createBatch(batch, BatchMode.ALL_OR_NOTHING))
+                .isInstanceOf(ReservationBatchRejected.class)
+                .satisfies(ex -> assertThat(((ReservationBatchRejected) ex).getRejected())
+                        .containsOnlyKeys(1));
+        verify(reservationRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void createBatch_unknownCourt_rejectsReservation() {
+        OffsetDateTime base = OffsetDateTime.now().plusDays(1);
+
+        ReservationService.BatchResult result = reservationService.createBatch(
+                List.of(batchReservation(null, base, base.plusHours(1))), BatchMode.BEST_EFFORT);
+
+        assertThat(result.created()).isEmpty();
+        assertThat(result.rejected()).containsEntry(0, "Court not found");
+        verifyNoInteractions(courtLocks);
+    }
+
+    @Test
+    void forEachStartingBetween_validRange_delegatesToRepository() {
+        OffsetDateTime from = OffsetDateTime.now();
+        OffsetDateTime to = from.plusDays(1);
+        List<ReservationEntity> exported = new ArrayList<>();
+
+        reservationService.forEachStartingBetween(from, to, exported::add);
+
+        verify(reservationRepository, times(1)).forEachStartingBetween(eq(from), eq(to), any());
+    }
+
+    @Test
+    void forEachStartingBetween_fromAfterTo_throwsException() {
+        OffsetDateTime from = OffsetDateTime.now();
+
+        assertThatThrownBy(() -> reservationService.forEachStartingBetween(from, from.minusDays(1), reservation -> {}))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(reservationRepository);
     }
 
     @Test
     void deleteById_nonExistingId_throwsEntityNotFoundException() {
         Long id = 99L;
-        when(reservationRepository.findById(id)).thenReturn(Optional.empty());
+        when(statsService.contributionOf(id)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> reservationService.deleteById(id))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("Reservation with id " + id + " not found");
 
-        verify(reservationRepository, times(1)).findById(id);
         verify(reservationRepository, never()).deleteById(any());
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void deleteById_existingId_subtractsItsDailyStatsContribution() {
+        Long id = 1L;
+        ReservationDailyStatsEntity contribution = contribution(1L);
+        when(statsService.contributionOf(id)).thenReturn(Optional.of(contribution));
+        when(reservationRepository.deleteById(id)).thenReturn(true);
+
+        reservationService.deleteById(id);
+
+        var inOrder = inOrder(statsService, courtLocks, reservationRepository);
+        inOrder.verify(statsService).contributionOf(id);
+        inOrder.verify(courtLocks).lockUntilTransactionEnds(List.of(1L));
+        inOrder.verify(reservationRepository).deleteById(id);
+        inOrder.verify(statsService).apply(List.of(), List.of(contribution));
+    }
+
+    @Test
+    void deleteByCourtId_deletesDailyStatsOfCourt() {
+        when(reservationRepository.deleteByCourtIds(List.of(1L))).thenReturn(List.of(1L, 2L));
+
+        assertThat(reservationService.deleteByCourtId(1L)).isEqualTo(2);
+
+        verify(statsService).deleteCourts(List.of(1L));
+        verify(statsService, never()).refreshCourts(any());
+    }
+
+    @Test
+    void update_sameDay_appliesNewContributionAgainstOldOne() {
+        ReservationEntity reservationToUpdate = new ReservationEntity();
+        reservationToUpdate.setId(1L);
+        reservationToUpdate.setGameType(GameType.DOUBLES);
+        reservationToUpdate.setStartTime(testReservation.getStartTime());
+        reservationToUpdate.setEndTime(testReservation.getEndTime());
+        reservationToUpdate.setCustomer(testCustomer);
+        reservationToUpdate.setCourt(testCourt);
+        List<ReservationDailyStatsEntity> before = List.of(contribution(1L));
+        List<ReservationDailyStatsEntity> after = List.of(contribution(1L));
+
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
+        when(reservationRepository.isCourtAvailable(
+                        reservationToUpdate.getCourt().getId(),
+                        reservationToUpdate.getStartTime(),
+                        reservationToUpdate.getEndTime(),
+                        1L))
+                .thenReturn(true);
+        when(statsService.contributionsOf(List.of(testReservation))).thenReturn(before);
+        when(reservationRepository.save(reservationToUpdate)).thenReturn(reservationToUpdate);
+        when(statsService.contributionsOf(List.of(reservationToUpdate))).thenReturn(after);
+
+        reservationService.update(reservationToUpdate);
+
+        verify(statsService).apply(after, before);
+        verify(statsService, never()).contributionOf(any());
+    }
+
+    @Test
+    void create_validReservation_snapshotsSurfaceCostAndPrice() {
+        ReservationEntity newReservation = new ReservationEntity();
+        newReservation.setGameType(GameType.DOUBLES);
+        newReservation.setStartTime(OffsetDateTime.now().plusHours(5));
+        newReservation.setEndTime(newReservation.getStartTime().plusMinutes(90));
+        newReservation.setCustomer(testCustomer);
+        newReservation.setCourt(testCourt);
+
+        when(reservationRepository.isCourtAvailable(
+                        testCourt.getId(), newReservation.getStartTime(), newReservation.getEndTime()))
+                .thenReturn(true);
+        when(reservationRepository.save(newReservation)).thenReturn(newReservation);
+
+        ReservationEntity result = reservationService.create(newReservation);
+
+        assertThat(result.getCostPerMinute()).isEqualTo(new BigDecimal("0.15"));
+        assertThat(result.getTotalPrice()).isEqualTo(new BigDecimal("20.25"));
     }
 
     @Test
@@ -372,4 +825,18 @@ public class ReservationServiceTest {
 
         assertThat(result).isEqualByComparingTo(BigDecimal.valueOf(27.00));
     }
+
+    private static ReservationDailyStatsEntity contribution(Long courtId) {
+        return new ReservationDailyStatsEntity(courtId, LocalDate.now(), 1, 60, BigDecimal.TEN);
+    }
+
+    private ReservationEntity batchReservation(CourtEntity court, OffsetDateTime startTime, OffsetDateTime endTime) {
+        ReservationEntity reservation = new ReservationEntity();
+        reservation.setGameType(GameType.SINGLES);
+        reservation.setStartTime(startTime);
+        reservation.setEndTime(endTime);
+        reservation.setCustomer(testCustomer);
+        reservation.setCourt(court);
+        return reservation;
+    }
 }
@@ -0,0 +1,86 @@
+package com.inqool.tennisclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.inqool.tennisclub.data.model.CourtEntity;
+import com.inqool.tennisclub.data.model.ReservationDailyStatsEntity;
+import com.inqool.tennisclub.data.model.ReservationEntity;
+import com.inqool.tennisclub.data.repository.CourtRepository;
+import com.inqool.tennisclub.data.repository.ReservationDailyStatsRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ReservationStatsServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2099, 1, 10);
+
+    @Mock
+    private ReservationDailyStatsRepository dailyStatsRepository;
+
+    @Mock
+    private CourtRepository courtRepository;
+
+    private ReservationStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsService = new ReservationStatsService(dailyStatsRepository, courtRepository, 840);
+    }
+
+    @Test
+    void contributionsOf_reservation_countsItOnItsStartDay() {
+        CourtEntity court = new CourtEntity();
+        court.setId(1L);
+        ReservationEntity reservation = new ReservationEntity();
+        reservation.setCourt(court);
+        reservation.setStartTime(DAY.atTime(23, 30).atZone(ZoneId.systemDefault()).toOffsetDateTime());
+        reservation.setEndTime(reservation.getStartTime().plusMinutes(90));
+        reservation.setTotalPrice(new BigDecimal("45.00"));
+
+        assertThat(statsService.contributionsOf(List.of(reservation)))
+                .containsExactly(new ReservationDailyStatsEntity(1L, DAY, 1, 90, new BigDecimal("45.00")));
+    }
+
+    @Test
+    void apply_addedAndRemovedOnSameDay_upsertsOneCombinedDelta() {
+        statsService.apply(
+                List.of(contribution(1L, DAY, 90, "45.00")), List.of(contribution(1L, DAY, 60, "30.00")));
+
+        verify(dailyStatsRepository, times(1))
+                .add(new ReservationDailyStatsEntity(1L, DAY, 0, 30, new BigDecimal("15.00")));
+        verifyNoMoreInteractions(dailyStatsRepository);
+    }
+
+    @Test
+    void apply_unchangedContribution_writesNothing() {
+        statsService.apply(
+                List.of(contribution(1L, DAY, 60, "30.00")), List.of(contribution(1L, DAY, 60, "30.00")));
+
+        verifyNoInteractions(dailyStatsRepository);
+    }
+
+    @Test
+    void apply_movedToOtherCourt_subtractsFromOldAndAddsToNewRow() {
+        statsService.apply(
+                List.of(contribution(2L, DAY, 60, "30.00")), List.of(contribution(1L, DAY, 60, "30.00")));
+
+        var inOrder = inOrder(dailyStatsRepository);
+        inOrder.verify(dailyStatsRepository)
+                .add(new ReservationDailyStatsEntity(1L, DAY, -1, -60, new BigDecimal("-30.00")));
+        inOrder.verify(dailyStatsRepository)
+                .add(new ReservationDailyStatsEntity(2L, DAY, 1, 60, new BigDecimal("30.00")));
+    }
+
+    private static ReservationDailyStatsEntity contribution(Long courtId, LocalDate day, long minutes, String price) {
+        return new ReservationDailyStatsEntity(courtId, day, 1, minutes, new BigDecimal(price));
+    }
+}
@@ -0,0 +1,153 @@
+package com.inqool.tennisclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.inqool.tennisclub.data.index.ReservationScheduleReadModel;
+import com.inqool.tennisclub.data.model.CourtEntity;
+import com.inqool.tennisclub.data.model.CustomerEntity;
+import com.inqool.tennisclub.data.model.ReservationEntity;
+import com.inqool.tennisclub.data.model.ReservationView;
+import com.inqool.tennisclub.data.model.enums.GameType;
+import com.inqool.tennisclub.exceptions.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ScheduleServiceTest {
+
+    private static final String PHONE = "+420123456789";
+
+    @Mock
+    private ReservationScheduleReadModel readModel;
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private CourtService courtService;
+
+    @InjectMocks
+    private ScheduleService scheduleService;
+
+    private CourtEntity testCourt;
+    private CustomerEntity testCustomer;
+    private OffsetDateTime tomorrow;
+
+    @BeforeEach
+    void setUp() {
+        testCourt = new CourtEntity();
+        testCourt.setId(10L);
+        testCourt.setCourtNumber(1);
+
+        testCustomer = new CustomerEntity();
+        testCustomer.setId(1L);
+        testCustomer.setPhoneNumber(PHONE);
+        testCustomer.setName("John Doe");
+
+        tomorrow = OffsetDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    @Test
+    void findUpcomingByCourtNumber_warmModel_readsFromModel() {
+        List<ReservationView> views = List.of(ReservationView.of(reservation(1L, tomorrow)));
+        when(readModel.isWarm()).thenReturn(true);
+        when(courtService.findByCourtNumber(1)).thenReturn(testCourt);
+        when(readModel.findUpcomingByCourt(10L)).thenReturn(views);
+
+        assertThat(scheduleService.findUpcomingByCourtNumber(1)).isEqualTo(views);
+        verifyNoInteractions(reservationService);
+    }
+
+    @Test
+    void findUpcomingByCourtNumber_unknownCourt_throwsException() {
+        when(courtService.findByCourtNumber(99)).thenThrow(new EntityNotFoundException("Court not found"));
+
+        assertThatThrownBy(() -> scheduleService.findUpcomingByCourtNumber(99))
+                .isInstanceOf(EntityNotFoundException.class);
+        verifyNoInteractions(reservationService);
+    }
+
+    @Test
+    void findUpcomingByCourtNumber_coldModel_loadsUpcomingFromDatabase() {
+        ReservationEntity later = reservation(1L, tomorrow.plusHours(2));
+        ReservationEntity sooner = reservation(2L, tomorrow);
+        ReservationEntity ended = reservation(3L, tomorrow.minusDays(2));
+        when(readModel.isWarm()).thenReturn(false);
+        when(courtService.findByCourtNumber(1)).thenReturn(testCourt);
+        when(reservationService.findByCourtNumber(1)).thenReturn(List.of(later, ended, sooner));
+
+        List<ReservationView> result = scheduleService.findUpcomingByCourtNumber(1);
+
+        assertThat(result).extracting(ReservationView::id).containsExactly(2L, 1L);
+        verify(readModel, never()).findUpcomingByCourt(any());
+    }
+
+    @Test
+    void findUpcomingByPhoneNumber_warmModel_readsFromModel() {
+        List<ReservationView> views = List.of(ReservationView.of(reservation(1L, tomorrow)));
+        when(readModel.isWarm()).thenReturn(true);
+        when(readModel.findUpcomingByPhone(PHONE)).thenReturn(views);
+
+        assertThat(scheduleService.findUpcomingByPhoneNumber(PHONE)).isEqualTo(views);
+        verifyNoInteractions(reservationService);
+    }
+
+    @Test
+    void findUpcomingByPhoneNumber_coldModel_loadsUpcomingFromDatabase() {
+        when(readModel.isWarm()).thenReturn(false);
+        when(reservationService.findByPhoneNumber(PHONE, false))
+                .thenReturn(List.of(reservation(1L, tomorrow), reservation(2L, tomorrow.minusDays(2))));
+
+        List<ReservationView> result = scheduleService.findUpcomingByPhoneNumber(PHONE);
+
+        assertThat(result).extracting(ReservationView::id).containsExactly(1L);
+        assertThat(result.get(0).customerName()).isEqualTo("John Doe");
+    }
+
+    @Test
+    void findFutureByPhoneNumber_warmModel_skipsStartedReservations() {
+        ReservationView started =
+                ReservationView.of(reservation(1L, OffsetDateTime.now().minusMinutes(30)));
+        ReservationView future = ReservationView.of(reservation(2L, tomorrow));
+        when(readModel.isWarm()).thenReturn(true);
+        when(readModel.findUpcomingByPhone(PHONE)).thenReturn(List.of(started, future));
+
+        assertThat(scheduleService.findFutureByPhoneNumber(PHONE)).containsExactly(future);
+        verifyNoInteractions(reservationService);
+    }
+
+    @Test
+    void findFutureByPhoneNumber_coldModel_loadsFutureFromDatabase() {
+        when(readModel.isWarm()).thenReturn(false);
+        when(reservationService.findByPhoneNumber(PHONE, true)).thenReturn(List.of(reservation(1L, tomorrow)));
+
+        assertThat(scheduleService.findFutureByPhoneNumber(PHONE))
+                .extracting(ReservationView::id)
+                .containsExactly(1L);
+        verify(readModel, never()).findUpcomingByPhone(any());
+    }
+
+    private ReservationEntity reservation(Long id, OffsetDateTime start) {
+        ReservationEntity reservation = new ReservationEntity();
+        reservation.setId(id);
+        reservation.setCreatedAt(start.minusDays(1));
+        reservation.setGameType(GameType.SINGLES);
+        reservation.setStartTime(start);
+        reservation.setEndTime(start.plusHours(1));
+        reservation.setTotalPrice(BigDecimal.TEN);
+        reservation.setCustomer(testCustomer);
+        reservation.setCourt(testCourt);
+        reservation.setActive(true);
+        return reservation;
+    }
+}
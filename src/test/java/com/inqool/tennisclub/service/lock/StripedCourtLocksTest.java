@@ -0,0 +1,92 @@
+package com.inqool.tennisclub.service.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+public class StripedCourtLocksTest {
+
+    private final StripedCourtLocks courtLocks = new StripedCourtLocks(16);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void lockUntilTransactionEnds_holdsLockUntilCompletion() {
+        courtLocks.lockUntilTransactionEnds(List.of(1L, 2L));
+
+        assertThat(courtLocks.isHeldByCurrentThread(1L)).isTrue();
+        assertThat(courtLocks.isHeldByCurrentThread(2L)).isTrue();
+
+        completeTransaction();
+
+        assertThat(courtLocks.isHeldByCurrentThread(1L)).isFalse();
+        assertThat(courtLocks.isHeldByCurrentThread(2L)).isFalse();
+    }
+
+    @Test
+    void lockUntilTransactionEnds_sameCourtTwice_releasesBoth() {
+        courtLocks.lockUntilTransactionEnds(List.of(1L));
+        courtLocks.lockUntilTransactionEnds(List.of(1L, 1L));
+
+        completeTransaction();
+
+        assertThat(courtLocks.isHeldByCurrentThread(1L)).isFalse();
+    }
+
+    @Test
+    void lockUntilTransactionEnds_otherThreadWaitsForCompletion() throws Exception {
+        courtLocks.lockUntilTransactionEnds(List.of(1L));
+
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                courtLocks.lockUntilTransactionEnds(List.of(1L));
+                completeTransaction();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        });
+
+        Thread.sleep(100);
+        assertThat(other).isNotDone();
+
+        completeTransaction();
+        other.get(5, TimeUnit.SECONDS);
+        assertThat(other).isCompleted();
+    }
+
+    @Test
+    void lockUntilTransactionEnds_noTransaction_throwsException() {
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThatThrownBy(() -> courtLocks.lockUntilTransactionEnds(List.of(1L)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+}
@@ -0,0 +1,59 @@
+package com.inqool.tennisclub.service.pricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.inqool.tennisclub.data.model.enums.GameType;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class PricingEngineTest {
+
+    private final PricingEngine pricingEngine = new PricingEngine();
+
+    @Test
+    void priceInCents_doublesHalfCent_roundsHalfUp() {
+        // 0.01 * 1 * 1.5 = 0.015
+        assertThat(pricingEngine.priceInCents(new BigDecimal("0.01"), GameType.DOUBLES, 1))
+                .isEqualTo(2);
+        assertThat(pricingEngine.priceInCents(new BigDecimal("0.01"), GameType.SINGLES, 1))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void priceInCents_randomCosts_matchBigDecimalRounding() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            BigDecimal costPerMinute = BigDecimal.valueOf(random.nextInt(100_000), 2 + random.nextInt(5));
+            GameType gameType = random.nextBoolean() ? GameType.SINGLES : GameType.DOUBLES;
+            long minutes = random.nextInt(24 * 60);
+
+            BigDecimal expected = reference(costPerMinute, gameType, minutes);
+            BigDecimal actual = PricingEngine.toAmount(pricingEngine.priceInCents(costPerMinute, gameType, minutes));
+
+            assertThat(actual).as("%s x %d min %s", costPerMinute, minutes, gameType).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void priceInCents_overflowingLong_fallsBackToBigDecimal() {
+        BigDecimal costPerMinute = new BigDecimal("90000000000000.01");
+
+        long cents = pricingEngine.priceInCents(costPerMinute, GameType.DOUBLES, 60);
+
+        assertThat(PricingEngine.toAmount(cents)).isEqualTo(reference(costPerMinute, GameType.DOUBLES, 60));
+    }
+
+    @Test
+    void toAmount_hasTwoDecimalPlaces() {
+        assertThat(PricingEngine.toAmount(900)).isEqualTo(new BigDecimal("9.00"));
+    }
+
+    private static BigDecimal reference(BigDecimal costPerMinute, GameType gameType, long minutes) {
+        return costPerMinute
+                .multiply(BigDecimal.valueOf(minutes))
+                .multiply(gameType.getPriceMultiplier())
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+}